@@ -28,12 +28,15 @@ import org.jannocessor.model.ProcessingContext;
 
 public class DomainProxyGenerator implements CodeProcessor {
 
+	// the processor is instantiated once per generation, and the helper
+	// collects the proxy hierarchy of all the processed models
+	private final DomainProxyGeneratorHelper helper = new DomainProxyGeneratorHelper();
+
 	@Override
 	public void process(ProcessingContext context, Map<String, Object> params) {
 		JavaInterface model = (JavaInterface) params.get("model");
 		context.getLogger().debug("Processing annotated domain model: {}",
 				model);
-		DomainProxyGeneratorHelper helper = new DomainProxyGeneratorHelper();
 
 		context.getLogger().debug("Generating model proxies...");
 		generateModelProxies(context, model, helper);
@@ -19,6 +19,9 @@
 
 package org.jannocessor.bootstrap.processor;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jannocessor.domain.executable.JavaMethod;
@@ -27,6 +30,17 @@ public class DomainProxyGeneratorHelper {
 
 	private static String[] calculated = { "getCanonicalName", "isDefault", "copy", "getChildren" };
 
+	private static String[] hashed = { "getKind", "getName", "getSimpleName", "getQualifiedName" };
+
+	// the initialized lazy properties are tracked in the bits of an int
+	static final int MAX_LAZY_PROPERTIES = 31;
+
+	// the proxies are generated in any order, so their hierarchy is collected
+	// while generating them (one helper is used per generation)
+	private final Map<String, Integer> lazyProperties = new HashMap<String, Integer>();
+
+	private final Map<String, String> superProxies = new HashMap<String, String>();
+
 	public String fieldName(JavaMethod method) {
 		String name = method.getName().getText();
 		if (name.startsWith("get")) {
@@ -47,12 +61,70 @@ public class DomainProxyGeneratorHelper {
 				&& !isCalculated(method);
 	}
 
+	/**
+	 * The hash codes are calculated from a few cheap identity properties only,
+	 * so hashing a proxy doesn't load all its properties.
+	 */
+	public boolean isHashProperty(JavaMethod method) {
+		String name = method.getName().getText();
+		return isIdentityProperty(method) && ArrayUtils.contains(hashed, name);
+	}
+
 	public boolean isCalculated(JavaMethod method) {
 		// FIXME: use metadata to check if it is calculated
 		String name = method.getName().getText();
 		return ArrayUtils.contains(calculated, name);
 	}
 
+	public boolean isLazyProperty(JavaMethod method) {
+		String name = method.getName().getText();
+		return !name.equals("getParent") && !name.equals("getChildren") && !isCalculated(method);
+	}
+
+	public String flagName(JavaMethod method) {
+		String name = method.getName().getText();
+		StringBuilder flag = new StringBuilder();
+
+		for (char c : name.toCharArray()) {
+			if (Character.isUpperCase(c)) {
+				flag.append('_');
+			}
+			flag.append(Character.toUpperCase(c));
+		}
+
+		return flag.append("_INITIALIZED").toString();
+	}
+
+	/**
+	 * Registers the number of lazy properties declared by the proxy, and fails
+	 * the generation if the lazy properties of any proxy hierarchy don't fit
+	 * in the bits of the initialization flags.
+	 */
+	public int registerLazyProperties(String proxy, String superProxy, int count) {
+		synchronized (lazyProperties) {
+			lazyProperties.put(proxy, count);
+			if (StringUtils.isNotEmpty(superProxy)) {
+				superProxies.put(proxy, superProxy);
+			}
+
+			for (String name : lazyProperties.keySet()) {
+				int total = 0;
+				for (String type = name; type != null; type = superProxies.get(type)) {
+					Integer declared = lazyProperties.get(type);
+					total += declared != null ? declared : 0;
+				}
+
+				if (total > MAX_LAZY_PROPERTIES) {
+					throw new IllegalStateException(String.format(
+							"The proxy %s has %s lazy properties, but at most %s are supported!",
+							name, total, MAX_LAZY_PROPERTIES));
+				}
+			}
+		}
+
+		return count;
+	}
+
 	public boolean isToStringMember(JavaMethod method) {
 		String name = method.getName().getText();
 		return isIdentityProperty(method)
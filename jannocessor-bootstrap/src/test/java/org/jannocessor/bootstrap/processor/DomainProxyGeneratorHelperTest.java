@@ -0,0 +1,81 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.bootstrap.processor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import org.junit.Test;
+
+public class DomainProxyGeneratorHelperTest {
+
+	private static final int MAX = DomainProxyGeneratorHelper.MAX_LAZY_PROPERTIES;
+
+	@Test
+	public void testLazyPropertiesWithinLimit() {
+		DomainProxyGeneratorHelper helper = new DomainProxyGeneratorHelper();
+
+		assertEquals(10, helper.registerLazyProperties("Root", "", 10));
+		assertEquals(11, helper.registerLazyProperties("Middle", "Root", 11));
+		assertEquals(MAX - 21, helper.registerLazyProperties("Leaf", "Middle", MAX - 21));
+		assertEquals(MAX - 10, helper.registerLazyProperties("Sibling", "Root", MAX - 10));
+	}
+
+	@Test
+	public void testTooManyLazyProperties() {
+		DomainProxyGeneratorHelper helper = new DomainProxyGeneratorHelper();
+
+		helper.registerLazyProperties("Root", "", 10);
+		helper.registerLazyProperties("Middle", "Root", 11);
+		try {
+			helper.registerLazyProperties("Leaf", "Middle", MAX - 20);
+			fail("Expected too many lazy properties!");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testTooManyLazyPropertiesInAnyOrder() {
+		DomainProxyGeneratorHelper helper = new DomainProxyGeneratorHelper();
+
+		// the sub-proxies can be generated before their super-proxies
+		helper.registerLazyProperties("Leaf", "Middle", MAX - 20);
+		helper.registerLazyProperties("Middle", "Root", 11);
+		try {
+			helper.registerLazyProperties("Root", "", 10);
+			fail("Expected too many lazy properties!");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testGenerationsAreIndependent() {
+		DomainProxyGeneratorHelper first = new DomainProxyGeneratorHelper();
+		first.registerLazyProperties("Root", "", 20);
+
+		// a later generation doesn't see the proxies of the previous one
+		DomainProxyGeneratorHelper second = new DomainProxyGeneratorHelper();
+		second.registerLazyProperties("Root", "", 5);
+		assertEquals(MAX - 5, second.registerLazyProperties("Leaf", "Root", MAX - 5));
+	}
+
+}
@@ -49,6 +49,29 @@ public interface PowerCollection<E> extends Collection<E> {
 
 	PowerCollection<E> each(Operation<? super E> operation);
 
+	/**
+	 * Like {@link #getSelection(Criteria)}, but the criteria may be evaluated
+	 * concurrently by several threads, so it must be thread-safe, as well as
+	 * the items it reads. The collection must not be modified meanwhile.
+	 */
+	PowerCollection<E> parallelSelection(Criteria<E> criteria);
+
+	/**
+	 * Like {@link #getTransformed(Transformation)}, but the transformation may
+	 * be applied concurrently by several threads, so it must be thread-safe,
+	 * as well as the items it reads. The collection must not be modified
+	 * meanwhile.
+	 */
+	<T> PowerCollection<T> parallelTransform(Transformation<? super E, T> transformation);
+
+	/**
+	 * Like {@link #each(Operation)}, but the operation may be invoked
+	 * concurrently by several threads, so it must be thread-safe, as well as
+	 * the items it reads or modifies. The collection must not be modified
+	 * meanwhile.
+	 */
+	PowerCollection<E> parallelEach(Operation<? super E> operation);
+
 	void assign(Collection<? extends E> collection);
 
 	void assign(E... elements);
@@ -51,6 +51,12 @@ public interface PowerList<E> extends List<E>, PowerCollection<E> {
 
 	PowerList<E> each(Operation<? super E> operation);
 
+	PowerList<E> parallelSelection(Criteria<E> criteria);
+
+	<T> PowerList<T> parallelTransform(Transformation<? super E, T> transformation);
+
+	PowerList<E> parallelEach(Operation<? super E> operation);
+
 	void addCollectionOperationListener(CollectionOperationListener<E> listener);
 
 	void removeCollectionOperationListener(
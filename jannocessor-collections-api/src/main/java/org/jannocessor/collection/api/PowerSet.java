@@ -50,4 +50,10 @@ public interface PowerSet<E> extends Set<E>, PowerCollection<E> {
 
 	PowerSet<E> each(Operation<? super E> operation);
 
+	PowerSet<E> parallelSelection(Criteria<E> criteria);
+
+	<T> PowerSet<T> parallelTransform(Transformation<? super E, T> transformation);
+
+	PowerSet<E> parallelEach(Operation<? super E> operation);
+
 }
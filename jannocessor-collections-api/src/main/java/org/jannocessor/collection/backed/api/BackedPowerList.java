@@ -21,10 +21,26 @@ package org.jannocessor.collection.backed.api;
 
 import org.jannocessor.collection.api.PowerCollection;
 import org.jannocessor.collection.api.PowerList;
+import org.jannocessor.collection.transform.api.Transformation;
 
 public interface BackedPowerList<E> extends PowerList<E> {
 
 	public <T extends PowerCollection<E>> void setIndexedCollection(int index,
 			T collection);
 
+	/**
+	 * Adds an index of the items by the keys calculated by the given
+	 * transformation. The index is updated as the items are added and
+	 * removed, but not when their keys change: an item whose key changed
+	 * isn't found by any key until it is removed and added again. The indexes
+	 * aren't serialized with the list.
+	 */
+	public void addIndex(String name, Transformation<? super E, ?> key);
+
+	/**
+	 * Returns the items with the given key in the specified index, in the
+	 * order they were added.
+	 */
+	public PowerList<E> lookup(String index, Object key);
+
 }
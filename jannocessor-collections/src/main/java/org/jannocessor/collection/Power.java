@@ -30,6 +30,7 @@ import org.jannocessor.collection.api.PowerSet;
 import org.jannocessor.collection.filter.api.Condition;
 import org.jannocessor.collection.filter.api.Criteria;
 import org.jannocessor.collection.filter.impl.CriteriaImpl;
+import org.jannocessor.collection.impl.ImmutablePowerList;
 import org.jannocessor.collection.impl.PowerArrayList;
 import org.jannocessor.collection.impl.PowerLinkedHashMap;
 import org.jannocessor.collection.impl.PowerLinkedHashSet;
@@ -51,8 +52,7 @@ public class Power {
 	}
 
 	public static <T> PowerList<T> unmodifiableList(T... items) {
-		// FIXME: Implement this!
-		return PowerArrayList.create(items);
+		return ImmutablePowerList.create(items);
 	}
 
 	public static <T> PowerList<T> list(Collection<T> collection) {
@@ -20,12 +20,18 @@
 package org.jannocessor.collection.backed;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jannocessor.collection.api.PowerCollection;
+import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.collection.backed.api.BackedPowerList;
 import org.jannocessor.collection.backed.api.CollectionDispatcher;
 import org.jannocessor.collection.impl.PowerArrayList;
+import org.jannocessor.collection.transform.api.Transformation;
 
 public class BackedPowerArrayList<E> extends PowerArrayList<E> implements
 		BackedPowerList<E> {
@@ -36,6 +42,101 @@ public class BackedPowerArrayList<E> extends PowerArrayList<E> implements
 
 	private CollectionDispatcher<E> dispatcher;
 
+	// created on demand, the key transformations aren't serializable
+	private transient Map<String, Index<E>> indexes;
+
+	private static class Index<E> {
+
+		private final Transformation<? super E, ?> key;
+
+		private final Map<Object, List<E>> items = new HashMap<Object, List<E>>();
+
+		// the keys the items were indexed by (the keys can change later)
+		private final Map<E, List<Object>> indexedKeys = new IdentityHashMap<E, List<Object>>();
+
+		public Index(Transformation<? super E, ?> key) {
+			this.key = key;
+		}
+
+		public void add(E item) {
+			Object itemKey = key.transform(item);
+
+			List<E> group = items.get(itemKey);
+			if (group == null) {
+				group = new ArrayList<E>(2);
+				items.put(itemKey, group);
+			}
+			group.add(item);
+
+			List<Object> keys = indexedKeys.get(item);
+			if (keys == null) {
+				keys = new ArrayList<Object>(1);
+				indexedKeys.put(item, keys);
+			}
+			keys.add(itemKey);
+		}
+
+		public void remove(E item) {
+			// an equal item is removed by the current key
+			List<Object> keys = indexedKeys.get(item);
+			Object itemKey = keys != null ? keys.get(0) : key.transform(item);
+
+			List<E> group = items.get(itemKey);
+			E removed = group != null ? removeFrom(group, item) : null;
+
+			if (removed != null) {
+				if (group.isEmpty()) {
+					items.remove(itemKey);
+				}
+
+				keys = indexedKeys.get(removed);
+				keys.remove(itemKey);
+				if (keys.isEmpty()) {
+					indexedKeys.remove(removed);
+				}
+			}
+		}
+
+		private E removeFrom(List<E> group, E item) {
+			int index = -1;
+			for (int i = 0; i < group.size() && index < 0; i++) {
+				if (group.get(i) == item) {
+					index = i;
+				}
+			}
+
+			if (index < 0) {
+				index = group.indexOf(item);
+			}
+
+			return index >= 0 ? group.remove(index) : null;
+		}
+
+		public List<E> get(Object itemKey) {
+			List<E> group = items.get(itemKey);
+			List<E> result = new ArrayList<E>();
+
+			if (group != null) {
+				// skip the items whose keys changed since they were indexed
+				for (E item : group) {
+					Object currentKey = key.transform(item);
+					if (currentKey == null ? itemKey == null : currentKey.equals(itemKey)) {
+						result.add(item);
+					}
+				}
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Creates a list that isn't backed by other collections, only indexed.
+	 */
+	public BackedPowerArrayList() {
+		this(null);
+	}
+
 	public BackedPowerArrayList(CollectionDispatcher<E> dispatcher) {
 		this.dispatcher = dispatcher;
 	}
@@ -50,12 +151,50 @@ public class BackedPowerArrayList<E> extends PowerArrayList<E> implements
 		collections.set(index, collection);
 	}
 
+	public void addIndex(String name, Transformation<? super E, ?> key) {
+		Index<E> index = new Index<E>(key);
+		for (E item : this) {
+			index.add(item);
+		}
+
+		if (indexes == null) {
+			indexes = new LinkedHashMap<String, Index<E>>();
+		}
+		indexes.put(name, index);
+	}
+
+	public PowerList<E> lookup(String index, Object key) {
+		Index<E> target = indexes != null ? indexes.get(index) : null;
+
+		if (target == null) {
+			throw new IllegalArgumentException("Unknown index: " + index);
+		}
+
+		return powerList(target.get(key));
+	}
+
 	protected final void beforeItemAddedNotification(E item) {
-		getTargetCollection(item).add(item);
+		if (dispatcher != null) {
+			getTargetCollection(item).add(item);
+		}
+
+		if (indexes != null) {
+			for (Index<E> index : indexes.values()) {
+				index.add(item);
+			}
+		}
 	}
 
 	protected final void beforeItemRemovedNotification(E item) {
-		getTargetCollection(item).remove(item);
+		if (dispatcher != null) {
+			getTargetCollection(item).remove(item);
+		}
+
+		if (indexes != null) {
+			for (Index<E> index : indexes.values()) {
+				index.remove(item);
+			}
+		}
 	}
 
 	private PowerCollection<E> getTargetCollection(E item) {
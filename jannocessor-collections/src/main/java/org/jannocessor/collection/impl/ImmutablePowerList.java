@@ -0,0 +1,252 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.collection.impl;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.apache.commons.lang.StringUtils;
+import org.jannocessor.collection.api.PowerList;
+import org.jannocessor.collection.api.event.CollectionOperationListener;
+import org.jannocessor.collection.filter.api.Criteria;
+import org.jannocessor.collection.transform.api.Operation;
+import org.jannocessor.collection.transform.api.Transformation;
+
+/**
+ * Array-backed power list that can't be modified, so it can be shared
+ * between threads. It never changes, so it doesn't keep any listeners. The
+ * copies and the results of the operations are ordinary (modifiable) power
+ * lists.
+ */
+public final class ImmutablePowerList<E> extends AbstractList<E> implements PowerList<E>,
+		RandomAccess, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ImmutablePowerList<Object> EMPTY = new ImmutablePowerList<Object>(
+			new Object[0]);
+
+	private final Object[] items;
+
+	private ImmutablePowerList(Object[] items) {
+		this.items = items;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> PowerList<T> create(T... items) {
+		if (items.length == 0) {
+			return (PowerList<T>) EMPTY;
+		} else {
+			return new ImmutablePowerList<T>(items.clone());
+		}
+	}
+
+	private Object readResolve() {
+		return items.length == 0 ? EMPTY : this;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		return (E) items[index];
+	}
+
+	@Override
+	public int size() {
+		return items.length;
+	}
+
+	@Override
+	public Object[] toArray() {
+		return items.clone();
+	}
+
+	@Override
+	public PowerList<E> copy() {
+		return PowerArrayList.powerList(this);
+	}
+
+	@Override
+	public PowerList<E> getSelection(Criteria<E> criteria) {
+		PowerArrayList<E> selection = new PowerArrayList<E>();
+		for (int i = 0; i < items.length; i++) {
+			E item = get(i);
+			if (criteria.satisfies(item)) {
+				selection.add(item);
+			}
+		}
+		return selection;
+	}
+
+	@Override
+	public <T> PowerList<T> getTransformed(Transformation<? super E, T> transformation) {
+		PowerArrayList<T> transformed = new PowerArrayList<T>();
+		for (int i = 0; i < items.length; i++) {
+			transformed.add(transformation.transform(get(i)));
+		}
+		return transformed;
+	}
+
+	@Override
+	public PowerList<E> each(Operation<? super E> operation) {
+		for (int i = 0; i < items.length; i++) {
+			operation.execute(get(i));
+		}
+		return this;
+	}
+
+	@Override
+	public PowerList<E> parallelSelection(Criteria<E> criteria) {
+		return PowerArrayList.powerList(ParallelOperations.select(items, criteria));
+	}
+
+	@Override
+	public <T> PowerList<T> parallelTransform(Transformation<? super E, T> transformation) {
+		return PowerArrayList.powerList(ParallelOperations.transform(items, transformation));
+	}
+
+	@Override
+	public PowerList<E> parallelEach(Operation<? super E> operation) {
+		ParallelOperations.each(items, operation);
+		return this;
+	}
+
+	@Override
+	public PowerList<E> getIntersection(Collection<E> list) {
+		PowerArrayList<E> result = new PowerArrayList<E>();
+		SetAlgebra.intersection(this, list, result);
+		return result;
+	}
+
+	@Override
+	public PowerList<E> getDisjunction(Collection<E> list) {
+		PowerArrayList<E> result = new PowerArrayList<E>();
+		SetAlgebra.disjunction(this, list, result);
+		return result;
+	}
+
+	@Override
+	public PowerList<E> getUnion(Collection<E> list) {
+		PowerArrayList<E> result = new PowerArrayList<E>();
+		SetAlgebra.union(this, list, result);
+		return result;
+	}
+
+	@Override
+	public String join(String separator) {
+		return StringUtils.join(items, separator);
+	}
+
+	@Override
+	public void addCollectionOperationListener(CollectionOperationListener<E> listener) {
+		// nothing to notify, the list never changes
+	}
+
+	@Override
+	public void removeCollectionOperationListener(CollectionOperationListener<E> listener) {
+	}
+
+	private UnsupportedOperationException unmodifiable() {
+		return new UnsupportedOperationException("The list cannot be modified!");
+	}
+
+	@Override
+	public PowerList<E> addAll(E... objects) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public PowerList<E> removeAll(E... objects) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public PowerList<E> remove(Criteria<E> criteria) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public PowerList<E> retain(Criteria<E> criteria) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void assign(Collection<? extends E> collection) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void assign(E... elements) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public boolean add(E item) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void add(int index, E element) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> collection) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends E> collection) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public E set(int index, E element) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public E remove(int index) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public boolean remove(Object item) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> collection) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> collection) {
+		throw unmodifiable();
+	}
+
+	@Override
+	public void clear() {
+		throw unmodifiable();
+	}
+
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.collection.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jannocessor.collection.filter.api.Criteria;
+import org.jannocessor.collection.transform.api.Operation;
+import org.jannocessor.collection.transform.api.Transformation;
+
+/**
+ * The parallel bulk operations of the power collections. The items are
+ * split into chunks that are processed by a shared pool of daemon threads,
+ * and the results are collected in the order of the items. Small
+ * collections, single-processor machines and the operations invoked from
+ * the pool's threads are processed sequentially.
+ * <p>
+ * The criteria, transformations and operations are invoked concurrently, so
+ * they must be thread-safe. The code model elements can be processed in
+ * parallel, because their proxies load the data from the compiler's model
+ * (which isn't thread-safe) under a common lock.
+ */
+final class ParallelOperations {
+
+	static final int THRESHOLD = 1000;
+
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private interface Chunk {
+		void process(int from, int to);
+	}
+
+	private static class Worker extends Thread {
+		public Worker(Runnable target, String name) {
+			super(target, name);
+			setDaemon(true);
+		}
+	}
+
+	// the pool is created on the first parallel operation
+	private static class Pool {
+		private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+				PARALLELISM, new ThreadFactory() {
+					private final AtomicInteger counter = new AtomicInteger();
+
+					public Thread newThread(Runnable target) {
+						return new Worker(target, "power-collections-" + counter.incrementAndGet());
+					}
+				});
+	}
+
+	private ParallelOperations() {
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E> void each(final Object[] items, final Operation<? super E> operation) {
+		process(items.length, new Chunk() {
+			public void process(int from, int to) {
+				for (int i = from; i < to; i++) {
+					operation.execute((E) items[i]);
+				}
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E> List<E> select(final Object[] items, final Criteria<E> criteria) {
+		final boolean[] selected = new boolean[items.length];
+
+		process(items.length, new Chunk() {
+			public void process(int from, int to) {
+				for (int i = from; i < to; i++) {
+					selected[i] = criteria.satisfies((E) items[i]);
+				}
+			}
+		});
+
+		List<E> selection = new ArrayList<E>();
+		for (int i = 0; i < items.length; i++) {
+			if (selected[i]) {
+				selection.add((E) items[i]);
+			}
+		}
+		return selection;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E, T> List<T> transform(final Object[] items,
+			final Transformation<? super E, T> transformation) {
+		final Object[] results = new Object[items.length];
+
+		process(items.length, new Chunk() {
+			public void process(int from, int to) {
+				for (int i = from; i < to; i++) {
+					results[i] = transformation.transform((E) items[i]);
+				}
+			}
+		});
+
+		return (List<T>) Arrays.asList(results);
+	}
+
+	private static void process(int size, final Chunk chunk) {
+		if (size < THRESHOLD || PARALLELISM < 2 || Thread.currentThread() instanceof Worker) {
+			chunk.process(0, size);
+			return;
+		}
+
+		int chunks = Math.min(PARALLELISM * CHUNKS_PER_THREAD, size);
+		int chunkSize = (size + chunks - 1) / chunks;
+
+		// the first chunk is processed by the calling thread
+		List<Future<?>> futures = new ArrayList<Future<?>>(chunks);
+		for (int from = chunkSize; from < size; from += chunkSize) {
+			final int start = from;
+			final int end = Math.min(from + chunkSize, size);
+			futures.add(Pool.EXECUTOR.submit(new Runnable() {
+				public void run() {
+					chunk.process(start, end);
+				}
+			}));
+		}
+
+		try {
+			chunk.process(0, chunkSize);
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("The parallel operation was interrupted!", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new RuntimeException("The parallel operation failed!", cause);
+			}
+		} finally {
+			for (Future<?> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+}
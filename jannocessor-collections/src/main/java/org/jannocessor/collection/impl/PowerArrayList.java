@@ -21,7 +21,10 @@ package org.jannocessor.collection.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.collections.Closure;
 import org.apache.commons.collections.CollectionUtils;
@@ -40,7 +43,18 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 
 	private static final long serialVersionUID = 1L;
 
-	private List<CollectionOperationListener<E>> listeners = new ArrayList<CollectionOperationListener<E>>();
+	private static final String[] NOTIFICATION_HOOKS = { "beforeItemAddedNotification",
+			"afterItemAddedNotification", "beforeItemRemovedNotification",
+			"afterItemRemovedNotification" };
+
+	// whether the classes override any of the notification hooks
+	private static final Map<Class<?>, Boolean> HOOKED_CLASSES = new ConcurrentHashMap<Class<?>, Boolean>();
+
+	// allocated on demand, most of the lists are never listened to
+	private List<CollectionOperationListener<E>> listeners;
+
+	// the overridden hooks must be invoked even if there are no listeners
+	private final boolean hooked = hasNotificationHooks(getClass());
 
 	public static <T> PowerList<T> create(T... items) {
 		PowerArrayList<T> list = new PowerArrayList<T>();
@@ -83,22 +97,25 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public PowerList<E> getIntersection(Collection<E> list) {
-		return powerList(CollectionUtils.intersection(this, list));
+		PowerArrayList<E> result = new PowerArrayList<E>();
+		SetAlgebra.intersection(this, list, result);
+		return result;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public PowerList<E> getDisjunction(Collection<E> list) {
-		return powerList(CollectionUtils.disjunction(this, list));
+		PowerArrayList<E> result = new PowerArrayList<E>();
+		SetAlgebra.disjunction(this, list, result);
+		return result;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public PowerList<E> getUnion(Collection<E> list) {
-		return powerList(CollectionUtils.union(this, list));
+		PowerArrayList<E> result = new PowerArrayList<E>();
+		SetAlgebra.union(this, list, result);
+		return result;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -127,10 +144,26 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 		return this;
 	}
 
+	@Override
+	public PowerList<E> parallelSelection(Criteria<E> criteria) {
+		return powerList(ParallelOperations.select(toArray(), criteria));
+	}
+
+	@Override
+	public <T> PowerList<T> parallelTransform(Transformation<? super E, T> transformation) {
+		return powerList(ParallelOperations.transform(toArray(), transformation));
+	}
+
+	@Override
+	public PowerList<E> parallelEach(Operation<? super E> operation) {
+		ParallelOperations.each(toArray(), operation);
+		return this;
+	}
+
 	@Override
 	public boolean add(E item) {
 		boolean result = super.add(item);
-		if (result) {
+		if (result && isNotifying()) {
 			fireItemAdded(item);
 		}
 		return result;
@@ -139,29 +172,27 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 	@Override
 	public void add(int index, E element) {
 		boolean result = super.add(element);
-		if (result) {
+		if (result && isNotifying()) {
 			fireItemAdded(element);
 		}
 	};
 
 	@Override
 	public boolean addAll(Collection<? extends E> collection) {
+		int from = size();
 		boolean result = super.addAll(collection);
-		if (result) {
-			for (E element : collection) {
-				fireItemAdded(element);
-			}
+		if (result && isNotifying()) {
+			fireItemsAdded(from, size());
 		}
 		return result;
 	}
 
 	@Override
 	public boolean addAll(int index, Collection<? extends E> collection) {
+		int from = size();
 		boolean result = super.addAll(index, collection);
-		if (result) {
-			for (E element : collection) {
-				fireItemAdded(element);
-			}
+		if (result && isNotifying()) {
+			fireItemsAdded(index, index + size() - from);
 		}
 		return result;
 	}
@@ -169,7 +200,9 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 	@Override
 	public E remove(int index) {
 		E item = super.remove(index);
-		fireItemRemoved(item);
+		if (isNotifying()) {
+			fireItemRemoved(item);
+		}
 		return item;
 	}
 
@@ -177,34 +210,71 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 	@Override
 	public boolean remove(Object item) {
 		boolean result = super.remove(item);
-		if (result) {
+		if (result && isNotifying()) {
 			fireItemRemoved((E) item);
 		}
 		return result;
 	}
 
-	@SuppressWarnings("unchecked")
+	@Override
+	public boolean removeAll(Collection<?> collection) {
+		if (isNotifying()) {
+			return removeMatching(collection, false);
+		} else {
+			return super.removeAll(collection);
+		}
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> collection) {
+		if (isNotifying()) {
+			return removeMatching(collection, true);
+		} else {
+			return super.retainAll(collection);
+		}
+	}
+
+	/*
+	 * The items are removed one by one through the iterator, as the inherited
+	 * implementation used to do, so each removal is notified right after it.
+	 */
+	private boolean removeMatching(Collection<?> collection, boolean retain) {
+		boolean modified = false;
+		for (Iterator<E> iterator = iterator(); iterator.hasNext();) {
+			if (collection.contains(iterator.next()) != retain) {
+				iterator.remove();
+				modified = true;
+			}
+		}
+		return modified;
+	}
+
 	@Override
 	public void clear() {
-		Object[] items = toArray();
-		super.clear();
-		for (Object item : items) {
-			fireItemRemoved((E) item);
+		if (isNotifying()) {
+			List<E> items = new ArrayList<E>(this);
+			super.clear();
+			fireItemsRemoved(items);
+		} else {
+			super.clear();
 		}
 	}
 
 	@Override
 	public E set(int index, E element) {
 		E result = super.set(index, element);
-		fireItemAdded(element);
-		fireItemRemoved(result);
+		if (isNotifying()) {
+			fireItemAdded(element);
+			fireItemRemoved(result);
+		}
 		return result;
 	};
 
 	@Override
 	public PowerList<E> addAll(E... objects) {
+		boolean notifying = isNotifying();
 		for (E object : objects) {
-			if (super.add(object)) {
+			if (super.add(object) && notifying) {
 				fireItemAdded(object);
 			}
 		}
@@ -213,8 +283,9 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 
 	@Override
 	public PowerList<E> removeAll(E... objects) {
+		boolean notifying = isNotifying();
 		for (E object : objects) {
-			if (super.remove(object)) {
+			if (super.remove(object) && notifying) {
 				fireItemRemoved(object);
 			}
 		}
@@ -223,20 +294,62 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 
 	@Override
 	public void addCollectionOperationListener(CollectionOperationListener<E> listener) {
+		if (listeners == null) {
+			listeners = new ArrayList<CollectionOperationListener<E>>(1);
+		}
 		listeners.add(listener);
 	}
 
 	@Override
 	public void removeCollectionOperationListener(CollectionOperationListener<E> listener) {
-		listeners.remove(listener);
+		if (listeners != null) {
+			listeners.remove(listener);
+			if (listeners.isEmpty()) {
+				listeners = null;
+			}
+		}
+	}
+
+	private boolean isNotifying() {
+		return listeners != null || hooked;
+	}
+
+	private static boolean hasNotificationHooks(Class<?> clazz) {
+		Boolean hooked = HOOKED_CLASSES.get(clazz);
+
+		if (hooked == null) {
+			hooked = false;
+			for (Class<?> c = clazz; c != PowerArrayList.class && !hooked; c = c.getSuperclass()) {
+				for (String hook : NOTIFICATION_HOOKS) {
+					try {
+						c.getDeclaredMethod(hook, Object.class);
+						hooked = true;
+						break;
+					} catch (NoSuchMethodException e) {
+						// not overridden in this class
+					}
+				}
+			}
+			HOOKED_CLASSES.put(clazz, hooked);
+		}
+
+		return hooked;
+	}
+
+	private void fireItemsAdded(int from, int to) {
+		for (int i = from; i < to; i++) {
+			fireItemAdded(get(i));
+		}
 	}
 
 	private void fireItemAdded(E item) {
 		beforeItemAddedNotification(item);
-		for (CollectionOperationListener<E> listener : listeners) {
+		if (listeners != null) {
 			DefaultCollectionOperationEvent<E> event = new DefaultCollectionOperationEvent<E>(this,
 					item);
-			listener.itemAdded(event);
+			for (CollectionOperationListener<E> listener : listeners) {
+				listener.itemAdded(event);
+			}
 		}
 		afterItemAddedNotification(item);
 	}
@@ -247,12 +360,20 @@ public class PowerArrayList<E> extends ArrayList<E> implements PowerList<E> {
 	protected void afterItemAddedNotification(E item) {
 	}
 
+	private void fireItemsRemoved(List<E> items) {
+		for (E item : items) {
+			fireItemRemoved(item);
+		}
+	}
+
 	private void fireItemRemoved(E item) {
 		beforeItemRemovedNotification(item);
-		for (CollectionOperationListener<E> listener : listeners) {
+		if (listeners != null) {
 			DefaultCollectionOperationEvent<E> event = new DefaultCollectionOperationEvent<E>(this,
 					item);
-			listener.itemRemoved(event);
+			for (CollectionOperationListener<E> listener : listeners) {
+				listener.itemRemoved(event);
+			}
 		}
 		afterItemRemovedNotification(item);
 	}
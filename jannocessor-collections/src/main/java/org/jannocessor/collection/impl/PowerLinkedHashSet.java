@@ -75,19 +75,22 @@ public class PowerLinkedHashSet<E> extends LinkedHashSet<E> implements
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	public PowerSet<E> getIntersection(Collection<E> Set) {
-		return powerSet(CollectionUtils.intersection(this, Set));
+		PowerLinkedHashSet<E> result = new PowerLinkedHashSet<E>();
+		SetAlgebra.intersection(this, Set, result);
+		return result;
 	}
 
-	@SuppressWarnings("unchecked")
 	public PowerSet<E> getDisjunction(Collection<E> Set) {
-		return powerSet(CollectionUtils.disjunction(this, Set));
+		PowerLinkedHashSet<E> result = new PowerLinkedHashSet<E>();
+		SetAlgebra.disjunction(this, Set, result);
+		return result;
 	}
 
-	@SuppressWarnings("unchecked")
 	public PowerSet<E> getUnion(Collection<E> Set) {
-		return powerSet(CollectionUtils.union(this, Set));
+		PowerLinkedHashSet<E> result = new PowerLinkedHashSet<E>();
+		SetAlgebra.union(this, Set, result);
+		return result;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -112,6 +115,19 @@ public class PowerLinkedHashSet<E> extends LinkedHashSet<E> implements
 		return this;
 	}
 
+	public PowerSet<E> parallelSelection(Criteria<E> criteria) {
+		return powerSet(ParallelOperations.select(toArray(), criteria));
+	}
+
+	public <T> PowerSet<T> parallelTransform(Transformation<? super E, T> transformation) {
+		return powerSet(ParallelOperations.transform(toArray(), transformation));
+	}
+
+	public PowerSet<E> parallelEach(Operation<? super E> operation) {
+		ParallelOperations.each(toArray(), operation);
+		return this;
+	}
+
 	public PowerSet<E> addAll(E... objects) {
 		for (E object : objects) {
 			super.add(object);
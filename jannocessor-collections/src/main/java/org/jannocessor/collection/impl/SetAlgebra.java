@@ -0,0 +1,150 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.collection.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Union, intersection and disjunction of collections with the cardinality
+ * semantics of the commons-collections CollectionUtils, using a single hash
+ * index of the smaller collection. The result contains the items of the
+ * first collection, followed by the items of the second one, in their
+ * iteration order.
+ */
+final class SetAlgebra {
+
+	private static class Count {
+		private int total;
+		private int left;
+	}
+
+	private SetAlgebra() {
+	}
+
+	private static Map<Object, Count> index(Collection<?> items) {
+		Map<Object, Count> counts = new HashMap<Object, Count>(items.size() * 4 / 3 + 1);
+
+		for (Object item : items) {
+			Count count = counts.get(item);
+			if (count == null) {
+				count = new Count();
+				counts.put(item, count);
+			}
+			count.total++;
+			count.left++;
+		}
+
+		return counts;
+	}
+
+	private static boolean take(Map<Object, Count> counts, Object item) {
+		Count count = counts.get(item);
+		if (count != null && count.left > 0) {
+			count.left--;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	public static <E> void union(Collection<E> first, Collection<E> second,
+			Collection<E> result) {
+		if (first.size() <= second.size()) {
+			Map<Object, Count> counts = index(first);
+			result.addAll(first);
+			for (E item : second) {
+				if (!take(counts, item)) {
+					result.add(item);
+				}
+			}
+		} else {
+			Map<Object, Count> counts = index(second);
+			for (E item : first) {
+				take(counts, item);
+				result.add(item);
+			}
+			for (E item : second) {
+				if (take(counts, item)) {
+					result.add(item);
+				}
+			}
+		}
+	}
+
+	public static <E> void intersection(Collection<E> first, Collection<E> second,
+			Collection<E> result) {
+		if (first.size() <= second.size()) {
+			Map<Object, Count> counts = index(first);
+			for (E item : second) {
+				take(counts, item);
+			}
+			for (E item : first) {
+				Count count = counts.get(item);
+				if (count.total > count.left) {
+					count.total--;
+					result.add(item);
+				}
+			}
+		} else {
+			Map<Object, Count> counts = index(second);
+			for (E item : first) {
+				if (take(counts, item)) {
+					result.add(item);
+				}
+			}
+		}
+	}
+
+	public static <E> void disjunction(Collection<E> first, Collection<E> second,
+			Collection<E> result) {
+		if (first.size() <= second.size()) {
+			Map<Object, Count> counts = index(first);
+			List<E> extra = new ArrayList<E>();
+			for (E item : second) {
+				if (!take(counts, item)) {
+					extra.add(item);
+				}
+			}
+			for (E item : first) {
+				if (take(counts, item)) {
+					result.add(item);
+				}
+			}
+			result.addAll(extra);
+		} else {
+			Map<Object, Count> counts = index(second);
+			for (E item : first) {
+				if (!take(counts, item)) {
+					result.add(item);
+				}
+			}
+			for (E item : second) {
+				if (take(counts, item)) {
+					result.add(item);
+				}
+			}
+		}
+	}
+
+}
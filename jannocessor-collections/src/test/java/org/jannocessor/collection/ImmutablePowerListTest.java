@@ -0,0 +1,112 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.collection;
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+import org.apache.commons.lang.SerializationUtils;
+import org.jannocessor.collection.api.PowerList;
+import org.jannocessor.collection.event.CollectionOperationTestListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutablePowerListTest {
+
+	@Test
+	public void testSharedEmptyList() {
+		Assert.assertSame(Power.unmodifiableList(), Power.unmodifiableList());
+		Assert.assertSame(Power.unmodifiableList(),
+				SerializationUtils.clone((Serializable) Power.unmodifiableList()));
+		Assert.assertEquals(Power.emptyList(), Power.unmodifiableList());
+	}
+
+	@Test
+	public void testOperations() {
+		String[] items = { "a", "b", "c" };
+		PowerList<String> list = Power.unmodifiableList(items);
+		items[0] = "x";
+
+		Assert.assertEquals(Power.list("a", "b", "c"), list);
+		Assert.assertEquals("a-b-c", list.join("-"));
+		Assert.assertEquals(Power.list("a", "b", "c", "d"), list.getUnion(Power.list("d")));
+		Assert.assertEquals(list, SerializationUtils.clone((Serializable) list));
+
+		PowerList<String> copy = list.copy();
+		copy.add("d");
+		Assert.assertEquals(Power.list("a", "b", "c", "d"), copy);
+		Assert.assertEquals(3, list.size());
+	}
+
+	@Test
+	public void testModifications() {
+		PowerList<String> list = Power.unmodifiableList("a", "b");
+		list.addCollectionOperationListener(new CollectionOperationTestListener<String>());
+
+		checkUnmodifiable(list);
+		checkUnmodifiable(Power.<String> unmodifiableList());
+
+		final Iterator<String> it = list.iterator();
+		it.next();
+		checkUnsupported(new Runnable() {
+			public void run() {
+				it.remove();
+			}
+		});
+
+		Assert.assertEquals(Power.list("a", "b"), list);
+	}
+
+	private void checkUnmodifiable(final PowerList<String> list) {
+		checkUnsupported(new Runnable() {
+			public void run() {
+				list.add("x");
+			}
+		});
+
+		checkUnsupported(new Runnable() {
+			public void run() {
+				list.addAll(Power.<String> list());
+			}
+		});
+
+		checkUnsupported(new Runnable() {
+			public void run() {
+				list.assign("x");
+			}
+		});
+
+		checkUnsupported(new Runnable() {
+			public void run() {
+				list.clear();
+			}
+		});
+	}
+
+	private void checkUnsupported(Runnable modification) {
+		try {
+			modification.run();
+			Assert.fail("The list was modified!");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+}
@@ -19,14 +19,20 @@
 
 package org.jannocessor.collection;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.collection.api.event.CollectionOperationEvent;
 import org.jannocessor.collection.event.CollectionOperationTestListener;
 import org.jannocessor.collection.filter.api.Condition;
 import org.jannocessor.collection.filter.api.Criteria;
+import org.jannocessor.collection.impl.PowerArrayList;
 import org.jannocessor.collection.transform.api.Operation;
 import org.jannocessor.collection.transform.api.Transformation;
 import org.junit.Assert;
@@ -74,6 +80,115 @@ public class PowerArrayListTest {
 		check(Power.list(1, 2).getUnion(Power.list(2, 3)), 1, 2, 3);
 	}
 
+	@Test
+	public void testSetAlgebraOrder() {
+		PowerList<Integer> list = Power.list(5, 1, 2, 2, 4);
+
+		check(list.getUnion(Power.list(2, 3, 2, 2)), 5, 1, 2, 2, 4, 2, 3);
+		check(list.getIntersection(Power.list(2, 3, 2, 2)), 2, 2);
+		check(list.getDisjunction(Power.list(2, 3, 2, 2)), 5, 1, 4, 2, 3);
+
+		check(list.getUnion(Power.list(4, 0)), 5, 1, 2, 2, 4, 0);
+		check(list.getIntersection(Power.list(4, 0)), 4);
+		check(list.getDisjunction(Power.list(4, 0)), 5, 1, 2, 2, 0);
+	}
+
+	@Test
+	public void testSetAlgebraCardinality() {
+		Random random = new Random(7);
+
+		for (int i = 0; i < 2000; i++) {
+			PowerList<Integer> first = randomList(random);
+			PowerList<Integer> second = randomList(random);
+
+			checkCardinality(CollectionUtils.union(first, second), first.getUnion(second));
+			checkCardinality(CollectionUtils.intersection(first, second),
+					first.getIntersection(second));
+			checkCardinality(CollectionUtils.disjunction(first, second),
+					first.getDisjunction(second));
+		}
+	}
+
+	private PowerList<Integer> randomList(Random random) {
+		PowerList<Integer> list = Power.list();
+		int size = random.nextInt(20);
+		for (int i = 0; i < size; i++) {
+			list.add(random.nextInt(8) == 0 ? null : random.nextInt(10));
+		}
+		return list;
+	}
+
+	private void checkCardinality(Collection<?> expected, Collection<?> actual) {
+		Assert.assertEquals(CollectionUtils.getCardinalityMap(expected),
+				CollectionUtils.getCardinalityMap(actual));
+	}
+
+	private PowerList<Integer> range(int size) {
+		PowerList<Integer> list = Power.list();
+		for (int i = 0; i < size; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	@Test
+	public void testParallelOperations() {
+		PowerList<Integer> list = range(50000);
+
+		Criteria<Integer> even = Power.criteria(new Condition<Integer>() {
+			public boolean satisfies(Integer n) {
+				return n % 2 == 0;
+			}
+		});
+
+		Transformation<Integer, String> text = new Transformation<Integer, String>() {
+			public String transform(Integer input) {
+				return "#" + input;
+			}
+		};
+
+		final AtomicInteger sum = new AtomicInteger();
+		Operation<Integer> add = new Operation<Integer>() {
+			public void execute(Integer n) {
+				sum.addAndGet(n);
+			}
+		};
+
+		Assert.assertEquals(list.getSelection(even), list.parallelSelection(even));
+		Assert.assertEquals(list.getTransformed(text), list.parallelTransform(text));
+
+		list.parallelEach(add);
+		Assert.assertEquals(25000 * 49999, sum.get());
+	}
+
+	@Test
+	public void testNestedParallelOperations() {
+		final PowerList<Integer> list = range(2000);
+
+		Transformation<Integer, Integer> count = new Transformation<Integer, Integer>() {
+			public Integer transform(final Integer input) {
+				return list.parallelSelection(Power.criteria(new Condition<Integer>() {
+					public boolean satisfies(Integer n) {
+						return n < input;
+					}
+				})).size();
+			}
+		};
+
+		Assert.assertEquals(list, list.parallelTransform(count));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testParallelOperationFailure() {
+		range(10000).parallelEach(new Operation<Integer>() {
+			public void execute(Integer n) {
+				if (n == 7777) {
+					throw new IllegalStateException();
+				}
+			}
+		});
+	}
+
 	@Test
 	public void testRetain() {
 		PowerList<String> list = Power.list("a", "BB", "C", "ddd");
@@ -267,6 +382,26 @@ public class PowerArrayListTest {
 		checkRemoved(counter, items);
 	}
 
+	@Test
+	public void testRetainAllNotifiesEachRemoval() {
+		final List<Integer> sizes = new ArrayList<Integer>();
+
+		PowerList<String> list = new PowerArrayList<String>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void afterItemRemovedNotification(String item) {
+				sizes.add(size());
+			}
+		};
+
+		list.addAll(Power.list("A", "B", "C", "D"));
+		list.retainAll(Power.list("C"));
+		list.removeAll(Power.list("C"));
+
+		Assert.assertEquals(Power.list(3, 2, 1, 0), sizes);
+	}
+
 	@Test
 	public void testIteratorRemoveNotification() {
 		notificationList.assign("A", "B", "C", "D", "E");
@@ -295,6 +430,42 @@ public class PowerArrayListTest {
 		checkRemoved(counter, items[1]);
 	}
 
+	@Test
+	public void testOverriddenNotificationHooks() {
+		final List<String> hooked = new ArrayList<String>();
+
+		PowerList<String> list = new PowerArrayList<String>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void afterItemRemovedNotification(String item) {
+				hooked.add(item);
+			}
+		};
+
+		list.addAll(Power.list("A", "B", "C"));
+		list.remove("B");
+		list.clear();
+
+		Assert.assertEquals(Power.list("B", "A", "C"), hooked);
+	}
+
+	@Test
+	public void testRemovedListenerNotification() {
+		notificationList.removeCollectionOperationListener(counter);
+		counter.reset();
+
+		notificationList.assign("A", "B", "C");
+		notificationList.retainAll(Power.list("A"));
+		notificationList.clear();
+		Assert.assertTrue(counter.getAdded().isEmpty());
+		Assert.assertTrue(counter.getRemoved().isEmpty());
+
+		notificationList.addCollectionOperationListener(counter);
+		notificationList.addAll(Power.list("x", "y"));
+		checkAdded(counter, "x", "y");
+	}
+
 	private void check(PowerList<?> list, Object... expected) {
 		Assert.assertArrayEquals(expected, list.toArray());
 	}
@@ -32,6 +32,16 @@ public class PowerLinkedHashSetTest {
 		check(set, 3, 2, 4);
 	}
 
+	@Test
+	public void testSetAlgebra() {
+		PowerSet<Integer> set = Power.set(5, 1, 2, 4);
+
+		check(set.getUnion(Power.list(2, 3, 2)), 5, 1, 2, 4, 3);
+		check(set.getIntersection(Power.list(2, 3, 2)), 2);
+		// the second copy of 2 isn't matched
+		check(set.getDisjunction(Power.list(2, 3, 2)), 5, 1, 4, 2, 3);
+	}
+
 	private void check(PowerSet<?> set, Object... expected) {
 		Assert.assertArrayEquals(expected, set.toArray());
 	}
@@ -21,10 +21,12 @@ package org.jannocessor.collection.backed;
 
 import junit.framework.Assert;
 
+import org.apache.commons.lang.SerializationUtils;
 import org.jannocessor.collection.Power;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.collection.backed.api.BackedPowerList;
 import org.jannocessor.collection.backed.api.CollectionDispatcher;
+import org.jannocessor.collection.transform.api.Transformation;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -80,6 +82,128 @@ public class BackedPowerListTest<E> {
 		Assert.assertTrue(longElements.contains("ffffff"));
 	}
 
+	@Test
+	public void shouldMaintainIndexes() {
+		backed.addAll("a", "bb", "c");
+		backed.addIndex("length", new Transformation<String, Integer>() {
+			public Integer transform(String s) {
+				return s.length();
+			}
+		});
+		backed.addIndex("first", new Transformation<String, Character>() {
+			public Character transform(String s) {
+				return s.charAt(0);
+			}
+		});
+
+		backed.addAll("cc", "ddd");
+		Assert.assertEquals(Power.list("a", "c"), backed.lookup("length", 1));
+		Assert.assertEquals(Power.list("bb", "cc"), backed.lookup("length", 2));
+		Assert.assertEquals(Power.list("c", "cc"), backed.lookup("first", 'c'));
+
+		backed.remove("c");
+		backed.set(0, "eeee");
+		Assert.assertEquals(Power.list(), backed.lookup("length", 1));
+		Assert.assertEquals(Power.list("eeee"), backed.lookup("first", 'e'));
+		Assert.assertEquals(Power.list("cc"), backed.lookup("first", 'c'));
+
+		backed.retainAll(Power.list("bb"));
+		Assert.assertEquals(Power.list("bb"), backed.lookup("length", 2));
+		Assert.assertEquals(Power.list(), backed.lookup("length", 3));
+
+		Assert.assertEquals(Power.list("bb"), shortElements);
+		Assert.assertEquals(Power.list(), mediumElements);
+	}
+
+	@Test
+	public void shouldIndexWithoutBackCollections() {
+		BackedPowerList<String> indexed = new BackedPowerArrayList<String>();
+		indexed.addIndex("length", new Transformation<String, Integer>() {
+			public Integer transform(String s) {
+				return s.length();
+			}
+		});
+
+		indexed.addAll("TOO BIG STRING", "", "x");
+		Assert.assertEquals(Power.list(""), indexed.lookup("length", 0));
+	}
+
+	@Test
+	public void shouldSkipItemsWithChangedKeys() {
+		BackedPowerList<StringBuilder> indexed = new BackedPowerArrayList<StringBuilder>();
+		indexed.addIndex("text", new Transformation<StringBuilder, String>() {
+			public String transform(StringBuilder sb) {
+				return sb.toString();
+			}
+		});
+
+		StringBuilder renamed = new StringBuilder("a");
+		indexed.addAll(renamed, new StringBuilder("b"));
+		renamed.append("x");
+
+		Assert.assertEquals(0, indexed.lookup("text", "a").size());
+		Assert.assertEquals(0, indexed.lookup("text", "ax").size());
+
+		indexed.remove(renamed);
+		indexed.add(renamed);
+		Assert.assertEquals(Power.list(renamed), indexed.lookup("text", "ax"));
+		Assert.assertEquals(1, indexed.lookup("text", "b").size());
+	}
+
+	@Test
+	public void shouldRemoveItemsByTheirIndexedKeys() {
+		BackedPowerList<StringBuilder> indexed = new BackedPowerArrayList<StringBuilder>();
+		indexed.addIndex("text", new Transformation<StringBuilder, String>() {
+			public String transform(StringBuilder sb) {
+				return sb.toString();
+			}
+		});
+
+		StringBuilder renamed = new StringBuilder("a");
+		StringBuilder other = new StringBuilder("ab");
+		indexed.addAll(renamed, other, renamed);
+		renamed.append("b");
+
+		indexed.remove(renamed);
+		indexed.remove(renamed);
+		indexed.add(renamed);
+
+		Assert.assertEquals(Power.list(other, renamed), indexed.lookup("text", "ab"));
+		Assert.assertEquals(0, indexed.lookup("text", "a").size());
+
+		indexed.remove(other);
+		Assert.assertEquals(Power.list(renamed), indexed.lookup("text", "ab"));
+	}
+
+	@Test
+	public void shouldSerializeWithoutIndexes() {
+		BackedPowerArrayList<String> indexed = new BackedPowerArrayList<String>();
+		indexed.addIndex("length", new Transformation<String, Integer>() {
+			public Integer transform(String s) {
+				return s.length();
+			}
+		});
+		indexed.addAll("a", "bb");
+
+		@SuppressWarnings("unchecked")
+		BackedPowerArrayList<String> copy = (BackedPowerArrayList<String>) SerializationUtils
+				.clone(indexed);
+		copy.add("ccc");
+		Assert.assertEquals(Power.list("a", "bb", "ccc"), copy);
+
+		try {
+			copy.lookup("length", 1);
+			Assert.fail("The indexes must not be serialized");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldFailOnUnknownIndex() {
+		backed.lookup("length", 1);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void shouldFailOnIncorrectDispatch() {
 		backed.add("TOO BIG STRING");
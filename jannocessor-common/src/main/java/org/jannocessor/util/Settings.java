@@ -35,10 +35,26 @@ public interface Settings {
 
 	public static final String OPTION_TEMPLATES_PATH = "templates.path";
 
+	public static final String OPTION_PROCESSING_THREADS = "processing.threads";
+
+	public static final String OPTION_INCREMENTAL = "incremental";
+
+	public static final String OPTION_ADAPTER_CACHE_SIZE = "adapter.cache.size";
+
+	public static final String OPTION_PROXY_CACHE = "proxy.cache";
+
+	public static final String OPTION_VERIFY_COPIES = "verify.copies";
+
+	public static final String OPTION_RENDER_ENGINES = "render.engines";
+
 	public static final String PROCESSORS_CLASSNAME = "org.jannocessor.config.Processors";
 
 	public static final String CUSTOM_TEMPLATE = "customize.vm";
 
+	public static final String GENERATED_FILES_MANIFEST = ".jannocessor-manifest";
+
+	public static final String DEPENDENCY_GRAPH = ".jannocessor-dependencies";
+
 	public static final String[] VM_LIBRARY_FILES = { "_global_macros_.vm",
 			"annotation_attribute.vm", "annotation.vm", "class.vm",
 			"constructor.vm", "enum_constant.vm", "enum.vm",
@@ -19,6 +19,7 @@
 
 package org.jannocessor.engine.impl;
 
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 
@@ -114,6 +115,12 @@ public class JannocessorEngineImpl implements JannocessorEngine {
 		return generator.renderMacro(macro, attributes, params);
 	}
 
+	@Override
+	public void renderMacro(String macro, Map<String, Object> attributes,
+			String[] params, Writer writer) throws JannocessorException {
+		generator.renderMacro(macro, attributes, params, writer);
+	}
+
 	@Override
 	public String getProcessorsConfigFilename() throws JannocessorException {
 		return config.getProcessorsConfigFilename();
@@ -139,6 +146,11 @@ public class JannocessorEngineImpl implements JannocessorEngine {
 		return splitter.split(contents);
 	}
 
+	@Override
+	public void split(CharSequence contents, PartHandler handler) {
+		splitter.split(contents, handler);
+	}
+
 	@Override
 	public String getJavaRepresentation(Object value) {
 		return representer.getJavaRepresentation(value);
@@ -19,25 +19,54 @@
 
 package org.jannocessor.extra.merge;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import org.jannocessor.processor.api.FileInformation;
-import org.jannocessor.processor.api.CodeMerger;
+import org.jannocessor.processor.api.MarkedRegionsMerger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class MarkedCodeSegmentMerger implements CodeMerger {
+/**
+ * Merges the hand-written code segments (between the start and end markers)
+ * of the old code into the new code. The segments are matched by position,
+ * unless they are named, e.g. <code>// Custom hand-written code starts here [toString]</code>,
+ * in which case they are matched by name, regardless of their order. A new
+ * named segment keeps its generated content, unless the old code has no named
+ * segments and as many segments as the new code (i.e. the segments were named
+ * later), in which case all segments are matched by position.
+ */
+public class MarkedCodeSegmentMerger implements MarkedRegionsMerger {
 
 	public static final String START = "// Custom hand-written code starts here";
 	public static final String END = "// Custom hand-written code ends here";
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
-	private final Pattern pattern;
 	private final String from;
 	private final String to;
 
+	/**
+	 * The content of a segment (between the markers), located by offsets.
+	 */
+	private static class Segment {
+
+		private final int start;
+
+		private final int end;
+
+		private final String name;
+
+		public Segment(int start, int end, String name) {
+			this.start = start;
+			this.end = end;
+			this.name = name;
+		}
+	}
+
 	public MarkedCodeSegmentMerger() {
 		this(START, END);
 	}
@@ -45,45 +74,157 @@ public class MarkedCodeSegmentMerger implements CodeMerger {
 	public MarkedCodeSegmentMerger(String from, String to) {
 		this.from = from;
 		this.to = to;
-		pattern = Pattern.compile(constructRegex(from, to));
-	}
-
-	private String constructRegex(String from, String to) {
-		return "(?smi)" + Pattern.quote(from) + "(.*?)" + Pattern.quote(to);
 	}
 
+	public String getStartMarker() {
+		return from;
+	}
+
 	public String mergeCode(FileInformation oldCode, FileInformation newCode) {
 		String old = oldCode.getContent();
 		String recent = newCode.getContent();
 
-		Matcher matcherOld = pattern.matcher(old);
-		Matcher matcherRecent = pattern.matcher(recent);
+		List<Segment> oldSegments = findSegments(old);
 
-		String mergedCode = "";
+		LinkedList<Segment> unnamed = new LinkedList<Segment>();
+		Map<String, LinkedList<Segment>> named = new HashMap<String, LinkedList<Segment>>();
+		int manualLength = 0;
+
+		for (Segment segment : oldSegments) {
+			if (segment.name != null) {
+				LinkedList<Segment> sameName = named.get(segment.name);
+				if (sameName == null) {
+					sameName = new LinkedList<Segment>();
+					named.put(segment.name, sameName);
+				}
+				sameName.add(segment);
+			} else {
+				unnamed.add(segment);
+			}
+			manualLength += segment.end - segment.start;
+		}
+
+		List<Segment> recentSegments = findSegments(recent);
+		boolean positional = named.isEmpty() && oldSegments.size() == recentSegments.size();
+
+		StringBuilder mergedCode = new StringBuilder(recent.length() + manualLength);
 
 		int beginIndex = 0;
-		while (matcherOld.find()) {
-			String manualCode = matcherOld.group(1);
+		for (int i = 0; i < recentSegments.size(); i++) {
+			Segment segment = recentSegments.get(i);
+			Segment manual = null;
+			if (positional) {
+				manual = oldSegments.get(i);
+			} else if (segment.name != null) {
+				LinkedList<Segment> sameName = named.get(segment.name);
+				if (sameName != null) {
+					manual = sameName.poll();
+					if (sameName.isEmpty()) {
+						named.remove(segment.name);
+					}
+				}
+			} else {
+				// the unnamed segments are matched by position
+				manual = unnamed.poll();
+			}
 
-			if (matcherRecent.find()) {
+			if (manual != null) {
 				// merge the code
-				mergedCode += recent.substring(beginIndex, matcherRecent.start(1));
-				mergedCode += manualCode;
-				beginIndex = matcherRecent.end(1);
-			} else {
-				throw new IllegalArgumentException(
-						String.format(
-								"Didn't find manually written code within block starting with '%s' and ending with '%s'",
-								from, to));
+				mergedCode.append(recent, beginIndex, segment.start);
+				mergedCode.append(old, manual.start, manual.end);
+				beginIndex = segment.end;
 			}
 		}
 
-		if (beginIndex == 0) {
+		if (!positional && (!unnamed.isEmpty() || !named.isEmpty())) {
+			throw new IllegalArgumentException(
+					String.format(
+							"Didn't find manually written code within block starting with '%s' and ending with '%s'",
+							from, to));
+		}
+
+		if (oldSegments.isEmpty()) {
 			logger.warn("Didn't merge the file: {}", oldCode.getFilename());
 		}
 
-		mergedCode += recent.substring(beginIndex);
+		mergedCode.append(recent, beginIndex, recent.length());
 
-		return mergedCode;
+		return mergedCode.toString();
 	}
+
+	private List<Segment> findSegments(String code) {
+		List<Segment> segments = new ArrayList<Segment>();
+
+		int pos = indexOf(code, from, 0);
+		while (pos >= 0) {
+			int start = pos + from.length();
+			int end = indexOf(code, to, start);
+			if (end < 0) {
+				break;
+			}
+
+			segments.add(createSegment(code, start, end));
+			pos = indexOf(code, from, end + to.length());
+		}
+
+		return segments;
+	}
+
+	/**
+	 * The optional name of the segment is in brackets, right after the start
+	 * marker. It isn't a part of the segment's content.
+	 */
+	private Segment createSegment(String code, int start, int end) {
+		int pos = start;
+		while (pos < end && (code.charAt(pos) == ' ' || code.charAt(pos) == '\t')) {
+			pos++;
+		}
+
+		if (pos < end && code.charAt(pos) == '[') {
+			int nameStart = pos + 1;
+			int nameEnd = nameStart;
+			while (nameEnd < end && isNameChar(code.charAt(nameEnd))) {
+				nameEnd++;
+			}
+
+			if (nameEnd > nameStart && nameEnd < end && code.charAt(nameEnd) == ']') {
+				return new Segment(nameEnd + 1, end, code.substring(nameStart, nameEnd));
+			}
+		}
+
+		return new Segment(start, end, null);
+	}
+
+	private boolean isNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.' || c == '-';
+	}
+
+	/**
+	 * Finds the marker, ignoring the case (of the US-ASCII characters).
+	 */
+	private int indexOf(String code, String marker, int from) {
+		int last = code.length() - marker.length();
+
+		for (int i = from; i <= last; i++) {
+			int j = 0;
+			while (j < marker.length() && equalsIgnoreCase(code.charAt(i + j), marker.charAt(j))) {
+				j++;
+			}
+
+			if (j == marker.length()) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private boolean equalsIgnoreCase(char a, char b) {
+		return a == b || (toLowerCase(a) == toLowerCase(b) && a < 128 && b < 128);
+	}
+
+	private char toLowerCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
 }
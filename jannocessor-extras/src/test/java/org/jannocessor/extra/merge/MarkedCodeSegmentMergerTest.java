@@ -82,6 +82,81 @@ public class MarkedCodeSegmentMergerTest {
 		Assert.assertEquals(result, merged);
 	}
 
+	@Test
+	public void shouldMergeNamedPartsRegardlessOfOrder() {
+		String old = lines("aaa1", FROM1 + " [x]", "bbb1", TO1, "ccc1", FROM1 + " [y]", "ddd1", TO1);
+		String recent = lines("aaa2", FROM1 + " [y]", "bbb2", TO1, "ccc2", FROM1 + " [x]", "ddd2",
+				TO1, FROM1 + " [z]", "eee2", TO1);
+		String result = lines("aaa2", FROM1 + " [y]", "ddd1", TO1, "ccc2", FROM1 + " [x]", "bbb1",
+				TO1, FROM1 + " [z]", "eee2", TO1);
+
+		String merged = merger.mergeCode(info(old), info(recent));
+
+		Assert.assertEquals(result, merged);
+	}
+
+	@Test
+	public void shouldMergeUnnamedPartsIntoNamedParts() {
+		String old = lines("aaa1", FROM1, "bbb1", TO1, "ccc1");
+		String recent = lines("aaa2", FROM1 + " [x]", "bbb2", TO1, "ccc2");
+		String result = lines("aaa2", FROM1 + " [x]", "bbb1", TO1, "ccc2");
+
+		String merged = merger.mergeCode(info(old), info(recent));
+
+		Assert.assertEquals(result, merged);
+	}
+
+	@Test
+	public void shouldKeepNewNamedPartBeforeUnnamedPart() {
+		String old = lines("aaa1", FROM1, "bbb1", TO1, "ccc1", FROM1, "ddd1", TO1);
+		String recent = lines("aaa2", FROM1 + " [x]", "xxx2", TO1, FROM1, "bbb2", TO1, "ccc2",
+				FROM1, "ddd2", TO1);
+		String result = lines("aaa2", FROM1 + " [x]", "xxx2", TO1, FROM1, "bbb1", TO1, "ccc2",
+				FROM1, "ddd1", TO1);
+
+		String merged = merger.mergeCode(info(old), info(recent));
+
+		Assert.assertEquals(result, merged);
+	}
+
+	@Test
+	public void shouldKeepNewNamedPartBetweenNamedParts() {
+		String old = lines("aaa1", FROM1 + " [x]", "bbb1", TO1, FROM1, "ccc1", TO1);
+		String recent = lines("aaa2", FROM1 + " [x]", "bbb2", TO1, FROM1 + " [y]", "yyy2", TO1,
+				FROM1, "ccc2", TO1);
+		String result = lines("aaa2", FROM1 + " [x]", "bbb1", TO1, FROM1 + " [y]", "yyy2", TO1,
+				FROM1, "ccc1", TO1);
+
+		String merged = merger.mergeCode(info(old), info(recent));
+
+		Assert.assertEquals(result, merged);
+	}
+
+	@Test
+	public void shouldMergeManyParts() {
+		StringBuilder old = new StringBuilder();
+		StringBuilder recent = new StringBuilder();
+		StringBuilder result = new StringBuilder();
+
+		for (int i = 0; i < 10000; i++) {
+			old.append(lines("old" + i, FROM1, "manual" + i, TO1, ""));
+			recent.append(lines("new" + i, FROM1, "generated" + i, TO1, ""));
+			result.append(lines("new" + i, FROM1, "manual" + i, TO1, ""));
+		}
+
+		String merged = merger.mergeCode(info(old.toString()), info(recent.toString()));
+
+		Assert.assertEquals(result.toString(), merged);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenNamedPartIsNotFound() {
+		String old = lines("aaa1", FROM1 + " [x]", "bbb1", TO1, "ccc1");
+		String recent = lines("aaa2", FROM1 + " [y]", "bbb2", TO1, "ccc2");
+
+		merger.mergeCode(info(old), info(recent));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void shouldThrowExceptionWhenPartIsNotFound() {
 		String old = lines("aaa1", FROM1, "bbb1", TO1, "ccc1");
@@ -26,7 +26,6 @@ import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.structure.JavaAnnotationAttribute;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class AbstractJavaAnnotationData extends AbstractJavaStructureData implem
 
 
     public AbstractJavaAnnotation copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaAnnotationData copy = new AbstractJavaAnnotationData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaAnnotationAttribute> getAttributes() {
@@ -55,6 +56,11 @@ public class AbstractJavaAnnotationData extends AbstractJavaStructureData implem
         this.attributes = value;
     }
 
+    public void copyFrom(AbstractJavaAnnotation source) {
+        super.copyFrom(source);
+        this.attributes = ModelUtils.parentedList(ModelUtils.copyList(source.getAttributes()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -74,13 +80,6 @@ public class AbstractJavaAnnotationData extends AbstractJavaStructureData implem
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getAttributes())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(AbstractJavaAnnotation.class);
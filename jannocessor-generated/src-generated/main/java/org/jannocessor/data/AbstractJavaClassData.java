@@ -30,7 +30,6 @@ import org.jannocessor.model.executable.JavaStaticInit;
 import org.jannocessor.model.executable.JavaInstanceInit;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -56,7 +55,9 @@ public class AbstractJavaClassData extends AbstractJavaStructureData implements
 
 
     public AbstractJavaClass copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaClassData copy = new AbstractJavaClassData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaTypeParameter> getTypeParameters() {
@@ -99,6 +100,15 @@ public class AbstractJavaClassData extends AbstractJavaStructureData implements
         this.instanceInits = value;
     }
 
+    public void copyFrom(AbstractJavaClass source) {
+        super.copyFrom(source);
+        this.typeParameters = ModelUtils.parentedList(ModelUtils.copyList(source.getTypeParameters()), this);
+        this.fields = ModelUtils.parentedList(ModelUtils.copyList(source.getFields()), this);
+        this.constructors = ModelUtils.parentedList(ModelUtils.copyList(source.getConstructors()), this);
+        this.staticInits = ModelUtils.parentedList(ModelUtils.copyList(source.getStaticInits()), this);
+        this.instanceInits = ModelUtils.parentedList(ModelUtils.copyList(source.getInstanceInits()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -122,17 +132,6 @@ public class AbstractJavaClassData extends AbstractJavaStructureData implements
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getFields())
-				.append(this.getConstructors())
-				.append(this.getStaticInits())
-				.append(this.getInstanceInits())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(AbstractJavaClass.class);
@@ -30,7 +30,6 @@ import org.jannocessor.model.executable.JavaStaticInit;
 import org.jannocessor.model.executable.JavaInstanceInit;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -56,7 +55,9 @@ public class AbstractJavaEnumData extends AbstractJavaStructureData implements A
 
 
     public AbstractJavaEnum copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaEnumData copy = new AbstractJavaEnumData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaEnumConstant> getValues() {
@@ -99,6 +100,15 @@ public class AbstractJavaEnumData extends AbstractJavaStructureData implements A
         this.instanceInits = value;
     }
 
+    public void copyFrom(AbstractJavaEnum source) {
+        super.copyFrom(source);
+        this.values = ModelUtils.parentedList(ModelUtils.copyList(source.getValues()), this);
+        this.fields = ModelUtils.parentedList(ModelUtils.copyList(source.getFields()), this);
+        this.constructors = ModelUtils.parentedList(ModelUtils.copyList(source.getConstructors()), this);
+        this.staticInits = ModelUtils.parentedList(ModelUtils.copyList(source.getStaticInits()), this);
+        this.instanceInits = ModelUtils.parentedList(ModelUtils.copyList(source.getInstanceInits()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -122,17 +132,6 @@ public class AbstractJavaEnumData extends AbstractJavaStructureData implements A
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getValues())
-				.append(this.getFields())
-				.append(this.getConstructors())
-				.append(this.getStaticInits())
-				.append(this.getInstanceInits())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(AbstractJavaEnum.class);
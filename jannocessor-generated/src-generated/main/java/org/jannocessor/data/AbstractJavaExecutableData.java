@@ -26,7 +26,6 @@ import org.jannocessor.model.code.JavaBody;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaStructure;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class AbstractJavaExecutableData extends JavaElementData implements Abstr
 
 
     public AbstractJavaExecutable copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaExecutableData copy = new AbstractJavaExecutableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public JavaBody getBody() {
@@ -60,6 +61,11 @@ public class AbstractJavaExecutableData extends JavaElementData implements Abstr
         return super.retrieveParent();
     }
 
+    public void copyFrom(AbstractJavaExecutable source) {
+        super.copyFrom(source);
+        this.body = ModelUtils.copyValue(source.getBody());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -79,13 +85,6 @@ public class AbstractJavaExecutableData extends JavaElementData implements Abstr
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getBody())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(AbstractJavaExecutable.class);
@@ -27,7 +27,6 @@ import org.jannocessor.model.structure.JavaTypeParameter;
 import org.jannocessor.model.variable.JavaField;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -47,7 +46,9 @@ public class AbstractJavaInterfaceData extends AbstractJavaStructureData impleme
 
 
     public AbstractJavaInterface copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaInterfaceData copy = new AbstractJavaInterfaceData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaTypeParameter> getTypeParameters() {
@@ -66,6 +67,12 @@ public class AbstractJavaInterfaceData extends AbstractJavaStructureData impleme
         this.fields = value;
     }
 
+    public void copyFrom(AbstractJavaInterface source) {
+        super.copyFrom(source);
+        this.typeParameters = ModelUtils.parentedList(ModelUtils.copyList(source.getTypeParameters()), this);
+        this.fields = ModelUtils.parentedList(ModelUtils.copyList(source.getFields()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -86,14 +93,6 @@ public class AbstractJavaInterfaceData extends AbstractJavaStructureData impleme
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getFields())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(AbstractJavaInterface.class);
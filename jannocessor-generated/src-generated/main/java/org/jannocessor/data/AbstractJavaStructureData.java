@@ -34,7 +34,7 @@ import org.jannocessor.model.structure.JavaNestedAnnotation;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.JavaElement;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -72,7 +72,9 @@ public class AbstractJavaStructureData extends JavaElementData implements Abstra
 
 
     public AbstractJavaStructure copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaStructureData copy = new AbstractJavaStructureData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public String getNesting() {
@@ -168,6 +170,21 @@ public class AbstractJavaStructureData extends JavaElementData implements Abstra
         return super.retrieveParent();
     }
 
+    public void copyFrom(AbstractJavaStructure source) {
+        super.copyFrom(source);
+        this.nesting = ModelUtils.copyValue(source.getNesting());
+        this.qualifiedName = ModelUtils.copyValue(source.getQualifiedName());
+        this.superclass = ModelUtils.copyValue(source.getSuperclass());
+        this.metadata = ModelUtils.parentedList(ModelUtils.copyList(source.getMetadata()), this);
+        this.allMetadata = ModelUtils.parentedList(ModelUtils.copyList(source.getAllMetadata()), this);
+        this.interfaces = ModelUtils.parentedList(ModelUtils.copyList(source.getInterfaces()), this);
+        this.methods = ModelUtils.parentedList(ModelUtils.copyList(source.getMethods()), this);
+        this.nestedClasses = ModelUtils.parentedList(ModelUtils.copyList(source.getNestedClasses()), this);
+        this.nestedEnums = ModelUtils.parentedList(ModelUtils.copyList(source.getNestedEnums()), this);
+        this.nestedInterfaces = ModelUtils.parentedList(ModelUtils.copyList(source.getNestedInterfaces()), this);
+        this.nestedAnnotations = ModelUtils.parentedList(ModelUtils.copyList(source.getNestedAnnotations()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -198,20 +215,10 @@ public class AbstractJavaStructureData extends JavaElementData implements Abstra
 	}
 
 	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getNesting())
-				.append(this.getQualifiedName())
-				.append(this.getSuperclass())
-				.append(this.getMetadata())
-				.append(this.getAllMetadata())
-				.append(this.getInterfaces())
-				.append(this.getMethods())
-				.append(this.getNestedClasses())
-				.append(this.getNestedEnums())
-				.append(this.getNestedInterfaces())
-				.append(this.getNestedAnnotations())
-				.toHashCode();
+	protected int calculateHashCode() {
+		int hash = super.calculateHashCode();
+		hash = 37 * hash + ObjectUtils.hashCode(this.getQualifiedName());
+		return hash;
 	}
 
 	@Override
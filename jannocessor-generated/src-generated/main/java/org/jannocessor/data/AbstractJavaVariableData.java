@@ -25,7 +25,6 @@ import org.jannocessor.model.variable.AbstractJavaVariable;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.JavaElement;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -40,7 +39,9 @@ public class AbstractJavaVariableData extends JavaElementData implements Abstrac
 
 
     public AbstractJavaVariable copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaVariableData copy = new AbstractJavaVariableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     @Override
@@ -48,6 +49,10 @@ public class AbstractJavaVariableData extends JavaElementData implements Abstrac
         return super.retrieveParent();
     }
 
+    public void copyFrom(AbstractJavaVariable source) {
+        super.copyFrom(source);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -66,12 +71,6 @@ public class AbstractJavaVariableData extends JavaElementData implements Abstrac
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(AbstractJavaVariable.class);
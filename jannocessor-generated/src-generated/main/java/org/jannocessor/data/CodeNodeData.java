@@ -25,7 +25,6 @@ import org.jannocessor.model.ParentedElement;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -47,7 +46,9 @@ public class CodeNodeData extends AbstractDataRoot implements CodeNode, Parented
 	}
 
     public CodeNode copy() {
-        return ModelUtils.copy(this);
+        CodeNodeData copy = new CodeNodeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public CodeNode getParent() {
@@ -62,6 +63,9 @@ public class CodeNodeData extends AbstractDataRoot implements CodeNode, Parented
         return ModelUtils.getChildren(this);
     }
 
+    public void copyFrom(CodeNode source) {
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -79,10 +83,17 @@ public class CodeNodeData extends AbstractDataRoot implements CodeNode, Parented
 				.isEquals();
 	}
 
+	/**
+	 * The same hash code as the proxies', from the kinds and the names only.
+	 */
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		return calculateHashCode();
+	}
+
+	protected int calculateHashCode() {
+		int hash = 17;
+		return hash;
 	}
 
 	@Override
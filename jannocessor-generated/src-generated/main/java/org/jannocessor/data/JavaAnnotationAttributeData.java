@@ -25,7 +25,6 @@ import org.jannocessor.model.structure.JavaAnnotationAttribute;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaAnnotation;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -43,7 +42,9 @@ public class JavaAnnotationAttributeData extends JavaElementData implements Java
 
 
     public JavaAnnotationAttribute copy() {
-        return ModelUtils.copy(this);
+        JavaAnnotationAttributeData copy = new JavaAnnotationAttributeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public Object getDefaultValue() {
@@ -59,6 +60,11 @@ public class JavaAnnotationAttributeData extends JavaElementData implements Java
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaAnnotationAttribute source) {
+        super.copyFrom(source);
+        this.defaultValue = ModelUtils.copyValue(source.getDefaultValue());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -78,13 +84,6 @@ public class JavaAnnotationAttributeData extends JavaElementData implements Java
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getDefaultValue())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaAnnotationAttribute.class);
@@ -25,7 +25,6 @@ import org.jannocessor.model.type.JavaArrayType;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -43,7 +42,9 @@ public class JavaArrayTypeData extends JavaTypeData implements JavaArrayType {
 
 
     public JavaArrayType copy() {
-        return ModelUtils.copy(this);
+        JavaArrayTypeData copy = new JavaArrayTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public JavaType getComponentType() {
@@ -54,6 +55,11 @@ public class JavaArrayTypeData extends JavaTypeData implements JavaArrayType {
         this.componentType = value;
     }
 
+    public void copyFrom(JavaArrayType source) {
+        super.copyFrom(source);
+        this.componentType = ModelUtils.copyValue(source.getComponentType());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -73,13 +79,6 @@ public class JavaArrayTypeData extends JavaTypeData implements JavaArrayType {
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getComponentType())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaArrayType.class);
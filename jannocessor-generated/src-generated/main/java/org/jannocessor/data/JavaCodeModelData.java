@@ -25,7 +25,6 @@ import org.jannocessor.model.JavaCodeModel;
 import org.jannocessor.model.code.SourceCode;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class JavaCodeModelData extends CodeNodeData implements JavaCodeModel {
     private SourceCode extraCode;
 
     public JavaCodeModel copy() {
-        return ModelUtils.copy(this);
+        JavaCodeModelData copy = new JavaCodeModelData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public SourceCode getCode() {
@@ -63,6 +64,12 @@ public class JavaCodeModelData extends CodeNodeData implements JavaCodeModel {
         this.extraCode = value;
     }
 
+    public void copyFrom(JavaCodeModel source) {
+        super.copyFrom(source);
+        this.code = ModelUtils.copyValue(source.getCode());
+        this.extraCode = ModelUtils.copyValue(source.getExtraCode());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -83,14 +90,6 @@ public class JavaCodeModelData extends CodeNodeData implements JavaCodeModel {
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getCode())
-				.append(this.getExtraCode())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaCodeModel.class);
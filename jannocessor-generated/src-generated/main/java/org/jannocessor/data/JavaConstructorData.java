@@ -30,7 +30,6 @@ import org.jannocessor.model.modifier.ConstructorModifiers;
 import org.jannocessor.model.structure.JavaMetadata;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -58,7 +57,9 @@ public class JavaConstructorData extends AbstractJavaExecutableData implements J
 
 
     public JavaConstructor copy() {
-        return ModelUtils.copy(this);
+        JavaConstructorData copy = new JavaConstructorData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaTypeParameter> getTypeParameters() {
@@ -113,6 +114,16 @@ public class JavaConstructorData extends AbstractJavaExecutableData implements J
         this.metadata = value;
     }
 
+    public void copyFrom(JavaConstructor source) {
+        super.copyFrom(source);
+        this.typeParameters = ModelUtils.parentedList(ModelUtils.copyList(source.getTypeParameters()), this);
+        this.parameters = ModelUtils.parentedList(ModelUtils.copyList(source.getParameters()), this);
+        this._isVarArgs = ModelUtils.copyValue(source.isVarArgs());
+        this.thrownTypes = ModelUtils.parentedList(ModelUtils.copyList(source.getThrownTypes()), this);
+        this.modifiers = ModelUtils.copyValue(source.getModifiers());
+        this.metadata = ModelUtils.parentedList(ModelUtils.copyList(source.getMetadata()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -137,18 +148,6 @@ public class JavaConstructorData extends AbstractJavaExecutableData implements J
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getParameters())
-				.append(this.isVarArgs())
-				.append(this.getThrownTypes())
-				.append(this.getModifiers())
-				.append(this.getMetadata())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaConstructor.class);
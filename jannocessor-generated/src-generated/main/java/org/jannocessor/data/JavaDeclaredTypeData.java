@@ -26,7 +26,6 @@ import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class JavaDeclaredTypeData extends JavaTypeData implements JavaDeclaredTy
 
 
     public JavaDeclaredType copy() {
-        return ModelUtils.copy(this);
+        JavaDeclaredTypeData copy = new JavaDeclaredTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaType> getTypeArguments() {
@@ -55,6 +56,11 @@ public class JavaDeclaredTypeData extends JavaTypeData implements JavaDeclaredTy
         this.typeArguments = value;
     }
 
+    public void copyFrom(JavaDeclaredType source) {
+        super.copyFrom(source);
+        this.typeArguments = ModelUtils.parentedList(ModelUtils.copyList(source.getTypeArguments()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -74,13 +80,6 @@ public class JavaDeclaredTypeData extends JavaTypeData implements JavaDeclaredTy
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeArguments())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaDeclaredType.class);
@@ -27,7 +27,7 @@ import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.JavaElementKind;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -49,7 +49,9 @@ public class JavaElementData extends JavaCodeModelData implements JavaElement {
 
 
     public JavaElement copy() {
-        return ModelUtils.copy(this);
+        JavaElementData copy = new JavaElementData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public Name getName() {
@@ -76,6 +78,13 @@ public class JavaElementData extends JavaCodeModelData implements JavaElement {
         this.kind = value;
     }
 
+    public void copyFrom(JavaElement source) {
+        super.copyFrom(source);
+        this.name = ModelUtils.copyValue(source.getName());
+        this.type = ModelUtils.copyValue(source.getType());
+        this.kind = ModelUtils.copyValue(source.getKind());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -98,12 +107,11 @@ public class JavaElementData extends JavaCodeModelData implements JavaElement {
 	}
 
 	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getName())
-				.append(this.getType())
-				.append(this.getKind())
-				.toHashCode();
+	protected int calculateHashCode() {
+		int hash = super.calculateHashCode();
+		hash = 37 * hash + ObjectUtils.hashCode(this.getName());
+		hash = 37 * hash + ObjectUtils.hashCode(this.getKind());
+		return hash;
 	}
 
 	@Override
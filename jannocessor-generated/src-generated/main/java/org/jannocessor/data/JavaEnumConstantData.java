@@ -27,7 +27,6 @@ import org.jannocessor.model.code.JavaExpression;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaEnum;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -45,7 +44,9 @@ public class JavaEnumConstantData extends AbstractJavaVariableData implements Ja
 
 
     public JavaEnumConstant copy() {
-        return ModelUtils.copy(this);
+        JavaEnumConstantData copy = new JavaEnumConstantData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaExpression> getValues() {
@@ -61,6 +62,11 @@ public class JavaEnumConstantData extends AbstractJavaVariableData implements Ja
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaEnumConstant source) {
+        super.copyFrom(source);
+        this.values = ModelUtils.parentedList(ModelUtils.copyList(source.getValues()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -80,13 +86,6 @@ public class JavaEnumConstantData extends AbstractJavaVariableData implements Ja
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getValues())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaEnumConstant.class);
@@ -24,7 +24,6 @@ import org.jannocessor.data.AbstractJavaVariableData;
 import org.jannocessor.model.variable.JavaExceptionParameter;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -39,7 +38,13 @@ public class JavaExceptionParameterData extends AbstractJavaVariableData impleme
 
 
     public JavaExceptionParameter copy() {
-        return ModelUtils.copy(this);
+        JavaExceptionParameterData copy = new JavaExceptionParameterData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
+    }
+
+    public void copyFrom(JavaExceptionParameter source) {
+        super.copyFrom(source);
     }
 
 	@Override
@@ -60,12 +65,6 @@ public class JavaExceptionParameterData extends AbstractJavaVariableData impleme
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaExceptionParameter.class);
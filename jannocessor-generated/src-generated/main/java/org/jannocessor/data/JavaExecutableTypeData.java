@@ -28,7 +28,6 @@ import org.jannocessor.model.type.JavaDeclaredType;
 import org.jannocessor.model.type.JavaTypeVariable;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -52,7 +51,9 @@ public class JavaExecutableTypeData extends JavaTypeData implements JavaExecutab
 
 
     public JavaExecutableType copy() {
-        return ModelUtils.copy(this);
+        JavaExecutableTypeData copy = new JavaExecutableTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaType> getParameterTypes() {
@@ -87,6 +88,14 @@ public class JavaExecutableTypeData extends JavaTypeData implements JavaExecutab
         this.typeVariables = value;
     }
 
+    public void copyFrom(JavaExecutableType source) {
+        super.copyFrom(source);
+        this.parameterTypes = ModelUtils.parentedList(ModelUtils.copyList(source.getParameterTypes()), this);
+        this.returnType = ModelUtils.copyValue(source.getReturnType());
+        this.thrownTypes = ModelUtils.parentedList(ModelUtils.copyList(source.getThrownTypes()), this);
+        this.typeVariables = ModelUtils.parentedList(ModelUtils.copyList(source.getTypeVariables()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -109,16 +118,6 @@ public class JavaExecutableTypeData extends JavaTypeData implements JavaExecutab
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getParameterTypes())
-				.append(this.getReturnType())
-				.append(this.getThrownTypes())
-				.append(this.getTypeVariables())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaExecutableType.class);
@@ -29,7 +29,6 @@ import org.jannocessor.model.structure.JavaMetadata;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaStructure;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -51,7 +50,9 @@ public class JavaFieldData extends AbstractJavaVariableData implements JavaField
 
 
     public JavaField copy() {
-        return ModelUtils.copy(this);
+        JavaFieldData copy = new JavaFieldData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public FieldModifiers getModifiers() {
@@ -83,6 +84,13 @@ public class JavaFieldData extends AbstractJavaVariableData implements JavaField
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaField source) {
+        super.copyFrom(source);
+        this.modifiers = ModelUtils.copyValue(source.getModifiers());
+        this.value = ModelUtils.copyValue(source.getValue());
+        this.metadata = ModelUtils.parentedList(ModelUtils.copyList(source.getMetadata()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -104,15 +112,6 @@ public class JavaFieldData extends AbstractJavaVariableData implements JavaField
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.append(this.getValue())
-				.append(this.getMetadata())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaField.class);
@@ -24,7 +24,6 @@ import org.jannocessor.data.AbstractJavaExecutableData;
 import org.jannocessor.model.executable.JavaInstanceInit;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -39,7 +38,13 @@ public class JavaInstanceInitData extends AbstractJavaExecutableData implements
 
 
     public JavaInstanceInit copy() {
-        return ModelUtils.copy(this);
+        JavaInstanceInitData copy = new JavaInstanceInitData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
+    }
+
+    public void copyFrom(JavaInstanceInit source) {
+        super.copyFrom(source);
     }
 
 	@Override
@@ -60,12 +65,6 @@ public class JavaInstanceInitData extends AbstractJavaExecutableData implements
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaInstanceInit.class);
@@ -26,7 +26,6 @@ import org.jannocessor.model.modifier.InterfaceModifiers;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.JavaPackage;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class JavaInterfaceData extends AbstractJavaInterfaceData implements Java
 
 
     public JavaInterface copy() {
-        return ModelUtils.copy(this);
+        JavaInterfaceData copy = new JavaInterfaceData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public InterfaceModifiers getModifiers() {
@@ -60,6 +61,11 @@ public class JavaInterfaceData extends AbstractJavaInterfaceData implements Java
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaInterface source) {
+        super.copyFrom(source);
+        this.modifiers = ModelUtils.copyValue(source.getModifiers());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -79,13 +85,6 @@ public class JavaInterfaceData extends AbstractJavaInterfaceData implements Java
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaInterface.class);
@@ -25,7 +25,6 @@ import org.jannocessor.model.variable.JavaLocalVariable;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.executable.AbstractJavaExecutable;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -43,7 +42,9 @@ public class JavaLocalVariableData extends AbstractJavaVariableData implements J
 
 
     public JavaLocalVariable copy() {
-        return ModelUtils.copy(this);
+        JavaLocalVariableData copy = new JavaLocalVariableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public Boolean isFinal() {
@@ -59,6 +60,11 @@ public class JavaLocalVariableData extends AbstractJavaVariableData implements J
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaLocalVariable source) {
+        super.copyFrom(source);
+        this._isFinal = ModelUtils.copyValue(source.isFinal());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -78,13 +84,6 @@ public class JavaLocalVariableData extends AbstractJavaVariableData implements J
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.isFinal())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaLocalVariable.class);
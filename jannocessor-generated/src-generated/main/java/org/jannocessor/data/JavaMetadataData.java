@@ -27,7 +27,6 @@ import org.jannocessor.collection.api.PowerMap;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.JavaElement;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -47,7 +46,9 @@ public class JavaMetadataData extends JavaCodeModelData implements JavaMetadata
 
 
     public JavaMetadata copy() {
-        return ModelUtils.copy(this);
+        JavaMetadataData copy = new JavaMetadataData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public JavaType getAnnotation() {
@@ -71,6 +72,12 @@ public class JavaMetadataData extends JavaCodeModelData implements JavaMetadata
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaMetadata source) {
+        super.copyFrom(source);
+        this.annotation = ModelUtils.copyValue(source.getAnnotation());
+        this.values = ModelUtils.copyValue(source.getValues());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -91,14 +98,6 @@ public class JavaMetadataData extends JavaCodeModelData implements JavaMetadata
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getAnnotation())
-				.append(this.getValues())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaMetadata.class);
@@ -30,7 +30,6 @@ import org.jannocessor.model.modifier.MethodModifiers;
 import org.jannocessor.model.structure.JavaMetadata;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -60,7 +59,9 @@ public class JavaMethodData extends AbstractJavaExecutableData implements JavaMe
 
 
     public JavaMethod copy() {
-        return ModelUtils.copy(this);
+        JavaMethodData copy = new JavaMethodData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaTypeParameter> getTypeParameters() {
@@ -119,6 +120,17 @@ public class JavaMethodData extends AbstractJavaExecutableData implements JavaMe
         this.metadata = value;
     }
 
+    public void copyFrom(JavaMethod source) {
+        super.copyFrom(source);
+        this.typeParameters = ModelUtils.parentedList(ModelUtils.copyList(source.getTypeParameters()), this);
+        this.returnType = ModelUtils.copyValue(source.getReturnType());
+        this.parameters = ModelUtils.parentedList(ModelUtils.copyList(source.getParameters()), this);
+        this._isVarArgs = ModelUtils.copyValue(source.isVarArgs());
+        this.thrownTypes = ModelUtils.parentedList(ModelUtils.copyList(source.getThrownTypes()), this);
+        this.modifiers = ModelUtils.copyValue(source.getModifiers());
+        this.metadata = ModelUtils.parentedList(ModelUtils.copyList(source.getMetadata()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -144,19 +156,6 @@ public class JavaMethodData extends AbstractJavaExecutableData implements JavaMe
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getReturnType())
-				.append(this.getParameters())
-				.append(this.isVarArgs())
-				.append(this.getThrownTypes())
-				.append(this.getModifiers())
-				.append(this.getMetadata())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaMethod.class);
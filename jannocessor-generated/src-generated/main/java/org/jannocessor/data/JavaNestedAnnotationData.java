@@ -26,7 +26,6 @@ import org.jannocessor.model.modifier.NestedAnnotationModifiers;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaStructure;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class JavaNestedAnnotationData extends AbstractJavaAnnotationData impleme
 
 
     public JavaNestedAnnotation copy() {
-        return ModelUtils.copy(this);
+        JavaNestedAnnotationData copy = new JavaNestedAnnotationData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public NestedAnnotationModifiers getModifiers() {
@@ -60,6 +61,11 @@ public class JavaNestedAnnotationData extends AbstractJavaAnnotationData impleme
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaNestedAnnotation source) {
+        super.copyFrom(source);
+        this.modifiers = ModelUtils.copyValue(source.getModifiers());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -79,13 +85,6 @@ public class JavaNestedAnnotationData extends AbstractJavaAnnotationData impleme
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaNestedAnnotation.class);
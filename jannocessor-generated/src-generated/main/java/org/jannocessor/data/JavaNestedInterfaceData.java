@@ -26,7 +26,6 @@ import org.jannocessor.model.modifier.NestedInterfaceModifiers;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaStructure;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -44,7 +43,9 @@ public class JavaNestedInterfaceData extends AbstractJavaInterfaceData implement
 
 
     public JavaNestedInterface copy() {
-        return ModelUtils.copy(this);
+        JavaNestedInterfaceData copy = new JavaNestedInterfaceData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public NestedInterfaceModifiers getModifiers() {
@@ -60,6 +61,11 @@ public class JavaNestedInterfaceData extends AbstractJavaInterfaceData implement
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaNestedInterface source) {
+        super.copyFrom(source);
+        this.modifiers = ModelUtils.copyValue(source.getModifiers());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -79,13 +85,6 @@ public class JavaNestedInterfaceData extends AbstractJavaInterfaceData implement
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaNestedInterface.class);
@@ -29,7 +29,6 @@ import org.jannocessor.model.structure.JavaEnum;
 import org.jannocessor.model.structure.JavaAnnotation;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -53,7 +52,9 @@ public class JavaPackageData extends JavaElementData implements JavaPackage {
 
 
     public JavaPackage copy() {
-        return ModelUtils.copy(this);
+        JavaPackageData copy = new JavaPackageData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaInterface> getInterfaces() {
@@ -88,6 +89,14 @@ public class JavaPackageData extends JavaElementData implements JavaPackage {
         this.annotations = value;
     }
 
+    public void copyFrom(JavaPackage source) {
+        super.copyFrom(source);
+        this.interfaces = ModelUtils.parentedList(ModelUtils.copyList(source.getInterfaces()), this);
+        this.classes = ModelUtils.parentedList(ModelUtils.copyList(source.getClasses()), this);
+        this.enums = ModelUtils.parentedList(ModelUtils.copyList(source.getEnums()), this);
+        this.annotations = ModelUtils.parentedList(ModelUtils.copyList(source.getAnnotations()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -110,16 +119,6 @@ public class JavaPackageData extends JavaElementData implements JavaPackage {
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getInterfaces())
-				.append(this.getClasses())
-				.append(this.getEnums())
-				.append(this.getAnnotations())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaPackage.class);
@@ -27,7 +27,6 @@ import org.jannocessor.model.structure.JavaMetadata;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.executable.AbstractJavaExecutable;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -47,7 +46,9 @@ public class JavaParameterData extends AbstractJavaVariableData implements JavaP
 
 
     public JavaParameter copy() {
-        return ModelUtils.copy(this);
+        JavaParameterData copy = new JavaParameterData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public boolean isFinal() {
@@ -71,6 +72,12 @@ public class JavaParameterData extends AbstractJavaVariableData implements JavaP
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaParameter source) {
+        super.copyFrom(source);
+        this._isFinal = ModelUtils.copyValue(source.isFinal());
+        this.metadata = ModelUtils.parentedList(ModelUtils.copyList(source.getMetadata()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -91,14 +98,6 @@ public class JavaParameterData extends AbstractJavaVariableData implements JavaP
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.isFinal())
-				.append(this.getMetadata())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaParameter.class);
@@ -24,7 +24,6 @@ import org.jannocessor.data.JavaTypeData;
 import org.jannocessor.model.type.JavaPrimitiveType;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -39,7 +38,13 @@ public class JavaPrimitiveTypeData extends JavaTypeData implements JavaPrimitive
 
 
     public JavaPrimitiveType copy() {
-        return ModelUtils.copy(this);
+        JavaPrimitiveTypeData copy = new JavaPrimitiveTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
+    }
+
+    public void copyFrom(JavaPrimitiveType source) {
+        super.copyFrom(source);
     }
 
 	@Override
@@ -60,12 +65,6 @@ public class JavaPrimitiveTypeData extends JavaTypeData implements JavaPrimitive
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaPrimitiveType.class);
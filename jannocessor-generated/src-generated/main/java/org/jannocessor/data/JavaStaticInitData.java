@@ -24,7 +24,6 @@ import org.jannocessor.data.AbstractJavaExecutableData;
 import org.jannocessor.model.executable.JavaStaticInit;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -39,7 +38,13 @@ public class JavaStaticInitData extends AbstractJavaExecutableData implements Ja
 
 
     public JavaStaticInit copy() {
-        return ModelUtils.copy(this);
+        JavaStaticInitData copy = new JavaStaticInitData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
+    }
+
+    public void copyFrom(JavaStaticInit source) {
+        super.copyFrom(source);
     }
 
 	@Override
@@ -60,12 +65,6 @@ public class JavaStaticInitData extends AbstractJavaExecutableData implements Ja
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaStaticInit.class);
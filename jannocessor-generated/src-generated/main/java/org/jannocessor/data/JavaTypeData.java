@@ -26,7 +26,7 @@ import org.jannocessor.model.Name;
 import org.jannocessor.model.type.JavaTypeKind;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -52,7 +52,9 @@ public class JavaTypeData extends JavaCodeModelData implements JavaType {
 
 
     public JavaType copy() {
-        return ModelUtils.copy(this);
+        JavaTypeData copy = new JavaTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public Class<?> getTypeClass() {
@@ -99,6 +101,15 @@ public class JavaTypeData extends JavaCodeModelData implements JavaType {
         this.kind = value;
     }
 
+    public void copyFrom(JavaType source) {
+        super.copyFrom(source);
+        this.typeClass = ModelUtils.copyValue(source.getTypeClass());
+        this.simpleName = ModelUtils.copyValue(source.getSimpleName());
+        this.packageName = ModelUtils.copyValue(source.getPackageName());
+        this.defaultValue = ModelUtils.copyValue(source.getDefaultValue());
+        this.kind = ModelUtils.copyValue(source.getKind());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -123,14 +134,11 @@ public class JavaTypeData extends JavaCodeModelData implements JavaType {
 	}
 
 	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeClass())
-				.append(this.getSimpleName())
-				.append(this.getPackageName())
-				.append(this.getDefaultValue())
-				.append(this.getKind())
-				.toHashCode();
+	protected int calculateHashCode() {
+		int hash = super.calculateHashCode();
+		hash = 37 * hash + ObjectUtils.hashCode(this.getSimpleName());
+		hash = 37 * hash + ObjectUtils.hashCode(this.getKind());
+		return hash;
 	}
 
 	@Override
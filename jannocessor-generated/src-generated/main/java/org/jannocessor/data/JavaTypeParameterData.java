@@ -27,7 +27,6 @@ import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.JavaElement;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -45,7 +44,9 @@ public class JavaTypeParameterData extends JavaElementData implements JavaTypePa
 
 
     public JavaTypeParameter copy() {
-        return ModelUtils.copy(this);
+        JavaTypeParameterData copy = new JavaTypeParameterData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public PowerList<JavaType> getBounds() {
@@ -61,6 +62,11 @@ public class JavaTypeParameterData extends JavaElementData implements JavaTypePa
         return super.retrieveParent();
     }
 
+    public void copyFrom(JavaTypeParameter source) {
+        super.copyFrom(source);
+        this.bounds = ModelUtils.parentedList(ModelUtils.copyList(source.getBounds()), this);
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -80,13 +86,6 @@ public class JavaTypeParameterData extends JavaElementData implements JavaTypePa
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getBounds())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaTypeParameter.class);
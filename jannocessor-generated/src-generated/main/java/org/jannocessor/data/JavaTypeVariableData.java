@@ -25,7 +25,6 @@ import org.jannocessor.model.type.JavaTypeVariable;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -45,7 +44,9 @@ public class JavaTypeVariableData extends JavaTypeData implements JavaTypeVariab
 
 
     public JavaTypeVariable copy() {
-        return ModelUtils.copy(this);
+        JavaTypeVariableData copy = new JavaTypeVariableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public JavaType getUpperBound() {
@@ -64,6 +65,12 @@ public class JavaTypeVariableData extends JavaTypeData implements JavaTypeVariab
         this.lowerBound = value;
     }
 
+    public void copyFrom(JavaTypeVariable source) {
+        super.copyFrom(source);
+        this.upperBound = ModelUtils.copyValue(source.getUpperBound());
+        this.lowerBound = ModelUtils.copyValue(source.getLowerBound());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -84,14 +91,6 @@ public class JavaTypeVariableData extends JavaTypeData implements JavaTypeVariab
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getUpperBound())
-				.append(this.getLowerBound())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaTypeVariable.class);
@@ -24,7 +24,6 @@ import org.jannocessor.data.JavaTypeData;
 import org.jannocessor.model.type.JavaVoidType;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import java.io.ObjectOutputStream;
@@ -39,7 +38,13 @@ public class JavaVoidTypeData extends JavaTypeData implements JavaVoidType {
 
 
     public JavaVoidType copy() {
-        return ModelUtils.copy(this);
+        JavaVoidTypeData copy = new JavaVoidTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
+    }
+
+    public void copyFrom(JavaVoidType source) {
+        super.copyFrom(source);
     }
 
 	@Override
@@ -60,12 +65,6 @@ public class JavaVoidTypeData extends JavaTypeData implements JavaVoidType {
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaVoidType.class);
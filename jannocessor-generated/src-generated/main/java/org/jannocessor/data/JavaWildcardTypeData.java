@@ -25,7 +25,6 @@ import org.jannocessor.model.type.JavaWildcardType;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.util.ModelUtils;
 import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -45,7 +44,9 @@ public class JavaWildcardTypeData extends JavaTypeData implements JavaWildcardTy
 
 
     public JavaWildcardType copy() {
-        return ModelUtils.copy(this);
+        JavaWildcardTypeData copy = new JavaWildcardTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
     public JavaType getExtendsBound() {
@@ -64,6 +65,12 @@ public class JavaWildcardTypeData extends JavaTypeData implements JavaWildcardTy
         this.superBound = value;
     }
 
+    public void copyFrom(JavaWildcardType source) {
+        super.copyFrom(source);
+        this.extendsBound = ModelUtils.copyValue(source.getExtendsBound());
+        this.superBound = ModelUtils.copyValue(source.getSuperBound());
+    }
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null) {
@@ -84,14 +91,6 @@ public class JavaWildcardTypeData extends JavaTypeData implements JavaWildcardTy
 				.isEquals();
 	}
 
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getExtendsBound())
-				.append(this.getSuperBound())
-				.toHashCode();
-	}
-
 	@Override
 	public String toString() {
 		TypeSpecificStyle style = new TypeSpecificStyle(JavaWildcardType.class);
@@ -26,8 +26,7 @@ import org.jannocessor.data.AbstractJavaAnnotationData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.structure.JavaAnnotationAttribute;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class AbstractJavaAnnotationProxy extends AbstractJavaStructureProxy impl
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaAnnotation adapter;
+    private final transient AbstractJavaAnnotation adapter;
 
-    private AbstractJavaAnnotationData data;
+    private final AbstractJavaAnnotationData data;
 
     public AbstractJavaAnnotationProxy(AbstractJavaAnnotation adapter, AbstractJavaAnnotationData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class AbstractJavaAnnotationProxy extends AbstractJavaStructureProxy impl
         this.data = data;
     }
 
-	private boolean getAttributesInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaStructureProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_ATTRIBUTES_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public AbstractJavaAnnotation copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaAnnotationData copy = new AbstractJavaAnnotationData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaAnnotationAttribute> getAttributes() {
-        if (!getAttributesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_ATTRIBUTES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_ATTRIBUTES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setAttributes(ModelUtils.parentedList(adapter.getAttributes(), this));
+					initializedProperties |= GET_ATTRIBUTES_INITIALIZED;
+				}
 			}
-            data.setAttributes(ModelUtils.parentedList(adapter.getAttributes(), this));
-			getAttributesInitialized = true;
         }
 
         return data.getAttributes();
@@ -81,18 +88,14 @@ public class AbstractJavaAnnotationProxy extends AbstractJavaStructureProxy impl
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		AbstractJavaAnnotation other = (AbstractJavaAnnotation) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getAttributes(), other.getAttributes())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getAttributes())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getAttributes(), other.getAttributes())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -30,8 +30,7 @@ import org.jannocessor.model.variable.JavaField;
 import org.jannocessor.model.executable.JavaConstructor;
 import org.jannocessor.model.executable.JavaStaticInit;
 import org.jannocessor.model.executable.JavaInstanceInit;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -42,9 +41,9 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaClass adapter;
+    private final transient AbstractJavaClass adapter;
 
-    private AbstractJavaClassData data;
+    private final AbstractJavaClassData data;
 
     public AbstractJavaClassProxy(AbstractJavaClass adapter, AbstractJavaClassData data) {
         super(adapter, data);
@@ -52,30 +51,38 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
         this.data = data;
     }
 
-	private boolean getTypeParametersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaStructureProxy.LAZY_PROPERTIES + 5;
 
-	private boolean getFieldsInitialized = false;
+	private static final int GET_TYPE_PARAMETERS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getConstructorsInitialized = false;
+	private static final int GET_FIELDS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getStaticInitsInitialized = false;
+	private static final int GET_CONSTRUCTORS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 2);
 
-	private boolean getInstanceInitsInitialized = false;
+	private static final int GET_STATIC_INITS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 3);
+
+	private static final int GET_INSTANCE_INITS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 4);
 
 
 	@Override
     public AbstractJavaClass copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaClassData copy = new AbstractJavaClassData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaTypeParameter> getTypeParameters() {
-        if (!getTypeParametersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
+					initializedProperties |= GET_TYPE_PARAMETERS_INITIALIZED;
+				}
 			}
-            data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
-			getTypeParametersInitialized = true;
         }
 
         return data.getTypeParameters();
@@ -83,12 +90,16 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
 
 	@Override
     public PowerList<JavaField> getFields() {
-        if (!getFieldsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_FIELDS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_FIELDS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setFields(ModelUtils.parentedList(adapter.getFields(), this));
+					initializedProperties |= GET_FIELDS_INITIALIZED;
+				}
 			}
-            data.setFields(ModelUtils.parentedList(adapter.getFields(), this));
-			getFieldsInitialized = true;
         }
 
         return data.getFields();
@@ -96,12 +107,16 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
 
 	@Override
     public PowerList<JavaConstructor> getConstructors() {
-        if (!getConstructorsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_CONSTRUCTORS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_CONSTRUCTORS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setConstructors(ModelUtils.parentedList(adapter.getConstructors(), this));
+					initializedProperties |= GET_CONSTRUCTORS_INITIALIZED;
+				}
 			}
-            data.setConstructors(ModelUtils.parentedList(adapter.getConstructors(), this));
-			getConstructorsInitialized = true;
         }
 
         return data.getConstructors();
@@ -109,12 +124,16 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
 
 	@Override
     public PowerList<JavaStaticInit> getStaticInits() {
-        if (!getStaticInitsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_STATIC_INITS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_STATIC_INITS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setStaticInits(ModelUtils.parentedList(adapter.getStaticInits(), this));
+					initializedProperties |= GET_STATIC_INITS_INITIALIZED;
+				}
 			}
-            data.setStaticInits(ModelUtils.parentedList(adapter.getStaticInits(), this));
-			getStaticInitsInitialized = true;
         }
 
         return data.getStaticInits();
@@ -122,12 +141,16 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
 
 	@Override
     public PowerList<JavaInstanceInit> getInstanceInits() {
-        if (!getInstanceInitsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_INSTANCE_INITS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_INSTANCE_INITS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setInstanceInits(ModelUtils.parentedList(adapter.getInstanceInits(), this));
+					initializedProperties |= GET_INSTANCE_INITS_INITIALIZED;
+				}
 			}
-            data.setInstanceInits(ModelUtils.parentedList(adapter.getInstanceInits(), this));
-			getInstanceInitsInitialized = true;
         }
 
         return data.getInstanceInits();
@@ -145,26 +168,26 @@ public class AbstractJavaClassProxy extends AbstractJavaStructureProxy implement
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		AbstractJavaClass other = (AbstractJavaClass) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getTypeParameters(), other.getTypeParameters())
-				.append(this.getFields(), other.getFields())
-				.append(this.getConstructors(), other.getConstructors())
-				.append(this.getStaticInits(), other.getStaticInits())
-				.append(this.getInstanceInits(), other.getInstanceInits())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getFields())
-				.append(this.getConstructors())
-				.append(this.getStaticInits())
-				.append(this.getInstanceInits())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getTypeParameters(), other.getTypeParameters())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getFields(), other.getFields())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getConstructors(), other.getConstructors())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getStaticInits(), other.getStaticInits())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getInstanceInits(), other.getInstanceInits())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
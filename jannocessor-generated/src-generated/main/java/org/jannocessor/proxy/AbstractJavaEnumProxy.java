@@ -30,8 +30,7 @@ import org.jannocessor.model.variable.JavaField;
 import org.jannocessor.model.executable.JavaConstructor;
 import org.jannocessor.model.executable.JavaStaticInit;
 import org.jannocessor.model.executable.JavaInstanceInit;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -42,9 +41,9 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaEnum adapter;
+    private final transient AbstractJavaEnum adapter;
 
-    private AbstractJavaEnumData data;
+    private final AbstractJavaEnumData data;
 
     public AbstractJavaEnumProxy(AbstractJavaEnum adapter, AbstractJavaEnumData data) {
         super(adapter, data);
@@ -52,30 +51,38 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
         this.data = data;
     }
 
-	private boolean getValuesInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaStructureProxy.LAZY_PROPERTIES + 5;
 
-	private boolean getFieldsInitialized = false;
+	private static final int GET_VALUES_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getConstructorsInitialized = false;
+	private static final int GET_FIELDS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getStaticInitsInitialized = false;
+	private static final int GET_CONSTRUCTORS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 2);
 
-	private boolean getInstanceInitsInitialized = false;
+	private static final int GET_STATIC_INITS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 3);
+
+	private static final int GET_INSTANCE_INITS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 4);
 
 
 	@Override
     public AbstractJavaEnum copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaEnumData copy = new AbstractJavaEnumData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaEnumConstant> getValues() {
-        if (!getValuesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_VALUES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_VALUES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setValues(ModelUtils.parentedList(adapter.getValues(), this));
+					initializedProperties |= GET_VALUES_INITIALIZED;
+				}
 			}
-            data.setValues(ModelUtils.parentedList(adapter.getValues(), this));
-			getValuesInitialized = true;
         }
 
         return data.getValues();
@@ -83,12 +90,16 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
 
 	@Override
     public PowerList<JavaField> getFields() {
-        if (!getFieldsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_FIELDS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_FIELDS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setFields(ModelUtils.parentedList(adapter.getFields(), this));
+					initializedProperties |= GET_FIELDS_INITIALIZED;
+				}
 			}
-            data.setFields(ModelUtils.parentedList(adapter.getFields(), this));
-			getFieldsInitialized = true;
         }
 
         return data.getFields();
@@ -96,12 +107,16 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
 
 	@Override
     public PowerList<JavaConstructor> getConstructors() {
-        if (!getConstructorsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_CONSTRUCTORS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_CONSTRUCTORS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setConstructors(ModelUtils.parentedList(adapter.getConstructors(), this));
+					initializedProperties |= GET_CONSTRUCTORS_INITIALIZED;
+				}
 			}
-            data.setConstructors(ModelUtils.parentedList(adapter.getConstructors(), this));
-			getConstructorsInitialized = true;
         }
 
         return data.getConstructors();
@@ -109,12 +124,16 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
 
 	@Override
     public PowerList<JavaStaticInit> getStaticInits() {
-        if (!getStaticInitsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_STATIC_INITS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_STATIC_INITS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setStaticInits(ModelUtils.parentedList(adapter.getStaticInits(), this));
+					initializedProperties |= GET_STATIC_INITS_INITIALIZED;
+				}
 			}
-            data.setStaticInits(ModelUtils.parentedList(adapter.getStaticInits(), this));
-			getStaticInitsInitialized = true;
         }
 
         return data.getStaticInits();
@@ -122,12 +141,16 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
 
 	@Override
     public PowerList<JavaInstanceInit> getInstanceInits() {
-        if (!getInstanceInitsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_INSTANCE_INITS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_INSTANCE_INITS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setInstanceInits(ModelUtils.parentedList(adapter.getInstanceInits(), this));
+					initializedProperties |= GET_INSTANCE_INITS_INITIALIZED;
+				}
 			}
-            data.setInstanceInits(ModelUtils.parentedList(adapter.getInstanceInits(), this));
-			getInstanceInitsInitialized = true;
         }
 
         return data.getInstanceInits();
@@ -145,26 +168,26 @@ public class AbstractJavaEnumProxy extends AbstractJavaStructureProxy implements
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		AbstractJavaEnum other = (AbstractJavaEnum) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getValues(), other.getValues())
-				.append(this.getFields(), other.getFields())
-				.append(this.getConstructors(), other.getConstructors())
-				.append(this.getStaticInits(), other.getStaticInits())
-				.append(this.getInstanceInits(), other.getInstanceInits())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getValues())
-				.append(this.getFields())
-				.append(this.getConstructors())
-				.append(this.getStaticInits())
-				.append(this.getInstanceInits())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getValues(), other.getValues())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getFields(), other.getFields())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getConstructors(), other.getConstructors())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getStaticInits(), other.getStaticInits())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getInstanceInits(), other.getInstanceInits())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -26,8 +26,7 @@ import org.jannocessor.data.AbstractJavaExecutableData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.code.JavaBody;
 import org.jannocessor.model.structure.AbstractJavaStructure;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class AbstractJavaExecutableProxy extends JavaElementProxy implements Abs
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaExecutable adapter;
+    private final transient AbstractJavaExecutable adapter;
 
-    private AbstractJavaExecutableData data;
+    private final AbstractJavaExecutableData data;
 
     public AbstractJavaExecutableProxy(AbstractJavaExecutable adapter, AbstractJavaExecutableData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class AbstractJavaExecutableProxy extends JavaElementProxy implements Abs
         this.data = data;
     }
 
-	private boolean getBodyInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaElementProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_BODY_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public AbstractJavaExecutable copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaExecutableData copy = new AbstractJavaExecutableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public JavaBody getBody() {
-        if (!getBodyInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_BODY_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_BODY_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setBody(adapter.getBody());
+					initializedProperties |= GET_BODY_INITIALIZED;
+				}
 			}
-            data.setBody(adapter.getBody());
-			getBodyInitialized = true;
         }
 
         return data.getBody();
@@ -86,18 +93,14 @@ public class AbstractJavaExecutableProxy extends JavaElementProxy implements Abs
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		AbstractJavaExecutable other = (AbstractJavaExecutable) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getBody(), other.getBody())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getBody())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getBody(), other.getBody())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -27,8 +27,7 @@ import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.structure.JavaTypeParameter;
 import org.jannocessor.model.variable.JavaField;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -39,9 +38,9 @@ public class AbstractJavaInterfaceProxy extends AbstractJavaStructureProxy imple
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaInterface adapter;
+    private final transient AbstractJavaInterface adapter;
 
-    private AbstractJavaInterfaceData data;
+    private final AbstractJavaInterfaceData data;
 
     public AbstractJavaInterfaceProxy(AbstractJavaInterface adapter, AbstractJavaInterfaceData data) {
         super(adapter, data);
@@ -49,24 +48,32 @@ public class AbstractJavaInterfaceProxy extends AbstractJavaStructureProxy imple
         this.data = data;
     }
 
-	private boolean getTypeParametersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaStructureProxy.LAZY_PROPERTIES + 2;
 
-	private boolean getFieldsInitialized = false;
+	private static final int GET_TYPE_PARAMETERS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 0);
+
+	private static final int GET_FIELDS_INITIALIZED = 1 << (AbstractJavaStructureProxy.LAZY_PROPERTIES + 1);
 
 
 	@Override
     public AbstractJavaInterface copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaInterfaceData copy = new AbstractJavaInterfaceData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaTypeParameter> getTypeParameters() {
-        if (!getTypeParametersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
+					initializedProperties |= GET_TYPE_PARAMETERS_INITIALIZED;
+				}
 			}
-            data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
-			getTypeParametersInitialized = true;
         }
 
         return data.getTypeParameters();
@@ -74,12 +81,16 @@ public class AbstractJavaInterfaceProxy extends AbstractJavaStructureProxy imple
 
 	@Override
     public PowerList<JavaField> getFields() {
-        if (!getFieldsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_FIELDS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_FIELDS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setFields(ModelUtils.parentedList(adapter.getFields(), this));
+					initializedProperties |= GET_FIELDS_INITIALIZED;
+				}
 			}
-            data.setFields(ModelUtils.parentedList(adapter.getFields(), this));
-			getFieldsInitialized = true;
         }
 
         return data.getFields();
@@ -97,20 +108,17 @@ public class AbstractJavaInterfaceProxy extends AbstractJavaStructureProxy imple
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		AbstractJavaInterface other = (AbstractJavaInterface) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getTypeParameters(), other.getTypeParameters())
-				.append(this.getFields(), other.getFields())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getFields())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getTypeParameters(), other.getTypeParameters())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getFields(), other.getFields())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -34,8 +34,7 @@ import org.jannocessor.model.structure.JavaNestedEnum;
 import org.jannocessor.model.structure.JavaNestedInterface;
 import org.jannocessor.model.structure.JavaNestedAnnotation;
 import org.jannocessor.model.JavaElement;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -46,9 +45,9 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaStructure adapter;
+    private final transient AbstractJavaStructure adapter;
 
-    private AbstractJavaStructureData data;
+    private final AbstractJavaStructureData data;
 
     public AbstractJavaStructureProxy(AbstractJavaStructure adapter, AbstractJavaStructureData data) {
         super(adapter, data);
@@ -56,42 +55,50 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
         this.data = data;
     }
 
-	private boolean getNestingInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaElementProxy.LAZY_PROPERTIES + 11;
 
-	private boolean getQualifiedNameInitialized = false;
+	private static final int GET_NESTING_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getSuperclassInitialized = false;
+	private static final int GET_QUALIFIED_NAME_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getMetadataInitialized = false;
+	private static final int GET_SUPERCLASS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 2);
 
-	private boolean getAllMetadataInitialized = false;
+	private static final int GET_METADATA_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 3);
 
-	private boolean getInterfacesInitialized = false;
+	private static final int GET_ALL_METADATA_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 4);
 
-	private boolean getMethodsInitialized = false;
+	private static final int GET_INTERFACES_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 5);
 
-	private boolean getNestedClassesInitialized = false;
+	private static final int GET_METHODS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 6);
 
-	private boolean getNestedEnumsInitialized = false;
+	private static final int GET_NESTED_CLASSES_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 7);
 
-	private boolean getNestedInterfacesInitialized = false;
+	private static final int GET_NESTED_ENUMS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 8);
 
-	private boolean getNestedAnnotationsInitialized = false;
+	private static final int GET_NESTED_INTERFACES_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 9);
+
+	private static final int GET_NESTED_ANNOTATIONS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 10);
 
 
 	@Override
     public AbstractJavaStructure copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaStructureData copy = new AbstractJavaStructureData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public String getNesting() {
-        if (!getNestingInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_NESTING_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_NESTING_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setNesting(adapter.getNesting());
+					initializedProperties |= GET_NESTING_INITIALIZED;
+				}
 			}
-            data.setNesting(adapter.getNesting());
-			getNestingInitialized = true;
         }
 
         return data.getNesting();
@@ -99,12 +106,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public Name getQualifiedName() {
-        if (!getQualifiedNameInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_QUALIFIED_NAME_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_QUALIFIED_NAME_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setQualifiedName(adapter.getQualifiedName());
+					initializedProperties |= GET_QUALIFIED_NAME_INITIALIZED;
+				}
 			}
-            data.setQualifiedName(adapter.getQualifiedName());
-			getQualifiedNameInitialized = true;
         }
 
         return data.getQualifiedName();
@@ -112,12 +123,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public JavaType getSuperclass() {
-        if (!getSuperclassInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_SUPERCLASS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_SUPERCLASS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setSuperclass(adapter.getSuperclass());
+					initializedProperties |= GET_SUPERCLASS_INITIALIZED;
+				}
 			}
-            data.setSuperclass(adapter.getSuperclass());
-			getSuperclassInitialized = true;
         }
 
         return data.getSuperclass();
@@ -125,12 +140,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaMetadata> getMetadata() {
-        if (!getMetadataInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
+					initializedProperties |= GET_METADATA_INITIALIZED;
+				}
 			}
-            data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
-			getMetadataInitialized = true;
         }
 
         return data.getMetadata();
@@ -138,12 +157,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaMetadata> getAllMetadata() {
-        if (!getAllMetadataInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_ALL_METADATA_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_ALL_METADATA_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setAllMetadata(ModelUtils.parentedList(adapter.getAllMetadata(), this));
+					initializedProperties |= GET_ALL_METADATA_INITIALIZED;
+				}
 			}
-            data.setAllMetadata(ModelUtils.parentedList(adapter.getAllMetadata(), this));
-			getAllMetadataInitialized = true;
         }
 
         return data.getAllMetadata();
@@ -151,12 +174,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaType> getInterfaces() {
-        if (!getInterfacesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_INTERFACES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_INTERFACES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setInterfaces(ModelUtils.parentedList(adapter.getInterfaces(), this));
+					initializedProperties |= GET_INTERFACES_INITIALIZED;
+				}
 			}
-            data.setInterfaces(ModelUtils.parentedList(adapter.getInterfaces(), this));
-			getInterfacesInitialized = true;
         }
 
         return data.getInterfaces();
@@ -164,12 +191,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaMethod> getMethods() {
-        if (!getMethodsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_METHODS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_METHODS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setMethods(ModelUtils.parentedList(adapter.getMethods(), this));
+					initializedProperties |= GET_METHODS_INITIALIZED;
+				}
 			}
-            data.setMethods(ModelUtils.parentedList(adapter.getMethods(), this));
-			getMethodsInitialized = true;
         }
 
         return data.getMethods();
@@ -177,12 +208,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaNestedClass> getNestedClasses() {
-        if (!getNestedClassesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_NESTED_CLASSES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_NESTED_CLASSES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setNestedClasses(ModelUtils.parentedList(adapter.getNestedClasses(), this));
+					initializedProperties |= GET_NESTED_CLASSES_INITIALIZED;
+				}
 			}
-            data.setNestedClasses(ModelUtils.parentedList(adapter.getNestedClasses(), this));
-			getNestedClassesInitialized = true;
         }
 
         return data.getNestedClasses();
@@ -190,12 +225,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaNestedEnum> getNestedEnums() {
-        if (!getNestedEnumsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_NESTED_ENUMS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_NESTED_ENUMS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setNestedEnums(ModelUtils.parentedList(adapter.getNestedEnums(), this));
+					initializedProperties |= GET_NESTED_ENUMS_INITIALIZED;
+				}
 			}
-            data.setNestedEnums(ModelUtils.parentedList(adapter.getNestedEnums(), this));
-			getNestedEnumsInitialized = true;
         }
 
         return data.getNestedEnums();
@@ -203,12 +242,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaNestedInterface> getNestedInterfaces() {
-        if (!getNestedInterfacesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_NESTED_INTERFACES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_NESTED_INTERFACES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setNestedInterfaces(ModelUtils.parentedList(adapter.getNestedInterfaces(), this));
+					initializedProperties |= GET_NESTED_INTERFACES_INITIALIZED;
+				}
 			}
-            data.setNestedInterfaces(ModelUtils.parentedList(adapter.getNestedInterfaces(), this));
-			getNestedInterfacesInitialized = true;
         }
 
         return data.getNestedInterfaces();
@@ -216,12 +259,16 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 
 	@Override
     public PowerList<JavaNestedAnnotation> getNestedAnnotations() {
-        if (!getNestedAnnotationsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_NESTED_ANNOTATIONS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_NESTED_ANNOTATIONS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setNestedAnnotations(ModelUtils.parentedList(adapter.getNestedAnnotations(), this));
+					initializedProperties |= GET_NESTED_ANNOTATIONS_INITIALIZED;
+				}
 			}
-            data.setNestedAnnotations(ModelUtils.parentedList(adapter.getNestedAnnotations(), this));
-			getNestedAnnotationsInitialized = true;
         }
 
         return data.getNestedAnnotations();
@@ -244,38 +291,51 @@ public class AbstractJavaStructureProxy extends JavaElementProxy implements Abst
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		AbstractJavaStructure other = (AbstractJavaStructure) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getNesting(), other.getNesting())
-				.append(this.getQualifiedName(), other.getQualifiedName())
-				.append(this.getSuperclass(), other.getSuperclass())
-				.append(this.getMetadata(), other.getMetadata())
-				.append(this.getAllMetadata(), other.getAllMetadata())
-				.append(this.getInterfaces(), other.getInterfaces())
-				.append(this.getMethods(), other.getMethods())
-				.append(this.getNestedClasses(), other.getNestedClasses())
-				.append(this.getNestedEnums(), other.getNestedEnums())
-				.append(this.getNestedInterfaces(), other.getNestedInterfaces())
-				.append(this.getNestedAnnotations(), other.getNestedAnnotations())
-				.isEquals();
+		if (!ObjectUtils.equals(this.getNesting(), other.getNesting())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getQualifiedName(), other.getQualifiedName())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getSuperclass(), other.getSuperclass())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getMetadata(), other.getMetadata())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getAllMetadata(), other.getAllMetadata())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getInterfaces(), other.getInterfaces())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getMethods(), other.getMethods())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getNestedClasses(), other.getNestedClasses())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getNestedEnums(), other.getNestedEnums())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getNestedInterfaces(), other.getNestedInterfaces())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getNestedAnnotations(), other.getNestedAnnotations())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getNesting())
-				.append(this.getQualifiedName())
-				.append(this.getSuperclass())
-				.append(this.getMetadata())
-				.append(this.getAllMetadata())
-				.append(this.getInterfaces())
-				.append(this.getMethods())
-				.append(this.getNestedClasses())
-				.append(this.getNestedEnums())
-				.append(this.getNestedInterfaces())
-				.append(this.getNestedAnnotations())
-				.toHashCode();
+	protected int calculateHashCode() {
+		int hash = super.calculateHashCode();
+		hash = 37 * hash + ObjectUtils.hashCode(this.getQualifiedName());
+		return hash;
 	}
 
 	@Override
@@ -25,8 +25,6 @@ import org.jannocessor.model.variable.AbstractJavaVariable;
 import org.jannocessor.data.AbstractJavaVariableData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.JavaElement;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -36,9 +34,9 @@ public class AbstractJavaVariableProxy extends JavaElementProxy implements Abstr
 
 	private static final long serialVersionUID = 1L;
 
-    private transient AbstractJavaVariable adapter;
+    private final transient AbstractJavaVariable adapter;
 
-    private AbstractJavaVariableData data;
+    private final AbstractJavaVariableData data;
 
     public AbstractJavaVariableProxy(AbstractJavaVariable adapter, AbstractJavaVariableData data) {
         super(adapter, data);
@@ -46,10 +44,14 @@ public class AbstractJavaVariableProxy extends JavaElementProxy implements Abstr
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = JavaElementProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public AbstractJavaVariable copy() {
-        return ModelUtils.copy(this);
+        AbstractJavaVariableData copy = new AbstractJavaVariableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -69,16 +71,10 @@ public class AbstractJavaVariableProxy extends JavaElementProxy implements Abstr
 			return false;
 		}
 
-		AbstractJavaVariable other = (AbstractJavaVariable) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
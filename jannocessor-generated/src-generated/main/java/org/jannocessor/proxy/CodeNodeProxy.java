@@ -28,8 +28,6 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -39,17 +37,29 @@ public class CodeNodeProxy implements CodeNode, ParentedElement {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient CodeNode adapter;
+    private final transient CodeNode adapter;
 
-    private CodeNodeData data;
+    private final CodeNodeData data;
 
     public CodeNodeProxy(CodeNode adapter, CodeNodeData data) {
         this.adapter = adapter;
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = 0;
 
 
+
+	// the compiler's model isn't thread-safe, so the proxies load their data under a common lock
+	public static final Object ADAPTER_LOCK = new Object();
+
+	// one bit per lazily loaded property, for the whole proxy hierarchy (at
+	// most 31, checked at generation), set under the adapter lock
+	protected volatile int initializedProperties = 0;
+
+	// calculated once for the adapter-backed proxies, see hashCode()
+	private transient int cachedHashCode = 0;
+
 	private CodeNode parent;
 
 	private boolean hasOriginalParent = true;
@@ -69,7 +79,11 @@ public class CodeNodeProxy implements CodeNode, ParentedElement {
 	protected <T> T retrieveParent() {
 		if (hasOriginalParent) {
 			if (parent == null) {
-				parent = adapter.getParent();
+				synchronized (ADAPTER_LOCK) {
+					if (parent == null) {
+						parent = adapter.getParent();
+					}
+				}
 			}
 			return (T) parent;
 		} else {
@@ -99,7 +113,9 @@ public class CodeNodeProxy implements CodeNode, ParentedElement {
 
 	@Override
     public CodeNode copy() {
-        return ModelUtils.copy(this);
+        CodeNodeData copy = new CodeNodeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 
@@ -120,15 +136,34 @@ public class CodeNodeProxy implements CodeNode, ParentedElement {
 			return false;
 		}
 
-		CodeNode other = (CodeNode) obj;
-		return new EqualsBuilder()
-				.isEquals();
+		// the hash codes are cheap, so the other properties are loaded only if they match
+		if (hashCode() != obj.hashCode()) {
+			return false;
+		}
+		return true;
 	}
 
+	/**
+	 * Only the kinds and the names are hashed, to avoid loading the other
+	 * properties. They don't change in the compiler's model, so the hash code
+	 * of the adapter-backed proxies is calculated once, and it is invalidated
+	 * only by changing the names in place (which must be done on copies).
+	 */
 	@Override
 	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		int hash = cachedHashCode;
+		if (hash == 0) {
+			hash = calculateHashCode();
+			if (adapter != null) {
+				cachedHashCode = hash;
+			}
+		}
+		return hash;
+	}
+
+	protected int calculateHashCode() {
+		int hash = 17;
+		return hash;
 	}
 
 	@Override
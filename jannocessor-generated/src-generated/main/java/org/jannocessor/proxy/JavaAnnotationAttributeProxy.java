@@ -25,8 +25,7 @@ import org.jannocessor.model.structure.JavaAnnotationAttribute;
 import org.jannocessor.data.JavaAnnotationAttributeData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.structure.AbstractJavaAnnotation;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -37,9 +36,9 @@ public class JavaAnnotationAttributeProxy extends JavaElementProxy implements Ja
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaAnnotationAttribute adapter;
+    private final transient JavaAnnotationAttribute adapter;
 
-    private JavaAnnotationAttributeData data;
+    private final JavaAnnotationAttributeData data;
 
     public JavaAnnotationAttributeProxy(JavaAnnotationAttribute adapter, JavaAnnotationAttributeData data) {
         super(adapter, data);
@@ -47,22 +46,30 @@ public class JavaAnnotationAttributeProxy extends JavaElementProxy implements Ja
         this.data = data;
     }
 
-	private boolean getDefaultValueInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaElementProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_DEFAULT_VALUE_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaAnnotationAttribute copy() {
-        return ModelUtils.copy(this);
+        JavaAnnotationAttributeData copy = new JavaAnnotationAttributeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public Object getDefaultValue() {
-        if (!getDefaultValueInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_DEFAULT_VALUE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_DEFAULT_VALUE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setDefaultValue(adapter.getDefaultValue());
+					initializedProperties |= GET_DEFAULT_VALUE_INITIALIZED;
+				}
 			}
-            data.setDefaultValue(adapter.getDefaultValue());
-			getDefaultValueInitialized = true;
         }
 
         return data.getDefaultValue();
@@ -85,18 +92,14 @@ public class JavaAnnotationAttributeProxy extends JavaElementProxy implements Ja
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaAnnotationAttribute other = (JavaAnnotationAttribute) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getDefaultValue(), other.getDefaultValue())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getDefaultValue())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getDefaultValue(), other.getDefaultValue())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
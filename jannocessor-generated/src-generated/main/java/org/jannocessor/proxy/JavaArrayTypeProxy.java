@@ -25,8 +25,7 @@ import org.jannocessor.model.type.JavaArrayType;
 import org.jannocessor.data.JavaArrayTypeData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.type.JavaType;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -37,9 +36,9 @@ public class JavaArrayTypeProxy extends JavaTypeProxy implements JavaArrayType {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaArrayType adapter;
+    private final transient JavaArrayType adapter;
 
-    private JavaArrayTypeData data;
+    private final JavaArrayTypeData data;
 
     public JavaArrayTypeProxy(JavaArrayType adapter, JavaArrayTypeData data) {
         super(adapter, data);
@@ -47,22 +46,30 @@ public class JavaArrayTypeProxy extends JavaTypeProxy implements JavaArrayType {
         this.data = data;
     }
 
-	private boolean getComponentTypeInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_COMPONENT_TYPE_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaArrayType copy() {
-        return ModelUtils.copy(this);
+        JavaArrayTypeData copy = new JavaArrayTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public JavaType getComponentType() {
-        if (!getComponentTypeInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_COMPONENT_TYPE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_COMPONENT_TYPE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setComponentType(adapter.getComponentType());
+					initializedProperties |= GET_COMPONENT_TYPE_INITIALIZED;
+				}
 			}
-            data.setComponentType(adapter.getComponentType());
-			getComponentTypeInitialized = true;
         }
 
         return data.getComponentType();
@@ -80,18 +87,14 @@ public class JavaArrayTypeProxy extends JavaTypeProxy implements JavaArrayType {
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaArrayType other = (JavaArrayType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getComponentType(), other.getComponentType())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getComponentType())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getComponentType(), other.getComponentType())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -25,8 +25,7 @@ import org.jannocessor.model.JavaCodeModel;
 import org.jannocessor.data.JavaCodeModelData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.code.SourceCode;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -37,9 +36,9 @@ public class JavaCodeModelProxy extends CodeNodeProxy implements JavaCodeModel {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaCodeModel adapter;
+    private final transient JavaCodeModel adapter;
 
-    private JavaCodeModelData data;
+    private final JavaCodeModelData data;
 
     public JavaCodeModelProxy(JavaCodeModel adapter, JavaCodeModelData data) {
         super(adapter, data);
@@ -47,24 +46,32 @@ public class JavaCodeModelProxy extends CodeNodeProxy implements JavaCodeModel {
         this.data = data;
     }
 
-	private boolean getCodeInitialized = false;
+	protected static final int LAZY_PROPERTIES = CodeNodeProxy.LAZY_PROPERTIES + 2;
 
-	private boolean getExtraCodeInitialized = false;
+	private static final int GET_CODE_INITIALIZED = 1 << (CodeNodeProxy.LAZY_PROPERTIES + 0);
+
+	private static final int GET_EXTRA_CODE_INITIALIZED = 1 << (CodeNodeProxy.LAZY_PROPERTIES + 1);
 
 
 	@Override
     public JavaCodeModel copy() {
-        return ModelUtils.copy(this);
+        JavaCodeModelData copy = new JavaCodeModelData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public SourceCode getCode() {
-        if (!getCodeInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_CODE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_CODE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setCode(adapter.getCode());
+					initializedProperties |= GET_CODE_INITIALIZED;
+				}
 			}
-            data.setCode(adapter.getCode());
-			getCodeInitialized = true;
         }
 
         return data.getCode();
@@ -72,12 +79,16 @@ public class JavaCodeModelProxy extends CodeNodeProxy implements JavaCodeModel {
 
 	@Override
     public SourceCode getExtraCode() {
-        if (!getExtraCodeInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_EXTRA_CODE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_EXTRA_CODE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setExtraCode(adapter.getExtraCode());
+					initializedProperties |= GET_EXTRA_CODE_INITIALIZED;
+				}
 			}
-            data.setExtraCode(adapter.getExtraCode());
-			getExtraCodeInitialized = true;
         }
 
         return data.getExtraCode();
@@ -95,20 +106,17 @@ public class JavaCodeModelProxy extends CodeNodeProxy implements JavaCodeModel {
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaCodeModel other = (JavaCodeModel) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getCode(), other.getCode())
-				.append(this.getExtraCode(), other.getExtraCode())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getCode())
-				.append(this.getExtraCode())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getCode(), other.getCode())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getExtraCode(), other.getExtraCode())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -30,8 +30,7 @@ import org.jannocessor.model.variable.JavaParameter;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.modifier.ConstructorModifiers;
 import org.jannocessor.model.structure.JavaMetadata;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -42,9 +41,9 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaConstructor adapter;
+    private final transient JavaConstructor adapter;
 
-    private JavaConstructorData data;
+    private final JavaConstructorData data;
 
     public JavaConstructorProxy(JavaConstructor adapter, JavaConstructorData data) {
         super(adapter, data);
@@ -52,32 +51,40 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
         this.data = data;
     }
 
-	private boolean getTypeParametersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaExecutableProxy.LAZY_PROPERTIES + 6;
 
-	private boolean getParametersInitialized = false;
+	private static final int GET_TYPE_PARAMETERS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 0);
 
-	private boolean isVarArgsInitialized = false;
+	private static final int GET_PARAMETERS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getThrownTypesInitialized = false;
+	private static final int IS_VAR_ARGS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 2);
 
-	private boolean getModifiersInitialized = false;
+	private static final int GET_THROWN_TYPES_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 3);
 
-	private boolean getMetadataInitialized = false;
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 4);
+
+	private static final int GET_METADATA_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 5);
 
 
 	@Override
     public JavaConstructor copy() {
-        return ModelUtils.copy(this);
+        JavaConstructorData copy = new JavaConstructorData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaTypeParameter> getTypeParameters() {
-        if (!getTypeParametersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
+					initializedProperties |= GET_TYPE_PARAMETERS_INITIALIZED;
+				}
 			}
-            data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
-			getTypeParametersInitialized = true;
         }
 
         return data.getTypeParameters();
@@ -85,12 +92,16 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 
 	@Override
     public PowerList<JavaParameter> getParameters() {
-        if (!getParametersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_PARAMETERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_PARAMETERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setParameters(ModelUtils.parentedList(adapter.getParameters(), this));
+					initializedProperties |= GET_PARAMETERS_INITIALIZED;
+				}
 			}
-            data.setParameters(ModelUtils.parentedList(adapter.getParameters(), this));
-			getParametersInitialized = true;
         }
 
         return data.getParameters();
@@ -98,12 +109,16 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 
 	@Override
     public Boolean isVarArgs() {
-        if (!isVarArgsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & IS_VAR_ARGS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & IS_VAR_ARGS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setVarArgs(adapter.isVarArgs());
+					initializedProperties |= IS_VAR_ARGS_INITIALIZED;
+				}
 			}
-            data.setVarArgs(adapter.isVarArgs());
-			isVarArgsInitialized = true;
         }
 
         return data.isVarArgs();
@@ -116,12 +131,16 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 
 	@Override
     public PowerList<JavaType> getThrownTypes() {
-        if (!getThrownTypesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_THROWN_TYPES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_THROWN_TYPES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setThrownTypes(ModelUtils.parentedList(adapter.getThrownTypes(), this));
+					initializedProperties |= GET_THROWN_TYPES_INITIALIZED;
+				}
 			}
-            data.setThrownTypes(ModelUtils.parentedList(adapter.getThrownTypes(), this));
-			getThrownTypesInitialized = true;
         }
 
         return data.getThrownTypes();
@@ -129,12 +148,16 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 
 	@Override
     public ConstructorModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -142,12 +165,16 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 
 	@Override
     public PowerList<JavaMetadata> getMetadata() {
-        if (!getMetadataInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
+					initializedProperties |= GET_METADATA_INITIALIZED;
+				}
 			}
-            data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
-			getMetadataInitialized = true;
         }
 
         return data.getMetadata();
@@ -165,28 +192,29 @@ public class JavaConstructorProxy extends AbstractJavaExecutableProxy implements
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaConstructor other = (JavaConstructor) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getTypeParameters(), other.getTypeParameters())
-				.append(this.getParameters(), other.getParameters())
-				.append(this.isVarArgs(), other.isVarArgs())
-				.append(this.getThrownTypes(), other.getThrownTypes())
-				.append(this.getModifiers(), other.getModifiers())
-				.append(this.getMetadata(), other.getMetadata())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getParameters())
-				.append(this.isVarArgs())
-				.append(this.getThrownTypes())
-				.append(this.getModifiers())
-				.append(this.getMetadata())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getTypeParameters(), other.getTypeParameters())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getParameters(), other.getParameters())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.isVarArgs(), other.isVarArgs())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getThrownTypes(), other.getThrownTypes())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getMetadata(), other.getMetadata())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -26,8 +26,7 @@ import org.jannocessor.data.JavaDeclaredTypeData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.type.JavaType;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class JavaDeclaredTypeProxy extends JavaTypeProxy implements JavaDeclared
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaDeclaredType adapter;
+    private final transient JavaDeclaredType adapter;
 
-    private JavaDeclaredTypeData data;
+    private final JavaDeclaredTypeData data;
 
     public JavaDeclaredTypeProxy(JavaDeclaredType adapter, JavaDeclaredTypeData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class JavaDeclaredTypeProxy extends JavaTypeProxy implements JavaDeclared
         this.data = data;
     }
 
-	private boolean getTypeArgumentsInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_TYPE_ARGUMENTS_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaDeclaredType copy() {
-        return ModelUtils.copy(this);
+        JavaDeclaredTypeData copy = new JavaDeclaredTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaType> getTypeArguments() {
-        if (!getTypeArgumentsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_ARGUMENTS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_ARGUMENTS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeArguments(ModelUtils.parentedList(adapter.getTypeArguments(), this));
+					initializedProperties |= GET_TYPE_ARGUMENTS_INITIALIZED;
+				}
 			}
-            data.setTypeArguments(ModelUtils.parentedList(adapter.getTypeArguments(), this));
-			getTypeArgumentsInitialized = true;
         }
 
         return data.getTypeArguments();
@@ -81,18 +88,14 @@ public class JavaDeclaredTypeProxy extends JavaTypeProxy implements JavaDeclared
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaDeclaredType other = (JavaDeclaredType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getTypeArguments(), other.getTypeArguments())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeArguments())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getTypeArguments(), other.getTypeArguments())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -27,8 +27,7 @@ import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.Name;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.JavaElementKind;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -39,9 +38,9 @@ public class JavaElementProxy extends JavaCodeModelProxy implements JavaElement
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaElement adapter;
+    private final transient JavaElement adapter;
 
-    private JavaElementData data;
+    private final JavaElementData data;
 
     public JavaElementProxy(JavaElement adapter, JavaElementData data) {
         super(adapter, data);
@@ -49,26 +48,34 @@ public class JavaElementProxy extends JavaCodeModelProxy implements JavaElement
         this.data = data;
     }
 
-	private boolean getNameInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaCodeModelProxy.LAZY_PROPERTIES + 3;
 
-	private boolean getTypeInitialized = false;
+	private static final int GET_NAME_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getKindInitialized = false;
+	private static final int GET_TYPE_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 1);
+
+	private static final int GET_KIND_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 2);
 
 
 	@Override
     public JavaElement copy() {
-        return ModelUtils.copy(this);
+        JavaElementData copy = new JavaElementData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public Name getName() {
-        if (!getNameInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_NAME_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_NAME_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setName(adapter.getName());
+					initializedProperties |= GET_NAME_INITIALIZED;
+				}
 			}
-            data.setName(adapter.getName());
-			getNameInitialized = true;
         }
 
         return data.getName();
@@ -76,12 +83,16 @@ public class JavaElementProxy extends JavaCodeModelProxy implements JavaElement
 
 	@Override
     public JavaType getType() {
-        if (!getTypeInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setType(adapter.getType());
+					initializedProperties |= GET_TYPE_INITIALIZED;
+				}
 			}
-            data.setType(adapter.getType());
-			getTypeInitialized = true;
         }
 
         return data.getType();
@@ -89,12 +100,16 @@ public class JavaElementProxy extends JavaCodeModelProxy implements JavaElement
 
 	@Override
     public JavaElementKind getKind() {
-        if (!getKindInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_KIND_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_KIND_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setKind(adapter.getKind());
+					initializedProperties |= GET_KIND_INITIALIZED;
+				}
 			}
-            data.setKind(adapter.getKind());
-			getKindInitialized = true;
         }
 
         return data.getKind();
@@ -112,22 +127,28 @@ public class JavaElementProxy extends JavaCodeModelProxy implements JavaElement
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaElement other = (JavaElement) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getName(), other.getName())
-				.append(this.getType(), other.getType())
-				.append(this.getKind(), other.getKind())
-				.isEquals();
+		if (!ObjectUtils.equals(this.getName(), other.getName())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getType(), other.getType())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getKind(), other.getKind())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getName())
-				.append(this.getType())
-				.append(this.getKind())
-				.toHashCode();
+	protected int calculateHashCode() {
+		int hash = super.calculateHashCode();
+		hash = 37 * hash + ObjectUtils.hashCode(this.getName());
+		hash = 37 * hash + ObjectUtils.hashCode(this.getKind());
+		return hash;
 	}
 
 	@Override
@@ -27,8 +27,7 @@ import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.code.JavaExpression;
 import org.jannocessor.model.structure.AbstractJavaEnum;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -39,9 +38,9 @@ public class JavaEnumConstantProxy extends AbstractJavaVariableProxy implements
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaEnumConstant adapter;
+    private final transient JavaEnumConstant adapter;
 
-    private JavaEnumConstantData data;
+    private final JavaEnumConstantData data;
 
     public JavaEnumConstantProxy(JavaEnumConstant adapter, JavaEnumConstantData data) {
         super(adapter, data);
@@ -49,22 +48,30 @@ public class JavaEnumConstantProxy extends AbstractJavaVariableProxy implements
         this.data = data;
     }
 
-	private boolean getValuesInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaVariableProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_VALUES_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaEnumConstant copy() {
-        return ModelUtils.copy(this);
+        JavaEnumConstantData copy = new JavaEnumConstantData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaExpression> getValues() {
-        if (!getValuesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_VALUES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_VALUES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setValues(ModelUtils.parentedList(adapter.getValues(), this));
+					initializedProperties |= GET_VALUES_INITIALIZED;
+				}
 			}
-            data.setValues(ModelUtils.parentedList(adapter.getValues(), this));
-			getValuesInitialized = true;
         }
 
         return data.getValues();
@@ -87,18 +94,14 @@ public class JavaEnumConstantProxy extends AbstractJavaVariableProxy implements
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaEnumConstant other = (JavaEnumConstant) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getValues(), other.getValues())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getValues())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getValues(), other.getValues())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -26,8 +26,7 @@ import org.jannocessor.data.JavaEnumData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.modifier.EnumModifiers;
 import org.jannocessor.model.structure.JavaPackage;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class JavaEnumProxy extends AbstractJavaEnumProxy implements JavaEnum {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaEnum adapter;
+    private final transient JavaEnum adapter;
 
-    private JavaEnumData data;
+    private final JavaEnumData data;
 
     public JavaEnumProxy(JavaEnum adapter, JavaEnumData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class JavaEnumProxy extends AbstractJavaEnumProxy implements JavaEnum {
         this.data = data;
     }
 
-	private boolean getModifiersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaEnumProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaEnumProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaEnum copy() {
-        return ModelUtils.copy(this);
+        JavaEnumData copy = new JavaEnumData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public EnumModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -86,18 +93,14 @@ public class JavaEnumProxy extends AbstractJavaEnumProxy implements JavaEnum {
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaEnum other = (JavaEnum) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getModifiers(), other.getModifiers())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
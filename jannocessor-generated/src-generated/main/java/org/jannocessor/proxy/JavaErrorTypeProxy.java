@@ -24,8 +24,6 @@ import org.jannocessor.proxy.JavaTypeProxy;
 import org.jannocessor.model.type.JavaErrorType;
 import org.jannocessor.data.JavaErrorTypeData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaErrorTypeProxy extends JavaTypeProxy implements JavaErrorType {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaErrorType adapter;
+    private final transient JavaErrorType adapter;
 
-    private JavaErrorTypeData data;
+    private final JavaErrorTypeData data;
 
     public JavaErrorTypeProxy(JavaErrorType adapter, JavaErrorTypeData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaErrorTypeProxy extends JavaTypeProxy implements JavaErrorType {
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaErrorType copy() {
-        return ModelUtils.copy(this);
+        JavaErrorTypeData copy = new JavaErrorTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaErrorTypeProxy extends JavaTypeProxy implements JavaErrorType {
 			return false;
 		}
 
-		JavaErrorType other = (JavaErrorType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -24,8 +24,6 @@ import org.jannocessor.proxy.AbstractJavaVariableProxy;
 import org.jannocessor.model.variable.JavaExceptionParameter;
 import org.jannocessor.data.JavaExceptionParameterData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaExceptionParameterProxy extends AbstractJavaVariableProxy imple
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaExceptionParameter adapter;
+    private final transient JavaExceptionParameter adapter;
 
-    private JavaExceptionParameterData data;
+    private final JavaExceptionParameterData data;
 
     public JavaExceptionParameterProxy(JavaExceptionParameter adapter, JavaExceptionParameterData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaExceptionParameterProxy extends AbstractJavaVariableProxy imple
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = AbstractJavaVariableProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaExceptionParameter copy() {
-        return ModelUtils.copy(this);
+        JavaExceptionParameterData copy = new JavaExceptionParameterData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaExceptionParameterProxy extends AbstractJavaVariableProxy imple
 			return false;
 		}
 
-		JavaExceptionParameter other = (JavaExceptionParameter) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
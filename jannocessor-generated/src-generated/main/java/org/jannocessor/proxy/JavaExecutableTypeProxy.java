@@ -28,8 +28,7 @@ import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.type.JavaDeclaredType;
 import org.jannocessor.model.type.JavaTypeVariable;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -40,9 +39,9 @@ public class JavaExecutableTypeProxy extends JavaTypeProxy implements JavaExecut
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaExecutableType adapter;
+    private final transient JavaExecutableType adapter;
 
-    private JavaExecutableTypeData data;
+    private final JavaExecutableTypeData data;
 
     public JavaExecutableTypeProxy(JavaExecutableType adapter, JavaExecutableTypeData data) {
         super(adapter, data);
@@ -50,28 +49,36 @@ public class JavaExecutableTypeProxy extends JavaTypeProxy implements JavaExecut
         this.data = data;
     }
 
-	private boolean getParameterTypesInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 4;
 
-	private boolean getReturnTypeInitialized = false;
+	private static final int GET_PARAMETER_TYPES_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getThrownTypesInitialized = false;
+	private static final int GET_RETURN_TYPE_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getTypeVariablesInitialized = false;
+	private static final int GET_THROWN_TYPES_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 2);
+
+	private static final int GET_TYPE_VARIABLES_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 3);
 
 
 	@Override
     public JavaExecutableType copy() {
-        return ModelUtils.copy(this);
+        JavaExecutableTypeData copy = new JavaExecutableTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaType> getParameterTypes() {
-        if (!getParameterTypesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_PARAMETER_TYPES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_PARAMETER_TYPES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setParameterTypes(ModelUtils.parentedList(adapter.getParameterTypes(), this));
+					initializedProperties |= GET_PARAMETER_TYPES_INITIALIZED;
+				}
 			}
-            data.setParameterTypes(ModelUtils.parentedList(adapter.getParameterTypes(), this));
-			getParameterTypesInitialized = true;
         }
 
         return data.getParameterTypes();
@@ -79,12 +86,16 @@ public class JavaExecutableTypeProxy extends JavaTypeProxy implements JavaExecut
 
 	@Override
     public JavaType getReturnType() {
-        if (!getReturnTypeInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_RETURN_TYPE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_RETURN_TYPE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setReturnType(adapter.getReturnType());
+					initializedProperties |= GET_RETURN_TYPE_INITIALIZED;
+				}
 			}
-            data.setReturnType(adapter.getReturnType());
-			getReturnTypeInitialized = true;
         }
 
         return data.getReturnType();
@@ -92,12 +103,16 @@ public class JavaExecutableTypeProxy extends JavaTypeProxy implements JavaExecut
 
 	@Override
     public PowerList<JavaDeclaredType> getThrownTypes() {
-        if (!getThrownTypesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_THROWN_TYPES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_THROWN_TYPES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setThrownTypes(ModelUtils.parentedList(adapter.getThrownTypes(), this));
+					initializedProperties |= GET_THROWN_TYPES_INITIALIZED;
+				}
 			}
-            data.setThrownTypes(ModelUtils.parentedList(adapter.getThrownTypes(), this));
-			getThrownTypesInitialized = true;
         }
 
         return data.getThrownTypes();
@@ -105,12 +120,16 @@ public class JavaExecutableTypeProxy extends JavaTypeProxy implements JavaExecut
 
 	@Override
     public PowerList<JavaTypeVariable> getTypeVariables() {
-        if (!getTypeVariablesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_VARIABLES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_VARIABLES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeVariables(ModelUtils.parentedList(adapter.getTypeVariables(), this));
+					initializedProperties |= GET_TYPE_VARIABLES_INITIALIZED;
+				}
 			}
-            data.setTypeVariables(ModelUtils.parentedList(adapter.getTypeVariables(), this));
-			getTypeVariablesInitialized = true;
         }
 
         return data.getTypeVariables();
@@ -128,24 +147,23 @@ public class JavaExecutableTypeProxy extends JavaTypeProxy implements JavaExecut
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaExecutableType other = (JavaExecutableType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getParameterTypes(), other.getParameterTypes())
-				.append(this.getReturnType(), other.getReturnType())
-				.append(this.getThrownTypes(), other.getThrownTypes())
-				.append(this.getTypeVariables(), other.getTypeVariables())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getParameterTypes())
-				.append(this.getReturnType())
-				.append(this.getThrownTypes())
-				.append(this.getTypeVariables())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getParameterTypes(), other.getParameterTypes())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getReturnType(), other.getReturnType())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getThrownTypes(), other.getThrownTypes())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getTypeVariables(), other.getTypeVariables())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
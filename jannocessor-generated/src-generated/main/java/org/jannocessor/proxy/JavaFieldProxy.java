@@ -29,8 +29,7 @@ import org.jannocessor.model.code.JavaExpression;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.structure.JavaMetadata;
 import org.jannocessor.model.structure.AbstractJavaStructure;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -41,9 +40,9 @@ public class JavaFieldProxy extends AbstractJavaVariableProxy implements JavaFie
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaField adapter;
+    private final transient JavaField adapter;
 
-    private JavaFieldData data;
+    private final JavaFieldData data;
 
     public JavaFieldProxy(JavaField adapter, JavaFieldData data) {
         super(adapter, data);
@@ -51,26 +50,34 @@ public class JavaFieldProxy extends AbstractJavaVariableProxy implements JavaFie
         this.data = data;
     }
 
-	private boolean getModifiersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaVariableProxy.LAZY_PROPERTIES + 3;
 
-	private boolean getValueInitialized = false;
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getMetadataInitialized = false;
+	private static final int GET_VALUE_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 1);
+
+	private static final int GET_METADATA_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 2);
 
 
 	@Override
     public JavaField copy() {
-        return ModelUtils.copy(this);
+        JavaFieldData copy = new JavaFieldData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public FieldModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -78,12 +85,16 @@ public class JavaFieldProxy extends AbstractJavaVariableProxy implements JavaFie
 
 	@Override
     public JavaExpression getValue() {
-        if (!getValueInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_VALUE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_VALUE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setValue(adapter.getValue());
+					initializedProperties |= GET_VALUE_INITIALIZED;
+				}
 			}
-            data.setValue(adapter.getValue());
-			getValueInitialized = true;
         }
 
         return data.getValue();
@@ -91,12 +102,16 @@ public class JavaFieldProxy extends AbstractJavaVariableProxy implements JavaFie
 
 	@Override
     public PowerList<JavaMetadata> getMetadata() {
-        if (!getMetadataInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
+					initializedProperties |= GET_METADATA_INITIALIZED;
+				}
 			}
-            data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
-			getMetadataInitialized = true;
         }
 
         return data.getMetadata();
@@ -119,22 +134,20 @@ public class JavaFieldProxy extends AbstractJavaVariableProxy implements JavaFie
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaField other = (JavaField) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getModifiers(), other.getModifiers())
-				.append(this.getValue(), other.getValue())
-				.append(this.getMetadata(), other.getMetadata())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.append(this.getValue())
-				.append(this.getMetadata())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getValue(), other.getValue())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getMetadata(), other.getMetadata())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -24,8 +24,6 @@ import org.jannocessor.proxy.AbstractJavaExecutableProxy;
 import org.jannocessor.model.executable.JavaInstanceInit;
 import org.jannocessor.data.JavaInstanceInitData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaInstanceInitProxy extends AbstractJavaExecutableProxy implement
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaInstanceInit adapter;
+    private final transient JavaInstanceInit adapter;
 
-    private JavaInstanceInitData data;
+    private final JavaInstanceInitData data;
 
     public JavaInstanceInitProxy(JavaInstanceInit adapter, JavaInstanceInitData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaInstanceInitProxy extends AbstractJavaExecutableProxy implement
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = AbstractJavaExecutableProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaInstanceInit copy() {
-        return ModelUtils.copy(this);
+        JavaInstanceInitData copy = new JavaInstanceInitData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaInstanceInitProxy extends AbstractJavaExecutableProxy implement
 			return false;
 		}
 
-		JavaInstanceInit other = (JavaInstanceInit) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
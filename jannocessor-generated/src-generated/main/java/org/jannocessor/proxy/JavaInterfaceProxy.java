@@ -26,8 +26,7 @@ import org.jannocessor.data.JavaInterfaceData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.modifier.InterfaceModifiers;
 import org.jannocessor.model.structure.JavaPackage;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class JavaInterfaceProxy extends AbstractJavaInterfaceProxy implements Ja
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaInterface adapter;
+    private final transient JavaInterface adapter;
 
-    private JavaInterfaceData data;
+    private final JavaInterfaceData data;
 
     public JavaInterfaceProxy(JavaInterface adapter, JavaInterfaceData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class JavaInterfaceProxy extends AbstractJavaInterfaceProxy implements Ja
         this.data = data;
     }
 
-	private boolean getModifiersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaInterfaceProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaInterfaceProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaInterface copy() {
-        return ModelUtils.copy(this);
+        JavaInterfaceData copy = new JavaInterfaceData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public InterfaceModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -86,18 +93,14 @@ public class JavaInterfaceProxy extends AbstractJavaInterfaceProxy implements Ja
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaInterface other = (JavaInterface) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getModifiers(), other.getModifiers())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
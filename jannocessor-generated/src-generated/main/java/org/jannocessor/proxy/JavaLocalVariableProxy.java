@@ -25,8 +25,7 @@ import org.jannocessor.model.variable.JavaLocalVariable;
 import org.jannocessor.data.JavaLocalVariableData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.executable.AbstractJavaExecutable;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -37,9 +36,9 @@ public class JavaLocalVariableProxy extends AbstractJavaVariableProxy implements
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaLocalVariable adapter;
+    private final transient JavaLocalVariable adapter;
 
-    private JavaLocalVariableData data;
+    private final JavaLocalVariableData data;
 
     public JavaLocalVariableProxy(JavaLocalVariable adapter, JavaLocalVariableData data) {
         super(adapter, data);
@@ -47,22 +46,30 @@ public class JavaLocalVariableProxy extends AbstractJavaVariableProxy implements
         this.data = data;
     }
 
-	private boolean isFinalInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaVariableProxy.LAZY_PROPERTIES + 1;
+
+	private static final int IS_FINAL_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaLocalVariable copy() {
-        return ModelUtils.copy(this);
+        JavaLocalVariableData copy = new JavaLocalVariableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public Boolean isFinal() {
-        if (!isFinalInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & IS_FINAL_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & IS_FINAL_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setFinal(adapter.isFinal());
+					initializedProperties |= IS_FINAL_INITIALIZED;
+				}
 			}
-            data.setFinal(adapter.isFinal());
-			isFinalInitialized = true;
         }
 
         return data.isFinal();
@@ -85,18 +92,14 @@ public class JavaLocalVariableProxy extends AbstractJavaVariableProxy implements
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaLocalVariable other = (JavaLocalVariable) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.isFinal(), other.isFinal())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.isFinal())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.isFinal(), other.isFinal())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
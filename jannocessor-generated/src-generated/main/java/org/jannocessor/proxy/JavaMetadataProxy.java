@@ -27,8 +27,7 @@ import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.collection.api.PowerMap;
 import org.jannocessor.model.JavaElement;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -39,9 +38,9 @@ public class JavaMetadataProxy extends JavaCodeModelProxy implements JavaMetadat
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaMetadata adapter;
+    private final transient JavaMetadata adapter;
 
-    private JavaMetadataData data;
+    private final JavaMetadataData data;
 
     public JavaMetadataProxy(JavaMetadata adapter, JavaMetadataData data) {
         super(adapter, data);
@@ -49,24 +48,32 @@ public class JavaMetadataProxy extends JavaCodeModelProxy implements JavaMetadat
         this.data = data;
     }
 
-	private boolean getAnnotationInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaCodeModelProxy.LAZY_PROPERTIES + 2;
 
-	private boolean getValuesInitialized = false;
+	private static final int GET_ANNOTATION_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 0);
+
+	private static final int GET_VALUES_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 1);
 
 
 	@Override
     public JavaMetadata copy() {
-        return ModelUtils.copy(this);
+        JavaMetadataData copy = new JavaMetadataData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public JavaType getAnnotation() {
-        if (!getAnnotationInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_ANNOTATION_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_ANNOTATION_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setAnnotation(adapter.getAnnotation());
+					initializedProperties |= GET_ANNOTATION_INITIALIZED;
+				}
 			}
-            data.setAnnotation(adapter.getAnnotation());
-			getAnnotationInitialized = true;
         }
 
         return data.getAnnotation();
@@ -74,12 +81,16 @@ public class JavaMetadataProxy extends JavaCodeModelProxy implements JavaMetadat
 
 	@Override
     public PowerMap<String,? extends Object> getValues() {
-        if (!getValuesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_VALUES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_VALUES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setValues(adapter.getValues());
+					initializedProperties |= GET_VALUES_INITIALIZED;
+				}
 			}
-            data.setValues(adapter.getValues());
-			getValuesInitialized = true;
         }
 
         return data.getValues();
@@ -102,20 +113,17 @@ public class JavaMetadataProxy extends JavaCodeModelProxy implements JavaMetadat
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaMetadata other = (JavaMetadata) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getAnnotation(), other.getAnnotation())
-				.append(this.getValues(), other.getValues())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getAnnotation())
-				.append(this.getValues())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getAnnotation(), other.getAnnotation())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getValues(), other.getValues())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -30,8 +30,7 @@ import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.variable.JavaParameter;
 import org.jannocessor.model.modifier.MethodModifiers;
 import org.jannocessor.model.structure.JavaMetadata;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -42,9 +41,9 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaMethod adapter;
+    private final transient JavaMethod adapter;
 
-    private JavaMethodData data;
+    private final JavaMethodData data;
 
     public JavaMethodProxy(JavaMethod adapter, JavaMethodData data) {
         super(adapter, data);
@@ -52,34 +51,42 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
         this.data = data;
     }
 
-	private boolean getTypeParametersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaExecutableProxy.LAZY_PROPERTIES + 7;
 
-	private boolean getReturnTypeInitialized = false;
+	private static final int GET_TYPE_PARAMETERS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getParametersInitialized = false;
+	private static final int GET_RETURN_TYPE_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 1);
 
-	private boolean isVarArgsInitialized = false;
+	private static final int GET_PARAMETERS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 2);
 
-	private boolean getThrownTypesInitialized = false;
+	private static final int IS_VAR_ARGS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 3);
 
-	private boolean getModifiersInitialized = false;
+	private static final int GET_THROWN_TYPES_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 4);
 
-	private boolean getMetadataInitialized = false;
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 5);
+
+	private static final int GET_METADATA_INITIALIZED = 1 << (AbstractJavaExecutableProxy.LAZY_PROPERTIES + 6);
 
 
 	@Override
     public JavaMethod copy() {
-        return ModelUtils.copy(this);
+        JavaMethodData copy = new JavaMethodData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaTypeParameter> getTypeParameters() {
-        if (!getTypeParametersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_PARAMETERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
+					initializedProperties |= GET_TYPE_PARAMETERS_INITIALIZED;
+				}
 			}
-            data.setTypeParameters(ModelUtils.parentedList(adapter.getTypeParameters(), this));
-			getTypeParametersInitialized = true;
         }
 
         return data.getTypeParameters();
@@ -87,12 +94,16 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	@Override
     public JavaType getReturnType() {
-        if (!getReturnTypeInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_RETURN_TYPE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_RETURN_TYPE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setReturnType(adapter.getReturnType());
+					initializedProperties |= GET_RETURN_TYPE_INITIALIZED;
+				}
 			}
-            data.setReturnType(adapter.getReturnType());
-			getReturnTypeInitialized = true;
         }
 
         return data.getReturnType();
@@ -100,12 +111,16 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	@Override
     public PowerList<JavaParameter> getParameters() {
-        if (!getParametersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_PARAMETERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_PARAMETERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setParameters(ModelUtils.parentedList(adapter.getParameters(), this));
+					initializedProperties |= GET_PARAMETERS_INITIALIZED;
+				}
 			}
-            data.setParameters(ModelUtils.parentedList(adapter.getParameters(), this));
-			getParametersInitialized = true;
         }
 
         return data.getParameters();
@@ -113,12 +128,16 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	@Override
     public Boolean isVarArgs() {
-        if (!isVarArgsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & IS_VAR_ARGS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & IS_VAR_ARGS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setVarArgs(adapter.isVarArgs());
+					initializedProperties |= IS_VAR_ARGS_INITIALIZED;
+				}
 			}
-            data.setVarArgs(adapter.isVarArgs());
-			isVarArgsInitialized = true;
         }
 
         return data.isVarArgs();
@@ -126,12 +145,16 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	@Override
     public PowerList<JavaType> getThrownTypes() {
-        if (!getThrownTypesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_THROWN_TYPES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_THROWN_TYPES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setThrownTypes(ModelUtils.parentedList(adapter.getThrownTypes(), this));
+					initializedProperties |= GET_THROWN_TYPES_INITIALIZED;
+				}
 			}
-            data.setThrownTypes(ModelUtils.parentedList(adapter.getThrownTypes(), this));
-			getThrownTypesInitialized = true;
         }
 
         return data.getThrownTypes();
@@ -139,12 +162,16 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	@Override
     public MethodModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -152,12 +179,16 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 
 	@Override
     public PowerList<JavaMetadata> getMetadata() {
-        if (!getMetadataInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
+					initializedProperties |= GET_METADATA_INITIALIZED;
+				}
 			}
-            data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
-			getMetadataInitialized = true;
         }
 
         return data.getMetadata();
@@ -175,30 +206,32 @@ public class JavaMethodProxy extends AbstractJavaExecutableProxy implements Java
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaMethod other = (JavaMethod) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getTypeParameters(), other.getTypeParameters())
-				.append(this.getReturnType(), other.getReturnType())
-				.append(this.getParameters(), other.getParameters())
-				.append(this.isVarArgs(), other.isVarArgs())
-				.append(this.getThrownTypes(), other.getThrownTypes())
-				.append(this.getModifiers(), other.getModifiers())
-				.append(this.getMetadata(), other.getMetadata())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeParameters())
-				.append(this.getReturnType())
-				.append(this.getParameters())
-				.append(this.isVarArgs())
-				.append(this.getThrownTypes())
-				.append(this.getModifiers())
-				.append(this.getMetadata())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getTypeParameters(), other.getTypeParameters())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getReturnType(), other.getReturnType())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getParameters(), other.getParameters())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.isVarArgs(), other.isVarArgs())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getThrownTypes(), other.getThrownTypes())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getMetadata(), other.getMetadata())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
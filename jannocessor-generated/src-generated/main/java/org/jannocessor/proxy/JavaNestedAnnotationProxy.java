@@ -26,8 +26,7 @@ import org.jannocessor.data.JavaNestedAnnotationData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.modifier.NestedAnnotationModifiers;
 import org.jannocessor.model.structure.AbstractJavaStructure;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class JavaNestedAnnotationProxy extends AbstractJavaAnnotationProxy imple
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaNestedAnnotation adapter;
+    private final transient JavaNestedAnnotation adapter;
 
-    private JavaNestedAnnotationData data;
+    private final JavaNestedAnnotationData data;
 
     public JavaNestedAnnotationProxy(JavaNestedAnnotation adapter, JavaNestedAnnotationData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class JavaNestedAnnotationProxy extends AbstractJavaAnnotationProxy imple
         this.data = data;
     }
 
-	private boolean getModifiersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaAnnotationProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaAnnotationProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaNestedAnnotation copy() {
-        return ModelUtils.copy(this);
+        JavaNestedAnnotationData copy = new JavaNestedAnnotationData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public NestedAnnotationModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -86,18 +93,14 @@ public class JavaNestedAnnotationProxy extends AbstractJavaAnnotationProxy imple
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaNestedAnnotation other = (JavaNestedAnnotation) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getModifiers(), other.getModifiers())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
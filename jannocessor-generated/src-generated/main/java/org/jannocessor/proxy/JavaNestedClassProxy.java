@@ -26,8 +26,7 @@ import org.jannocessor.data.JavaNestedClassData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.modifier.NestedClassModifiers;
 import org.jannocessor.model.structure.AbstractJavaStructure;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class JavaNestedClassProxy extends AbstractJavaClassProxy implements Java
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaNestedClass adapter;
+    private final transient JavaNestedClass adapter;
 
-    private JavaNestedClassData data;
+    private final JavaNestedClassData data;
 
     public JavaNestedClassProxy(JavaNestedClass adapter, JavaNestedClassData data) {
         super(adapter, data);
@@ -48,22 +47,30 @@ public class JavaNestedClassProxy extends AbstractJavaClassProxy implements Java
         this.data = data;
     }
 
-	private boolean getModifiersInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaClassProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_MODIFIERS_INITIALIZED = 1 << (AbstractJavaClassProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaNestedClass copy() {
-        return ModelUtils.copy(this);
+        JavaNestedClassData copy = new JavaNestedClassData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public NestedClassModifiers getModifiers() {
-        if (!getModifiersInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_MODIFIERS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setModifiers(adapter.getModifiers());
+					initializedProperties |= GET_MODIFIERS_INITIALIZED;
+				}
 			}
-            data.setModifiers(adapter.getModifiers());
-			getModifiersInitialized = true;
         }
 
         return data.getModifiers();
@@ -86,18 +93,14 @@ public class JavaNestedClassProxy extends AbstractJavaClassProxy implements Java
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaNestedClass other = (JavaNestedClass) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getModifiers(), other.getModifiers())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getModifiers())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getModifiers(), other.getModifiers())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
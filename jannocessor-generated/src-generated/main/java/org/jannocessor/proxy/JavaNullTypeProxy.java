@@ -24,8 +24,6 @@ import org.jannocessor.proxy.JavaTypeProxy;
 import org.jannocessor.model.type.JavaNullType;
 import org.jannocessor.data.JavaNullTypeData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaNullTypeProxy extends JavaTypeProxy implements JavaNullType {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaNullType adapter;
+    private final transient JavaNullType adapter;
 
-    private JavaNullTypeData data;
+    private final JavaNullTypeData data;
 
     public JavaNullTypeProxy(JavaNullType adapter, JavaNullTypeData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaNullTypeProxy extends JavaTypeProxy implements JavaNullType {
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaNullType copy() {
-        return ModelUtils.copy(this);
+        JavaNullTypeData copy = new JavaNullTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaNullTypeProxy extends JavaTypeProxy implements JavaNullType {
 			return false;
 		}
 
-		JavaNullType other = (JavaNullType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -29,8 +29,7 @@ import org.jannocessor.model.structure.JavaInterface;
 import org.jannocessor.model.structure.JavaClass;
 import org.jannocessor.model.structure.JavaEnum;
 import org.jannocessor.model.structure.JavaAnnotation;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -41,9 +40,9 @@ public class JavaPackageProxy extends JavaElementProxy implements JavaPackage {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaPackage adapter;
+    private final transient JavaPackage adapter;
 
-    private JavaPackageData data;
+    private final JavaPackageData data;
 
     public JavaPackageProxy(JavaPackage adapter, JavaPackageData data) {
         super(adapter, data);
@@ -51,28 +50,36 @@ public class JavaPackageProxy extends JavaElementProxy implements JavaPackage {
         this.data = data;
     }
 
-	private boolean getInterfacesInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaElementProxy.LAZY_PROPERTIES + 4;
 
-	private boolean getClassesInitialized = false;
+	private static final int GET_INTERFACES_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getEnumsInitialized = false;
+	private static final int GET_CLASSES_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getAnnotationsInitialized = false;
+	private static final int GET_ENUMS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 2);
+
+	private static final int GET_ANNOTATIONS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 3);
 
 
 	@Override
     public JavaPackage copy() {
-        return ModelUtils.copy(this);
+        JavaPackageData copy = new JavaPackageData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaInterface> getInterfaces() {
-        if (!getInterfacesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_INTERFACES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_INTERFACES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setInterfaces(ModelUtils.parentedList(adapter.getInterfaces(), this));
+					initializedProperties |= GET_INTERFACES_INITIALIZED;
+				}
 			}
-            data.setInterfaces(ModelUtils.parentedList(adapter.getInterfaces(), this));
-			getInterfacesInitialized = true;
         }
 
         return data.getInterfaces();
@@ -80,12 +87,16 @@ public class JavaPackageProxy extends JavaElementProxy implements JavaPackage {
 
 	@Override
     public PowerList<JavaClass> getClasses() {
-        if (!getClassesInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_CLASSES_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_CLASSES_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setClasses(ModelUtils.parentedList(adapter.getClasses(), this));
+					initializedProperties |= GET_CLASSES_INITIALIZED;
+				}
 			}
-            data.setClasses(ModelUtils.parentedList(adapter.getClasses(), this));
-			getClassesInitialized = true;
         }
 
         return data.getClasses();
@@ -93,12 +104,16 @@ public class JavaPackageProxy extends JavaElementProxy implements JavaPackage {
 
 	@Override
     public PowerList<JavaEnum> getEnums() {
-        if (!getEnumsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_ENUMS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_ENUMS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setEnums(ModelUtils.parentedList(adapter.getEnums(), this));
+					initializedProperties |= GET_ENUMS_INITIALIZED;
+				}
 			}
-            data.setEnums(ModelUtils.parentedList(adapter.getEnums(), this));
-			getEnumsInitialized = true;
         }
 
         return data.getEnums();
@@ -106,12 +121,16 @@ public class JavaPackageProxy extends JavaElementProxy implements JavaPackage {
 
 	@Override
     public PowerList<JavaAnnotation> getAnnotations() {
-        if (!getAnnotationsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_ANNOTATIONS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_ANNOTATIONS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setAnnotations(ModelUtils.parentedList(adapter.getAnnotations(), this));
+					initializedProperties |= GET_ANNOTATIONS_INITIALIZED;
+				}
 			}
-            data.setAnnotations(ModelUtils.parentedList(adapter.getAnnotations(), this));
-			getAnnotationsInitialized = true;
         }
 
         return data.getAnnotations();
@@ -129,24 +148,23 @@ public class JavaPackageProxy extends JavaElementProxy implements JavaPackage {
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaPackage other = (JavaPackage) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getInterfaces(), other.getInterfaces())
-				.append(this.getClasses(), other.getClasses())
-				.append(this.getEnums(), other.getEnums())
-				.append(this.getAnnotations(), other.getAnnotations())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getInterfaces())
-				.append(this.getClasses())
-				.append(this.getEnums())
-				.append(this.getAnnotations())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getInterfaces(), other.getInterfaces())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getClasses(), other.getClasses())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getEnums(), other.getEnums())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getAnnotations(), other.getAnnotations())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -27,8 +27,7 @@ import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.structure.JavaMetadata;
 import org.jannocessor.model.executable.AbstractJavaExecutable;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -39,9 +38,9 @@ public class JavaParameterProxy extends AbstractJavaVariableProxy implements Jav
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaParameter adapter;
+    private final transient JavaParameter adapter;
 
-    private JavaParameterData data;
+    private final JavaParameterData data;
 
     public JavaParameterProxy(JavaParameter adapter, JavaParameterData data) {
         super(adapter, data);
@@ -49,24 +48,32 @@ public class JavaParameterProxy extends AbstractJavaVariableProxy implements Jav
         this.data = data;
     }
 
-	private boolean isFinalInitialized = false;
+	protected static final int LAZY_PROPERTIES = AbstractJavaVariableProxy.LAZY_PROPERTIES + 2;
 
-	private boolean getMetadataInitialized = false;
+	private static final int IS_FINAL_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 0);
+
+	private static final int GET_METADATA_INITIALIZED = 1 << (AbstractJavaVariableProxy.LAZY_PROPERTIES + 1);
 
 
 	@Override
     public JavaParameter copy() {
-        return ModelUtils.copy(this);
+        JavaParameterData copy = new JavaParameterData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public boolean isFinal() {
-        if (!isFinalInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & IS_FINAL_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & IS_FINAL_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setFinal(adapter.isFinal());
+					initializedProperties |= IS_FINAL_INITIALIZED;
+				}
 			}
-            data.setFinal(adapter.isFinal());
-			isFinalInitialized = true;
         }
 
         return data.isFinal();
@@ -74,12 +81,16 @@ public class JavaParameterProxy extends AbstractJavaVariableProxy implements Jav
 
 	@Override
     public PowerList<JavaMetadata> getMetadata() {
-        if (!getMetadataInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_METADATA_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
+					initializedProperties |= GET_METADATA_INITIALIZED;
+				}
 			}
-            data.setMetadata(ModelUtils.parentedList(adapter.getMetadata(), this));
-			getMetadataInitialized = true;
         }
 
         return data.getMetadata();
@@ -102,20 +113,17 @@ public class JavaParameterProxy extends AbstractJavaVariableProxy implements Jav
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaParameter other = (JavaParameter) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.isFinal(), other.isFinal())
-				.append(this.getMetadata(), other.getMetadata())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.isFinal())
-				.append(this.getMetadata())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.isFinal(), other.isFinal())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getMetadata(), other.getMetadata())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
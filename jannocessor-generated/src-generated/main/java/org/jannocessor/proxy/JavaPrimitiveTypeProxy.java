@@ -24,8 +24,6 @@ import org.jannocessor.proxy.JavaTypeProxy;
 import org.jannocessor.model.type.JavaPrimitiveType;
 import org.jannocessor.data.JavaPrimitiveTypeData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaPrimitiveTypeProxy extends JavaTypeProxy implements JavaPrimiti
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaPrimitiveType adapter;
+    private final transient JavaPrimitiveType adapter;
 
-    private JavaPrimitiveTypeData data;
+    private final JavaPrimitiveTypeData data;
 
     public JavaPrimitiveTypeProxy(JavaPrimitiveType adapter, JavaPrimitiveTypeData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaPrimitiveTypeProxy extends JavaTypeProxy implements JavaPrimiti
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaPrimitiveType copy() {
-        return ModelUtils.copy(this);
+        JavaPrimitiveTypeData copy = new JavaPrimitiveTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaPrimitiveTypeProxy extends JavaTypeProxy implements JavaPrimiti
 			return false;
 		}
 
-		JavaPrimitiveType other = (JavaPrimitiveType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -24,8 +24,6 @@ import org.jannocessor.proxy.AbstractJavaExecutableProxy;
 import org.jannocessor.model.executable.JavaStaticInit;
 import org.jannocessor.data.JavaStaticInitData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaStaticInitProxy extends AbstractJavaExecutableProxy implements
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaStaticInit adapter;
+    private final transient JavaStaticInit adapter;
 
-    private JavaStaticInitData data;
+    private final JavaStaticInitData data;
 
     public JavaStaticInitProxy(JavaStaticInit adapter, JavaStaticInitData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaStaticInitProxy extends AbstractJavaExecutableProxy implements
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = AbstractJavaExecutableProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaStaticInit copy() {
-        return ModelUtils.copy(this);
+        JavaStaticInitData copy = new JavaStaticInitData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaStaticInitProxy extends AbstractJavaExecutableProxy implements
 			return false;
 		}
 
-		JavaStaticInit other = (JavaStaticInit) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
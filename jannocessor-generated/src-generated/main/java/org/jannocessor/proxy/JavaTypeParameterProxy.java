@@ -27,8 +27,7 @@ import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.type.JavaType;
 import org.jannocessor.model.JavaElement;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -39,9 +38,9 @@ public class JavaTypeParameterProxy extends JavaElementProxy implements JavaType
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaTypeParameter adapter;
+    private final transient JavaTypeParameter adapter;
 
-    private JavaTypeParameterData data;
+    private final JavaTypeParameterData data;
 
     public JavaTypeParameterProxy(JavaTypeParameter adapter, JavaTypeParameterData data) {
         super(adapter, data);
@@ -49,22 +48,30 @@ public class JavaTypeParameterProxy extends JavaElementProxy implements JavaType
         this.data = data;
     }
 
-	private boolean getBoundsInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaElementProxy.LAZY_PROPERTIES + 1;
+
+	private static final int GET_BOUNDS_INITIALIZED = 1 << (JavaElementProxy.LAZY_PROPERTIES + 0);
 
 
 	@Override
     public JavaTypeParameter copy() {
-        return ModelUtils.copy(this);
+        JavaTypeParameterData copy = new JavaTypeParameterData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public PowerList<JavaType> getBounds() {
-        if (!getBoundsInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_BOUNDS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_BOUNDS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setBounds(ModelUtils.parentedList(adapter.getBounds(), this));
+					initializedProperties |= GET_BOUNDS_INITIALIZED;
+				}
 			}
-            data.setBounds(ModelUtils.parentedList(adapter.getBounds(), this));
-			getBoundsInitialized = true;
         }
 
         return data.getBounds();
@@ -87,18 +94,14 @@ public class JavaTypeParameterProxy extends JavaElementProxy implements JavaType
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaTypeParameter other = (JavaTypeParameter) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getBounds(), other.getBounds())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getBounds())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getBounds(), other.getBounds())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
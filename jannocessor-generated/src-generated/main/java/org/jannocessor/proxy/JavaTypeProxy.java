@@ -26,8 +26,7 @@ import org.jannocessor.data.JavaTypeData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.Name;
 import org.jannocessor.model.type.JavaTypeKind;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -38,9 +37,9 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaType adapter;
+    private final transient JavaType adapter;
 
-    private JavaTypeData data;
+    private final JavaTypeData data;
 
     public JavaTypeProxy(JavaType adapter, JavaTypeData data) {
         super(adapter, data);
@@ -48,30 +47,38 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
         this.data = data;
     }
 
-	private boolean getTypeClassInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaCodeModelProxy.LAZY_PROPERTIES + 5;
 
-	private boolean getSimpleNameInitialized = false;
+	private static final int GET_TYPE_CLASS_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 0);
 
-	private boolean getPackageNameInitialized = false;
+	private static final int GET_SIMPLE_NAME_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 1);
 
-	private boolean getDefaultValueInitialized = false;
+	private static final int GET_PACKAGE_NAME_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 2);
 
-	private boolean getKindInitialized = false;
+	private static final int GET_DEFAULT_VALUE_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 3);
+
+	private static final int GET_KIND_INITIALIZED = 1 << (JavaCodeModelProxy.LAZY_PROPERTIES + 4);
 
 
 	@Override
     public JavaType copy() {
-        return ModelUtils.copy(this);
+        JavaTypeData copy = new JavaTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public Class<?> getTypeClass() {
-        if (!getTypeClassInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_TYPE_CLASS_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_TYPE_CLASS_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setTypeClass(adapter.getTypeClass());
+					initializedProperties |= GET_TYPE_CLASS_INITIALIZED;
+				}
 			}
-            data.setTypeClass(adapter.getTypeClass());
-			getTypeClassInitialized = true;
         }
 
         return data.getTypeClass();
@@ -79,12 +86,16 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
 
 	@Override
     public Name getSimpleName() {
-        if (!getSimpleNameInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_SIMPLE_NAME_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_SIMPLE_NAME_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setSimpleName(adapter.getSimpleName());
+					initializedProperties |= GET_SIMPLE_NAME_INITIALIZED;
+				}
 			}
-            data.setSimpleName(adapter.getSimpleName());
-			getSimpleNameInitialized = true;
         }
 
         return data.getSimpleName();
@@ -92,12 +103,16 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
 
 	@Override
     public Name getPackageName() {
-        if (!getPackageNameInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_PACKAGE_NAME_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_PACKAGE_NAME_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setPackageName(adapter.getPackageName());
+					initializedProperties |= GET_PACKAGE_NAME_INITIALIZED;
+				}
 			}
-            data.setPackageName(adapter.getPackageName());
-			getPackageNameInitialized = true;
         }
 
         return data.getPackageName();
@@ -110,12 +125,16 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
 
 	@Override
     public Object getDefaultValue() {
-        if (!getDefaultValueInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_DEFAULT_VALUE_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_DEFAULT_VALUE_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setDefaultValue(adapter.getDefaultValue());
+					initializedProperties |= GET_DEFAULT_VALUE_INITIALIZED;
+				}
 			}
-            data.setDefaultValue(adapter.getDefaultValue());
-			getDefaultValueInitialized = true;
         }
 
         return data.getDefaultValue();
@@ -123,12 +142,16 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
 
 	@Override
     public JavaTypeKind getKind() {
-        if (!getKindInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_KIND_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_KIND_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setKind(adapter.getKind());
+					initializedProperties |= GET_KIND_INITIALIZED;
+				}
 			}
-            data.setKind(adapter.getKind());
-			getKindInitialized = true;
         }
 
         return data.getKind();
@@ -146,26 +169,34 @@ public class JavaTypeProxy extends JavaCodeModelProxy implements JavaType {
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaType other = (JavaType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getTypeClass(), other.getTypeClass())
-				.append(this.getSimpleName(), other.getSimpleName())
-				.append(this.getPackageName(), other.getPackageName())
-				.append(this.getDefaultValue(), other.getDefaultValue())
-				.append(this.getKind(), other.getKind())
-				.isEquals();
+		if (!ObjectUtils.equals(this.getTypeClass(), other.getTypeClass())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getSimpleName(), other.getSimpleName())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getPackageName(), other.getPackageName())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getDefaultValue(), other.getDefaultValue())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getKind(), other.getKind())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getTypeClass())
-				.append(this.getSimpleName())
-				.append(this.getPackageName())
-				.append(this.getDefaultValue())
-				.append(this.getKind())
-				.toHashCode();
+	protected int calculateHashCode() {
+		int hash = super.calculateHashCode();
+		hash = 37 * hash + ObjectUtils.hashCode(this.getSimpleName());
+		hash = 37 * hash + ObjectUtils.hashCode(this.getKind());
+		return hash;
 	}
 
 	@Override
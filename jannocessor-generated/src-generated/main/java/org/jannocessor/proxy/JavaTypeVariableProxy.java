@@ -25,8 +25,7 @@ import org.jannocessor.model.type.JavaTypeVariable;
 import org.jannocessor.data.JavaTypeVariableData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.type.JavaType;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -37,9 +36,9 @@ public class JavaTypeVariableProxy extends JavaTypeProxy implements JavaTypeVari
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaTypeVariable adapter;
+    private final transient JavaTypeVariable adapter;
 
-    private JavaTypeVariableData data;
+    private final JavaTypeVariableData data;
 
     public JavaTypeVariableProxy(JavaTypeVariable adapter, JavaTypeVariableData data) {
         super(adapter, data);
@@ -47,24 +46,32 @@ public class JavaTypeVariableProxy extends JavaTypeProxy implements JavaTypeVari
         this.data = data;
     }
 
-	private boolean getUpperBoundInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 2;
 
-	private boolean getLowerBoundInitialized = false;
+	private static final int GET_UPPER_BOUND_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 0);
+
+	private static final int GET_LOWER_BOUND_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 1);
 
 
 	@Override
     public JavaTypeVariable copy() {
-        return ModelUtils.copy(this);
+        JavaTypeVariableData copy = new JavaTypeVariableData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public JavaType getUpperBound() {
-        if (!getUpperBoundInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_UPPER_BOUND_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_UPPER_BOUND_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setUpperBound(adapter.getUpperBound());
+					initializedProperties |= GET_UPPER_BOUND_INITIALIZED;
+				}
 			}
-            data.setUpperBound(adapter.getUpperBound());
-			getUpperBoundInitialized = true;
         }
 
         return data.getUpperBound();
@@ -72,12 +79,16 @@ public class JavaTypeVariableProxy extends JavaTypeProxy implements JavaTypeVari
 
 	@Override
     public JavaType getLowerBound() {
-        if (!getLowerBoundInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_LOWER_BOUND_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_LOWER_BOUND_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setLowerBound(adapter.getLowerBound());
+					initializedProperties |= GET_LOWER_BOUND_INITIALIZED;
+				}
 			}
-            data.setLowerBound(adapter.getLowerBound());
-			getLowerBoundInitialized = true;
         }
 
         return data.getLowerBound();
@@ -95,20 +106,17 @@ public class JavaTypeVariableProxy extends JavaTypeProxy implements JavaTypeVari
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaTypeVariable other = (JavaTypeVariable) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getUpperBound(), other.getUpperBound())
-				.append(this.getLowerBound(), other.getLowerBound())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getUpperBound())
-				.append(this.getLowerBound())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getUpperBound(), other.getUpperBound())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getLowerBound(), other.getLowerBound())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -24,8 +24,6 @@ import org.jannocessor.proxy.JavaTypeProxy;
 import org.jannocessor.model.type.JavaVoidType;
 import org.jannocessor.data.JavaVoidTypeData;
 import org.jannocessor.model.util.ModelUtils;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -35,9 +33,9 @@ public class JavaVoidTypeProxy extends JavaTypeProxy implements JavaVoidType {
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaVoidType adapter;
+    private final transient JavaVoidType adapter;
 
-    private JavaVoidTypeData data;
+    private final JavaVoidTypeData data;
 
     public JavaVoidTypeProxy(JavaVoidType adapter, JavaVoidTypeData data) {
         super(adapter, data);
@@ -45,10 +43,14 @@ public class JavaVoidTypeProxy extends JavaTypeProxy implements JavaVoidType {
         this.data = data;
     }
 
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 0;
+
 
 	@Override
     public JavaVoidType copy() {
-        return ModelUtils.copy(this);
+        JavaVoidTypeData copy = new JavaVoidTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
@@ -63,16 +65,10 @@ public class JavaVoidTypeProxy extends JavaTypeProxy implements JavaVoidType {
 			return false;
 		}
 
-		JavaVoidType other = (JavaVoidType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.toHashCode();
+		if (!super.equals(obj)) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -25,8 +25,7 @@ import org.jannocessor.model.type.JavaWildcardType;
 import org.jannocessor.data.JavaWildcardTypeData;
 import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.model.type.JavaType;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.apache.commons.lang.ObjectUtils;
 import org.jannocessor.util.TypeSpecificStyle;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.jannocessor.model.util.ToStringUtil;
@@ -37,9 +36,9 @@ public class JavaWildcardTypeProxy extends JavaTypeProxy implements JavaWildcard
 
 	private static final long serialVersionUID = 1L;
 
-    private transient JavaWildcardType adapter;
+    private final transient JavaWildcardType adapter;
 
-    private JavaWildcardTypeData data;
+    private final JavaWildcardTypeData data;
 
     public JavaWildcardTypeProxy(JavaWildcardType adapter, JavaWildcardTypeData data) {
         super(adapter, data);
@@ -47,24 +46,32 @@ public class JavaWildcardTypeProxy extends JavaTypeProxy implements JavaWildcard
         this.data = data;
     }
 
-	private boolean getExtendsBoundInitialized = false;
+	protected static final int LAZY_PROPERTIES = JavaTypeProxy.LAZY_PROPERTIES + 2;
 
-	private boolean getSuperBoundInitialized = false;
+	private static final int GET_EXTENDS_BOUND_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 0);
+
+	private static final int GET_SUPER_BOUND_INITIALIZED = 1 << (JavaTypeProxy.LAZY_PROPERTIES + 1);
 
 
 	@Override
     public JavaWildcardType copy() {
-        return ModelUtils.copy(this);
+        JavaWildcardTypeData copy = new JavaWildcardTypeData();
+        copy.copyFrom(this);
+        return ModelUtils.verifyCopy(this, copy);
     }
 
 	@Override
     public JavaType getExtendsBound() {
-        if (!getExtendsBoundInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_EXTENDS_BOUND_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_EXTENDS_BOUND_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setExtendsBound(adapter.getExtendsBound());
+					initializedProperties |= GET_EXTENDS_BOUND_INITIALIZED;
+				}
 			}
-            data.setExtendsBound(adapter.getExtendsBound());
-			getExtendsBoundInitialized = true;
         }
 
         return data.getExtendsBound();
@@ -72,12 +79,16 @@ public class JavaWildcardTypeProxy extends JavaTypeProxy implements JavaWildcard
 
 	@Override
     public JavaType getSuperBound() {
-        if (!getSuperBoundInitialized) {
-			if (adapter == null) {
-				throw new IllegalStateException("Invalid model copy!");
+        if ((initializedProperties & GET_SUPER_BOUND_INITIALIZED) == 0) {
+			synchronized (ADAPTER_LOCK) {
+				if ((initializedProperties & GET_SUPER_BOUND_INITIALIZED) == 0) {
+					if (adapter == null) {
+						throw new IllegalStateException("Invalid model copy!");
+					}
+					data.setSuperBound(adapter.getSuperBound());
+					initializedProperties |= GET_SUPER_BOUND_INITIALIZED;
+				}
 			}
-            data.setSuperBound(adapter.getSuperBound());
-			getSuperBoundInitialized = true;
         }
 
         return data.getSuperBound();
@@ -95,20 +106,17 @@ public class JavaWildcardTypeProxy extends JavaTypeProxy implements JavaWildcard
 			return false;
 		}
 
+		if (!super.equals(obj)) {
+			return false;
+		}
 		JavaWildcardType other = (JavaWildcardType) obj;
-		return new EqualsBuilder()
-				.appendSuper(super.equals(other))
-				.append(this.getExtendsBound(), other.getExtendsBound())
-				.append(this.getSuperBound(), other.getSuperBound())
-				.isEquals();
-	}
-
-	@Override
-	public int hashCode() {
-		return new HashCodeBuilder()
-				.append(this.getExtendsBound())
-				.append(this.getSuperBound())
-				.toHashCode();
+		if (!ObjectUtils.equals(this.getExtendsBound(), other.getExtendsBound())) {
+			return false;
+		}
+		if (!ObjectUtils.equals(this.getSuperBound(), other.getSuperBound())) {
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.util.logging;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic.Kind;
+
+public class SynchronizedMessager implements Messager {
+
+	private final Messager messager;
+
+	public SynchronizedMessager(Messager messager) {
+		this.messager = messager;
+	}
+
+	@Override
+	public synchronized void printMessage(Kind kind, CharSequence msg) {
+		messager.printMessage(kind, msg);
+	}
+
+	@Override
+	public synchronized void printMessage(Kind kind, CharSequence msg, Element e) {
+		messager.printMessage(kind, msg, e);
+	}
+
+	@Override
+	public synchronized void printMessage(Kind kind, CharSequence msg, Element e,
+			AnnotationMirror a) {
+		messager.printMessage(kind, msg, e, a);
+	}
+
+	@Override
+	public synchronized void printMessage(Kind kind, CharSequence msg, Element e,
+			AnnotationMirror a, AnnotationValue v) {
+		messager.printMessage(kind, msg, e, a, v);
+	}
+
+}
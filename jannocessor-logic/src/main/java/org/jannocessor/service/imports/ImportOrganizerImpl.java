@@ -24,8 +24,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.jannocessor.service.api.ImportOrganizer;
@@ -34,6 +32,10 @@ public class ImportOrganizerImpl implements ImportOrganizer {
 
 	private static final String JAVA_LANG = "java.lang.";
 
+	// the parsed type names are shared by all renderings
+	private static final TypeNameCache PARSED_TYPES = new TypeNameCache("Parsed type names",
+			10000);
+
 	private Set<String> importedSimple = new HashSet<String>();
 
 	private Set<String> importedFull = new HashSet<String>();
@@ -111,66 +113,11 @@ public class ImportOrganizerImpl implements ImportOrganizer {
 	}
 
 	private ParsedTypeName parseType(String type) {
-		String regex = "^(?:([^<>]+)\\.)?([^.<>]+?)(?:\\s?<(.*)>)?((?:\\[\\])*)?$";
-		Matcher matcher = Pattern.compile(regex).matcher(type);
-		if (matcher.matches()) {
-			List<ParsedTypeNameParam> params = extractParams(matcher.group(3));
-			int arrayDimensions = calculateArrayDimensions(matcher.group(4));
-			return new ParsedTypeName(matcher.group(1), matcher.group(2),
-					params, arrayDimensions);
-		} else {
-			throw new IllegalArgumentException("Cannot parse type!");
-		}
-	}
-
-	private int calculateArrayDimensions(String dim) {
-		return StringUtils.isNotEmpty(dim) ? dim.length() / 2 : 0;
-	}
-
-	private List<ParsedTypeNameParam> extractParams(String params) {
-		List<ParsedTypeNameParam> parts = new ArrayList<ParsedTypeNameParam>();
-
-		if (StringUtils.isNotEmpty(params)) {
-
-			StringBuffer sb = new StringBuffer(params);
-			Pattern pattern = Pattern.compile("<[^<>]+?>");
-
-			Matcher m = pattern.matcher(sb.toString());
-			while (m.find()) {
-				for (int i = m.start(); i < m.end(); i++) {
-					sb.setCharAt(i, ' ');
-				}
-				m = pattern.matcher(sb.toString());
-			}
-			String projection = sb.toString();
-
-			int from = 0;
-			int pos = projection.indexOf(',');
-
-			while (pos > 0) {
-				String part = params.substring(from, pos).trim();
-				parts.add(typeParam(part));
-
-				from = pos + 1;
-				pos = projection.indexOf(',', pos + 1);
-			}
-
-			String part = params.substring(from).trim();
-			parts.add(typeParam(part));
-		}
-
-		return parts;
+		return PARSED_TYPES.get(type);
 	}
 
-	private ParsedTypeNameParam typeParam(String type) {
-		String regex = "^((?:\\?|[\\w$]+)\\s(?:extends|super))\\s+(.*)$";
-		Matcher matcher = Pattern.compile(regex).matcher(type);
-		if (matcher.matches()) {
-			return new ParsedTypeNameParam(matcher.group(1), matcher.group(2));
-		} else {
-			return new ParsedTypeNameParam("", type);
-		}
-
+	public static String getCacheStatistics() {
+		return PARSED_TYPES.toString();
 	}
 
 }
\ No newline at end of file
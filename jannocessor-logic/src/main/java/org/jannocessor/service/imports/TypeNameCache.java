@@ -0,0 +1,114 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.service.imports;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe cache of the parsed type names, by the type name. The number
+ * of entries is limited, evicting the least recently used entries.
+ */
+public class TypeNameCache {
+
+	private final String name;
+
+	private final Map<String, ParsedTypeName> entries;
+
+	private final int maxSize;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	public TypeNameCache(String name, int maxSize) {
+		this.name = name;
+		this.maxSize = maxSize;
+
+		this.entries = new LinkedHashMap<String, ParsedTypeName>(256, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ParsedTypeName> eldest) {
+				if (size() > TypeNameCache.this.maxSize) {
+					evictions++;
+					return true;
+				} else {
+					return false;
+				}
+			}
+		};
+	}
+
+	public ParsedTypeName get(String type) {
+		ParsedTypeName parsed;
+		synchronized (this) {
+			parsed = entries.get(type);
+			if (parsed != null) {
+				hits++;
+				return parsed;
+			}
+			misses++;
+		}
+
+		// the parsing doesn't block the other threads
+		parsed = TypeNameParser.parse(type);
+
+		synchronized (this) {
+			entries.put(type, parsed);
+		}
+
+		return parsed;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		long total = hits + misses;
+		return String.format(
+				"%s cache: size=%s, hits=%s, misses=%s, evictions=%s, hit ratio=%.1f%%", name,
+				entries.size(), hits, misses, evictions, total > 0 ? 100.0 * hits / total : 0.0);
+	}
+
+}
@@ -0,0 +1,264 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.service.imports;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-pass parser of the type names, e.g.
+ * <code>a.b.Map&lt;x.K, ? extends y.V[]&gt;[]</code>. The type name is split
+ * into a package, a class name, the type parameters and the array
+ * dimensions. The type parameters aren't parsed recursively, but are split
+ * into the wildcards (or the type variables) and their type names, which
+ * are parsed on demand.
+ */
+public class TypeNameParser {
+
+	private static final String EXTENDS = "extends";
+
+	private static final String SUPER = "super";
+
+	public static ParsedTypeName parse(String type) {
+		int length = type.length();
+
+		// the package name ends with the last dot before the type parameters
+		int stop = 0;
+		while (stop < length && !isBracket(type.charAt(stop))) {
+			stop++;
+		}
+		int dot = type.lastIndexOf('.', stop - 1);
+
+		String packageName = null;
+		int start = 0;
+
+		if (dot == 0) {
+			throw cannotParse();
+		} else if (dot > 0) {
+			packageName = type.substring(0, dot);
+			start = dot + 1;
+		}
+
+		// the array dimensions are at the end
+		int arrayStart = length;
+		while (arrayStart - 2 >= start && type.charAt(arrayStart - 2) == '['
+				&& type.charAt(arrayStart - 1) == ']') {
+			arrayStart -= 2;
+		}
+
+		// the type parameters can end only before the array dimensions
+		int paramsEnd = type.lastIndexOf('>');
+		if (paramsEnd < start || paramsEnd + 1 != arrayStart) {
+			paramsEnd = -1;
+		}
+
+		for (int end = start + 1; end <= length; end++) {
+			char c = type.charAt(end - 1);
+			if (c == '.' || isBracket(c)) {
+				break;
+			}
+
+			int paramsStart = end;
+			if (paramsStart < length && isWhitespace(type.charAt(paramsStart))) {
+				paramsStart++;
+			}
+
+			if (paramsStart < length && type.charAt(paramsStart) == '<'
+					&& paramsStart < paramsEnd
+					&& !containsLineTerminator(type, paramsStart + 1, paramsEnd)) {
+				List<ParsedTypeNameParam> params = parseParams(type.substring(
+						paramsStart + 1, paramsEnd));
+				return new ParsedTypeName(packageName, type.substring(start, end),
+						params, (length - arrayStart) / 2);
+			} else if (end >= arrayStart && (length - end) % 2 == 0) {
+				List<ParsedTypeNameParam> params = Collections.emptyList();
+				return new ParsedTypeName(packageName, type.substring(start, end),
+						params, (length - end) / 2);
+			}
+		}
+
+		throw cannotParse();
+	}
+
+	/**
+	 * Splits the type parameters by the commas that aren't inside nested
+	 * (well-formed and non-empty) type parameters.
+	 */
+	static List<ParsedTypeNameParam> parseParams(String params) {
+		List<ParsedTypeNameParam> parts = new ArrayList<ParsedTypeNameParam>();
+
+		if (params.length() > 0) {
+			int[] commas = findTopLevelCommas(params);
+
+			int from = 0;
+			if (commas.length == 0 || commas[0] > 0) {
+				for (int pos : commas) {
+					parts.add(parseParam(params.substring(from, pos).trim()));
+					from = pos + 1;
+				}
+			}
+
+			parts.add(parseParam(params.substring(from).trim()));
+		}
+
+		// the parsed type names are shared
+		return Collections.unmodifiableList(parts);
+	}
+
+	private static class Nesting {
+
+		private final Nesting parent;
+
+		private final List<Integer> commas = new ArrayList<Integer>();
+
+		private boolean wellFormed = true;
+
+		private boolean empty = true;
+
+		public Nesting(Nesting parent) {
+			this.parent = parent;
+		}
+	}
+
+	private static int[] findTopLevelCommas(String params) {
+		List<Integer> commas = new ArrayList<Integer>();
+		Nesting nesting = null;
+
+		for (int i = 0; i < params.length(); i++) {
+			char c = params.charAt(i);
+
+			if (c == '<') {
+				if (nesting != null) {
+					nesting.empty = false;
+				}
+				nesting = new Nesting(nesting);
+			} else if (c == '>') {
+				if (nesting != null) {
+					Nesting parent = nesting.parent;
+
+					// the well-formed non-empty nestings are skipped
+					boolean skipped = nesting.wellFormed && !nesting.empty;
+					if (!skipped) {
+						(parent != null ? parent.commas : commas).addAll(nesting.commas);
+					}
+
+					if (parent != null) {
+						parent.empty = false;
+						parent.wellFormed &= skipped;
+					}
+
+					nesting = parent;
+				}
+			} else {
+				if (nesting != null) {
+					nesting.empty = false;
+				}
+				if (c == ',') {
+					(nesting != null ? nesting.commas : commas).add(i);
+				}
+			}
+		}
+
+		// the commas in the unclosed nestings are at the top level
+		for (; nesting != null; nesting = nesting.parent) {
+			commas.addAll(nesting.commas);
+		}
+
+		int[] positions = new int[commas.size()];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = commas.get(i);
+		}
+		Arrays.sort(positions);
+
+		return positions;
+	}
+
+	/**
+	 * Parses a type parameter like <code>? extends x.Y</code>,
+	 * <code>T super x.Y</code> or <code>x.Y</code>.
+	 */
+	static ParsedTypeNameParam parseParam(String param) {
+		int length = param.length();
+		int pos = 0;
+
+		if (length > 0 && param.charAt(0) == '?') {
+			pos = 1;
+		} else {
+			while (pos < length && isWordChar(param.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		if (pos > 0 && pos < length && isWhitespace(param.charAt(pos))) {
+			pos++;
+
+			int keywordEnd = -1;
+			if (param.startsWith(EXTENDS, pos)) {
+				keywordEnd = pos + EXTENDS.length();
+			} else if (param.startsWith(SUPER, pos)) {
+				keywordEnd = pos + SUPER.length();
+			}
+
+			if (keywordEnd > 0) {
+				int typeStart = keywordEnd;
+				while (typeStart < length && isWhitespace(param.charAt(typeStart))) {
+					typeStart++;
+				}
+
+				if (typeStart > keywordEnd && !containsLineTerminator(param, typeStart, length)) {
+					return new ParsedTypeNameParam(param.substring(0, keywordEnd),
+							param.substring(typeStart));
+				}
+			}
+		}
+
+		return new ParsedTypeNameParam("", param);
+	}
+
+	private static boolean isBracket(char c) {
+		return c == '<' || c == '>';
+	}
+
+	private static boolean isWordChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+				|| c == '_' || c == '$';
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static boolean containsLineTerminator(String s, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char c = s.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static IllegalArgumentException cannotParse() {
+		return new IllegalArgumentException("Cannot parse type!");
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.service.splitter;
+
+/**
+ * A view of a part of a character sequence, without copying it.
+ */
+public class ContentView implements CharSequence {
+
+	private final CharSequence contents;
+
+	private final int start;
+
+	private final int end;
+
+	public ContentView(CharSequence contents, int start, int end) {
+		if (start < 0 || end > contents.length() || start > end) {
+			throw new IndexOutOfBoundsException(String.format("Invalid range: %s-%s", start, end));
+		}
+
+		this.contents = contents;
+		this.start = start;
+		this.end = end;
+	}
+
+	@Override
+	public int length() {
+		return end - start;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= end - start) {
+			throw new IndexOutOfBoundsException("Invalid index: " + index);
+		}
+		return contents.charAt(start + index);
+	}
+
+	@Override
+	public CharSequence subSequence(int from, int to) {
+		if (from < 0 || to > end - start || from > to) {
+			throw new IndexOutOfBoundsException(String.format("Invalid range: %s-%s", from, to));
+		}
+		return new ContentView(contents, start + from, start + to);
+	}
+
+	@Override
+	public String toString() {
+		return contents.subSequence(start, end).toString();
+	}
+
+}
@@ -21,54 +21,206 @@ package org.jannocessor.service.splitter;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.jannocessor.service.api.MultiContentSplitter;
 
+/**
+ * Splits the contents in a single pass, by the markers at the beginning of
+ * the lines, e.g. <code>&gt;&gt;&gt;&gt;&gt;&gt;&gt; a/b/Foo.java &lt;&lt;&lt;&lt;&lt;&lt;&lt;</code>.
+ */
 public class MultiContentSplitterImpl implements MultiContentSplitter {
 
 	@Override
 	public Map<String, String> split(String contents) {
-		Map<String, String> parts = new LinkedHashMap<String, String>();
+		final Map<String, String> parts = new LinkedHashMap<String, String>();
 
-		String prefix = Pattern.quote(PREFIX);
-		String suffix = Pattern.quote(SUFFIX);
-		String space = "\\s+";
-		String caption = "([^\\s]*?)";
-		String regex = "(?m)^" + prefix + space + caption + space + suffix
-				+ "\\r?\\n";
+		split(contents, new PartHandler() {
+			@Override
+			public void part(String name, CharSequence content) {
+				parts.put(name, content.toString());
+			}
+		});
 
-		Matcher matcher = Pattern.compile(regex).matcher(contents);
+		return parts;
+	}
+
+	@Override
+	public void split(CharSequence contents, PartHandler handler) {
+		// the start of the marker and the start and end of its caption
+		int[] marker = new int[3];
 
 		String prevKey = null;
 		int pos = 0;
-		while (matcher.find(pos)) {
-			String key = matcher.group(1).trim();
+		int end;
+		while ((end = findMarker(contents, pos, marker)) >= 0) {
+			String key = contents.subSequence(marker[1], marker[2]).toString().trim();
 			if (key.isEmpty()) {
 				throw new RuntimeException(String.format(
 						"Expected value inside %s and %s", PREFIX, SUFFIX));
 			}
 
-			if (pos > 0) {
-				String content = removeNewLine(contents.substring(pos,
-						matcher.start()));
-				parts.put(prevKey, content);
+			if (prevKey != null) {
+				handler.part(prevKey, removeNewLine(contents, pos, marker[0]));
 			}
-			pos = matcher.end();
+			pos = end;
 			prevKey = key;
 		}
 
 		if (prevKey != null) {
-			String content = removeNewLine(contents.substring(pos));
-			parts.put(prevKey, content);
+			handler.part(prevKey, removeNewLine(contents, pos, contents.length()));
+		}
+	}
+
+	private int findMarker(CharSequence s, int from, int[] marker) {
+		for (int i = indexOf(s, PREFIX, from); i >= 0; i = indexOf(s, PREFIX, i + 1)) {
+			if (isLineStart(s, i)) {
+				int end = matchMarker(s, i, marker);
+				if (end >= 0) {
+					return end;
+				}
+			}
 		}
 
-		return parts;
+		return -1;
+	}
+
+	/**
+	 * Matches the rest of the marker: whitespace, caption, whitespace, suffix
+	 * and new line. The whitespace can span multiple lines.
+	 */
+	private int matchMarker(CharSequence s, int start, int[] marker) {
+		int captionStart = skipWhitespace(s, start + PREFIX.length());
+		if (captionStart == start + PREFIX.length()) {
+			return -1;
+		}
+
+		int captionEnd = captionStart;
+		while (captionEnd < s.length() && !isWhitespace(s.charAt(captionEnd))) {
+			captionEnd++;
+		}
+
+		if (captionEnd > captionStart) {
+			int suffixStart = skipWhitespace(s, captionEnd);
+			if (suffixStart > captionEnd) {
+				int end = matchSuffix(s, suffixStart);
+				if (end >= 0) {
+					marker[0] = start;
+					marker[1] = captionStart;
+					marker[2] = captionEnd;
+					return end;
+				}
+			}
+		}
+
+		// an empty caption, surrounded by whitespace
+		if (captionStart - start - PREFIX.length() >= 2) {
+			int end = matchSuffix(s, captionStart);
+			if (end >= 0) {
+				marker[0] = start;
+				marker[1] = captionStart;
+				marker[2] = captionStart;
+				return end;
+			}
+		}
+
+		return -1;
+	}
+
+	private int matchSuffix(CharSequence s, int pos) {
+		if (!startsWith(s, SUFFIX, pos)) {
+			return -1;
+		}
+
+		int end = pos + SUFFIX.length();
+		if (end + 1 < s.length() && s.charAt(end) == '\r' && s.charAt(end + 1) == '\n') {
+			return end + 2;
+		} else if (end < s.length() && s.charAt(end) == '\n') {
+			return end + 1;
+		} else {
+			return -1;
+		}
 	}
 
-	private String removeNewLine(String s) {
-		return s.replaceFirst("\\r?\\n$", "");
+	/**
+	 * Removes the new line at the end of the content. Like the
+	 * <code>\r?\n$</code> regular expression, it also removes a new line
+	 * followed by a single final line terminator.
+	 */
+	private CharSequence removeNewLine(CharSequence s, int start, int end) {
+		for (int i = Math.max(start, end - 4); i < end; i++) {
+			int newLineEnd = -1;
+			if (s.charAt(i) == '\r' && i + 1 < end && s.charAt(i + 1) == '\n') {
+				newLineEnd = i + 2;
+			} else if (s.charAt(i) == '\n') {
+				newLineEnd = i + 1;
+			}
+
+			if (newLineEnd >= 0 && isFinalLineEnd(s, newLineEnd, end)) {
+				if (newLineEnd == end) {
+					return new ContentView(s, start, i);
+				} else {
+					StringBuilder sb = new StringBuilder(end - start);
+					sb.append(s, start, i).append(s, newLineEnd, end);
+					return sb;
+				}
+			}
+		}
+
+		return new ContentView(s, start, end);
+	}
+
+	private boolean isFinalLineEnd(CharSequence s, int pos, int end) {
+		if (pos == end) {
+			return true;
+		} else if (pos == end - 1) {
+			return isLineTerminator(s.charAt(pos));
+		} else if (pos == end - 2) {
+			return s.charAt(pos) == '\r' && s.charAt(pos + 1) == '\n';
+		} else {
+			return false;
+		}
+	}
+
+	private boolean isLineStart(CharSequence s, int pos) {
+		return pos == 0 || isLineTerminator(s.charAt(pos - 1));
+	}
+
+	private boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	private boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private int skipWhitespace(CharSequence s, int pos) {
+		while (pos < s.length() && isWhitespace(s.charAt(pos))) {
+			pos++;
+		}
+		return pos;
+	}
+
+	private boolean startsWith(CharSequence s, String prefix, int pos) {
+		if (pos + prefix.length() > s.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < prefix.length(); i++) {
+			if (s.charAt(pos + i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private int indexOf(CharSequence s, String str, int from) {
+		for (int i = from; i + str.length() <= s.length(); i++) {
+			if (startsWith(s, str, i)) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.jannocessor.service.imports;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class TypeNameCacheTest {
+
+	@Test
+	public void testSharedParsedNames() {
+		TypeNameCache cache = new TypeNameCache("test", 10);
+
+		ParsedTypeName parsed = cache.get("java.util.List<java.lang.String>");
+		assertEquals("List", parsed.getClassName());
+		assertEquals("java.lang.String", parsed.getParams().get(0).getType());
+
+		assertSame(parsed, cache.get("java.util.List<java.lang.String>"));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testBoundedSize() {
+		TypeNameCache cache = new TypeNameCache("test", 2);
+
+		ParsedTypeName a = cache.get("a.A");
+		cache.get("b.B");
+		cache.get("a.A");
+		cache.get("c.C");
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+
+		// the least recently used entry was evicted
+		assertSame(a, cache.get("a.A"));
+		assertEquals(2, cache.getHits());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testUnmodifiableParams() {
+		new TypeNameCache("test", 10).get("a.A<b.B>").getParams().clear();
+	}
+
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.jannocessor.service.imports;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+public class TypeNameParserTest {
+
+	private static final String[] NAMES = { "X", "Map", "List", "a1", "Outer$Inner", "_t", "String",
+			"int", "T" };
+
+	private static final String[] SPACES = { "", "", "", " ", "  ", "\t" };
+
+	private static final String[] TOKENS = { "a", "B", ".", "<", ">", ",", " ", "[", "]", "[]",
+			"?", "$", "extends", "super", "\t", "? extends ", "T super ", "\n" };
+
+	private final Random random = new Random(20111111);
+
+	@Test
+	public void testKnownTypes() {
+		check("int");
+		check("java.util.List<java.util.Map[]>[][][][]");
+		check("java.util.Map<java.util.Set<Integer[]>[],int[]>[]");
+		check("m.Map<x.y.List<? extends Object>, s.Set<? super x.y.List<? extends a.b.X>>>");
+		check("a.X < b.Y < c.Z, d.K >, e.L >");
+		check("a.X<T extends Object, ?>");
+		check("");
+		check("a.");
+		check(".a");
+		check("[][]");
+		check("a.X<<>>");
+		check("a.X<,b.Y>");
+		check("a.X<<>,b.Y>");
+		check("a.X<b.Y<,>,c.Z>");
+	}
+
+	@Test
+	public void testRandomTypesEquivalence() {
+		for (int i = 0; i < 20000; i++) {
+			check(randomType(3));
+		}
+	}
+
+	@Test
+	public void testRandomTextEquivalence() {
+		for (int i = 0; i < 50000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(16);
+			for (int j = 0; j < length; j++) {
+				sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+			}
+			check(sb.toString());
+		}
+	}
+
+	private String randomType(int depth) {
+		StringBuilder sb = new StringBuilder();
+
+		int packages = random.nextInt(4);
+		for (int i = 0; i < packages; i++) {
+			sb.append("p").append(random.nextInt(3)).append('.');
+		}
+		sb.append(NAMES[random.nextInt(NAMES.length)]);
+
+		if (depth > 0 && random.nextInt(3) == 0) {
+			sb.append(SPACES[random.nextInt(SPACES.length)]).append('<');
+
+			int params = random.nextInt(4) + 1;
+			for (int i = 0; i < params; i++) {
+				if (i > 0) {
+					sb.append(SPACES[random.nextInt(SPACES.length)]).append(',');
+				}
+				sb.append(SPACES[random.nextInt(SPACES.length)]);
+
+				switch (random.nextInt(5)) {
+				case 0:
+					sb.append("? extends ");
+					break;
+				case 1:
+					sb.append("? super ");
+					break;
+				case 2:
+					sb.append("T extends ");
+					break;
+				}
+				sb.append(randomType(depth - 1));
+			}
+
+			sb.append(SPACES[random.nextInt(SPACES.length)]).append('>');
+		}
+
+		int dimensions = random.nextInt(3);
+		for (int i = 0; i < dimensions; i++) {
+			sb.append("[]");
+		}
+
+		return sb.toString();
+	}
+
+	private void check(String type) {
+		assertEquals(type, parseWithRegex(type), describe(type));
+	}
+
+	private String describe(String type) {
+		try {
+			return describe(TypeNameParser.parse(type));
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+	private String describe(ParsedTypeName parsed) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(parsed.getPackageName()).append('|').append(parsed.getClassName()).append('|')
+				.append(parsed.getArrayDimensions());
+
+		for (ParsedTypeNameParam param : parsed.getParams()) {
+			sb.append('|').append(param.getWildcard()).append('|').append(param.getType());
+		}
+
+		return sb.toString();
+	}
+
+	private String parseWithRegex(String type) {
+		try {
+			return describe(regexParseType(type));
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+	/*
+	 * The previous, regular expressions based parser, as a reference.
+	 */
+
+	private ParsedTypeName regexParseType(String type) {
+		String regex = "^(?:([^<>]+)\\.)?([^.<>]+?)(?:\\s?<(.*)>)?((?:\\[\\])*)?$";
+		Matcher matcher = Pattern.compile(regex).matcher(type);
+		if (matcher.matches()) {
+			List<ParsedTypeNameParam> params = regexExtractParams(matcher.group(3));
+			String dim = matcher.group(4);
+			int arrayDimensions = StringUtils.isNotEmpty(dim) ? dim.length() / 2 : 0;
+			return new ParsedTypeName(matcher.group(1), matcher.group(2), params,
+					arrayDimensions);
+		} else {
+			throw new IllegalArgumentException("Cannot parse type!");
+		}
+	}
+
+	private List<ParsedTypeNameParam> regexExtractParams(String params) {
+		List<ParsedTypeNameParam> parts = new ArrayList<ParsedTypeNameParam>();
+
+		if (StringUtils.isNotEmpty(params)) {
+			StringBuffer sb = new StringBuffer(params);
+			Pattern pattern = Pattern.compile("<[^<>]+?>");
+
+			Matcher m = pattern.matcher(sb.toString());
+			while (m.find()) {
+				for (int i = m.start(); i < m.end(); i++) {
+					sb.setCharAt(i, ' ');
+				}
+				m = pattern.matcher(sb.toString());
+			}
+			String projection = sb.toString();
+
+			int from = 0;
+			int pos = projection.indexOf(',');
+
+			while (pos > 0) {
+				String part = params.substring(from, pos).trim();
+				parts.add(regexTypeParam(part));
+
+				from = pos + 1;
+				pos = projection.indexOf(',', pos + 1);
+			}
+
+			String part = params.substring(from).trim();
+			parts.add(regexTypeParam(part));
+		}
+
+		return parts;
+	}
+
+	private ParsedTypeNameParam regexTypeParam(String type) {
+		String regex = "^((?:\\?|[\\w$]+)\\s(?:extends|super))\\s+(.*)$";
+		Matcher matcher = Pattern.compile(regex).matcher(type);
+		if (matcher.matches()) {
+			return new ParsedTypeNameParam(matcher.group(1), matcher.group(2));
+		} else {
+			return new ParsedTypeNameParam("", type);
+		}
+	}
+
+}
@@ -19,11 +19,18 @@
 
 package org.jannocessor.service.splitter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import junit.framework.Assert;
 
 import org.jannocessor.service.api.MultiContentSplitter;
+import org.jannocessor.service.api.MultiContentSplitter.PartHandler;
 import org.junit.Test;
 
 public class MultiContentSplitterImplTest {
@@ -73,6 +80,87 @@ public class MultiContentSplitterImplTest {
 		splitter.split(part1 + part2); // should throw exception
 	}
 
+	@Test
+	public void shouldPassPartsToHandler() {
+		StringBuilder contents = new StringBuilder();
+		contents.append(fileContentN(marker(FILE1), CONTENT1));
+		contents.append(fileContentRN(marker(FILE2), CONTENT2));
+
+		final List<String> parts = new ArrayList<String>();
+		splitter.split(contents, new PartHandler() {
+			@Override
+			public void part(String name, CharSequence content) {
+				parts.add(name + "=" + content);
+			}
+		});
+
+		Assert.assertEquals(2, parts.size());
+		Assert.assertEquals(FILE1 + "=" + CONTENT1, parts.get(0));
+		Assert.assertEquals(FILE2 + "=" + CONTENT2, parts.get(1));
+	}
+
+	@Test
+	public void shouldSplitLikeRegularExpressions() {
+		String[] tokens = { MultiContentSplitter.PREFIX, MultiContentSplitter.SUFFIX, " ", " ",
+				"\t", "\n", "\n", "\r\n", "\r", "\u2028", "x", "a/b.txt", ">" };
+
+		Random random = new Random(20111111);
+		for (int i = 0; i < 50000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(20);
+			for (int j = 0; j < length; j++) {
+				sb.append(tokens[random.nextInt(tokens.length)]);
+			}
+			String contents = sb.toString();
+
+			Assert.assertEquals(contents, splitWithRegex(contents), splitOrError(contents));
+		}
+	}
+
+	private String splitOrError(String contents) {
+		try {
+			return splitter.split(contents).toString();
+		} catch (RuntimeException e) {
+			return e.getMessage();
+		}
+	}
+
+	/*
+	 * The previous, regular expressions based splitter, as a reference.
+	 */
+	private String splitWithRegex(String contents) {
+		Map<String, String> parts = new LinkedHashMap<String, String>();
+
+		String prefix = Pattern.quote(MultiContentSplitter.PREFIX);
+		String suffix = Pattern.quote(MultiContentSplitter.SUFFIX);
+		String regex = "(?m)^" + prefix + "\\s+([^\\s]*?)\\s+" + suffix + "\\r?\\n";
+
+		Matcher matcher = Pattern.compile(regex).matcher(contents);
+
+		String prevKey = null;
+		int pos = 0;
+		while (matcher.find(pos)) {
+			String key = matcher.group(1).trim();
+			if (key.isEmpty()) {
+				return String.format("Expected value inside %s and %s",
+						MultiContentSplitter.PREFIX, MultiContentSplitter.SUFFIX);
+			}
+
+			if (pos > 0) {
+				parts.put(prevKey, contents.substring(pos, matcher.start()).replaceFirst(
+						"\\r?\\n$", ""));
+			}
+			pos = matcher.end();
+			prevKey = key;
+		}
+
+		if (prevKey != null) {
+			parts.put(prevKey, contents.substring(pos).replaceFirst("\\r?\\n$", ""));
+		}
+
+		return parts.toString();
+	}
+
 	private String marker(String filename) {
 		return String.format("%s %s %s", MultiContentSplitter.PREFIX, filename,
 				MultiContentSplitter.SUFFIX);
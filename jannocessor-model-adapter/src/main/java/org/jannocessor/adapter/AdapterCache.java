@@ -0,0 +1,190 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.adapter;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the adapters, with weak keys (the compiler's model objects) and
+ * weak values (the adapters, which reference their keys), so it never keeps
+ * the compiler's symbol tables alive. Optionally, the number of entries can
+ * be limited, evicting the least recently used entries. It is not
+ * thread-safe.
+ */
+public class AdapterCache<K, V> {
+
+	private final String name;
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+	private final Map<WeakKey, WeakReference<V>> entries;
+
+	private int maxSize;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	private long collections;
+
+	private static class WeakKey extends WeakReference<Object> {
+
+		private final int hash;
+
+		public WeakKey(Object key, ReferenceQueue<Object> queue) {
+			super(key, queue);
+			this.hash = key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (obj instanceof WeakKey) {
+				Object key = get();
+				return key != null && key.equals(((WeakKey) obj).get());
+			}
+
+			return false;
+		}
+	}
+
+	public AdapterCache(String name, int maxSize) {
+		this.name = name;
+		this.maxSize = maxSize;
+
+		this.entries = new LinkedHashMap<WeakKey, WeakReference<V>>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<WeakKey, WeakReference<V>> eldest) {
+				if (AdapterCache.this.maxSize > 0 && size() > AdapterCache.this.maxSize) {
+					evictions++;
+					return true;
+				} else {
+					return false;
+				}
+			}
+		};
+	}
+
+	public V get(K key) {
+		expungeCollected();
+
+		WeakKey weakKey = new WeakKey(key, null);
+		WeakReference<V> ref = entries.get(weakKey);
+		V value = ref != null ? ref.get() : null;
+
+		if (value != null) {
+			hits++;
+		} else {
+			if (ref != null) {
+				// the value was collected, but the key wasn't yet
+				entries.remove(weakKey);
+				collections++;
+			}
+			misses++;
+		}
+
+		weakKey.clear();
+		return value;
+	}
+
+	public void put(K key, V value) {
+		expungeCollected();
+		entries.put(new WeakKey(key, queue), new WeakReference<V>(value));
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+
+		if (maxSize > 0) {
+			Iterator<WeakKey> it = entries.keySet().iterator();
+			while (entries.size() > maxSize && it.hasNext()) {
+				it.next();
+				it.remove();
+				evictions++;
+			}
+		}
+	}
+
+	public int size() {
+		expungeCollected();
+		return entries.size();
+	}
+
+	public void clear() {
+		entries.clear();
+		while (queue.poll() != null) {
+			// just drain the queue
+		}
+
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+		collections = 0;
+	}
+
+	private void expungeCollected() {
+		Reference<?> ref;
+		while ((ref = queue.poll()) != null) {
+			if (entries.remove(ref) != null) {
+				collections++;
+			}
+		}
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getEvictions() {
+		return evictions;
+	}
+
+	public long getCollections() {
+		return collections;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s cache: size=%s, hits=%s, misses=%s, evictions=%s, collected=%s",
+				name, entries.size(), hits, misses, evictions, collections);
+	}
+
+}
@@ -19,15 +19,30 @@
 
 package org.jannocessor.adapter;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ErrorType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.NullType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
@@ -46,7 +61,6 @@ import org.jannocessor.adapter.structure.JavaNestedEnumAdapter;
 import org.jannocessor.adapter.structure.JavaNestedInterfaceAdapter;
 import org.jannocessor.adapter.structure.JavaPackageAdapter;
 import org.jannocessor.adapter.structure.JavaTypeParameterAdapter;
-import org.jannocessor.adapter.type.AbstractJavaTypeAdapter;
 import org.jannocessor.adapter.type.JavaArrayTypeAdapter;
 import org.jannocessor.adapter.type.JavaDeclaredTypeAdapter;
 import org.jannocessor.adapter.type.JavaErrorTypeAdapter;
@@ -66,7 +80,6 @@ import org.jannocessor.data.JavaArrayTypeData;
 import org.jannocessor.data.JavaClassData;
 import org.jannocessor.data.JavaConstructorData;
 import org.jannocessor.data.JavaDeclaredTypeData;
-import org.jannocessor.data.JavaElementData;
 import org.jannocessor.data.JavaEnumConstantData;
 import org.jannocessor.data.JavaEnumData;
 import org.jannocessor.data.JavaErrorTypeData;
@@ -87,7 +100,6 @@ import org.jannocessor.data.JavaPackageData;
 import org.jannocessor.data.JavaParameterData;
 import org.jannocessor.data.JavaPrimitiveTypeData;
 import org.jannocessor.data.JavaStaticInitData;
-import org.jannocessor.data.JavaTypeData;
 import org.jannocessor.data.JavaTypeParameterData;
 import org.jannocessor.data.JavaTypeVariableData;
 import org.jannocessor.data.JavaVoidTypeData;
@@ -95,14 +107,42 @@ import org.jannocessor.data.JavaWildcardTypeData;
 import org.jannocessor.model.JavaElement;
 import org.jannocessor.model.Name;
 import org.jannocessor.model.bean.NameBean;
+import org.jannocessor.model.executable.JavaConstructor;
+import org.jannocessor.model.executable.JavaInstanceInit;
+import org.jannocessor.model.executable.JavaMethod;
+import org.jannocessor.model.executable.JavaStaticInit;
+import org.jannocessor.model.structure.JavaAnnotation;
+import org.jannocessor.model.structure.JavaClass;
+import org.jannocessor.model.structure.JavaEnum;
+import org.jannocessor.model.structure.JavaInterface;
 import org.jannocessor.model.structure.JavaMetadata;
+import org.jannocessor.model.structure.JavaNestedAnnotation;
+import org.jannocessor.model.structure.JavaNestedClass;
+import org.jannocessor.model.structure.JavaNestedEnum;
+import org.jannocessor.model.structure.JavaNestedInterface;
+import org.jannocessor.model.structure.JavaPackage;
+import org.jannocessor.model.structure.JavaTypeParameter;
+import org.jannocessor.model.type.JavaArrayType;
+import org.jannocessor.model.type.JavaDeclaredType;
+import org.jannocessor.model.type.JavaErrorType;
+import org.jannocessor.model.type.JavaExecutableType;
+import org.jannocessor.model.type.JavaNullType;
+import org.jannocessor.model.type.JavaPrimitiveType;
 import org.jannocessor.model.type.JavaType;
+import org.jannocessor.model.type.JavaTypeVariable;
+import org.jannocessor.model.type.JavaVoidType;
+import org.jannocessor.model.type.JavaWildcardType;
+import org.jannocessor.model.variable.JavaEnumConstant;
+import org.jannocessor.model.variable.JavaExceptionParameter;
+import org.jannocessor.model.variable.JavaField;
+import org.jannocessor.model.variable.JavaLocalVariable;
+import org.jannocessor.model.variable.JavaParameter;
 import org.jannocessor.proxy.JavaAnnotationProxy;
 import org.jannocessor.proxy.JavaArrayTypeProxy;
+import org.jannocessor.proxy.CodeNodeProxy;
 import org.jannocessor.proxy.JavaClassProxy;
 import org.jannocessor.proxy.JavaConstructorProxy;
 import org.jannocessor.proxy.JavaDeclaredTypeProxy;
-import org.jannocessor.proxy.JavaElementProxy;
 import org.jannocessor.proxy.JavaEnumConstantProxy;
 import org.jannocessor.proxy.JavaEnumProxy;
 import org.jannocessor.proxy.JavaErrorTypeProxy;
@@ -124,7 +164,6 @@ import org.jannocessor.proxy.JavaParameterProxy;
 import org.jannocessor.proxy.JavaPrimitiveTypeProxy;
 import org.jannocessor.proxy.JavaStaticInitProxy;
 import org.jannocessor.proxy.JavaTypeParameterProxy;
-import org.jannocessor.proxy.JavaTypeProxy;
 import org.jannocessor.proxy.JavaTypeVariableProxy;
 import org.jannocessor.proxy.JavaVoidTypeProxy;
 import org.jannocessor.proxy.JavaWildcardTypeProxy;
@@ -136,9 +175,458 @@ public class AdapterFactory {
 	protected static final Logger logger = LoggerFactory
 			.getLogger(AdapterFactory.class);
 
-	private static Map<Element, JavaElementAdapter> ELEMENT_ADAPTERS = new HashMap<Element, JavaElementAdapter>();
-	private static Map<TypeMirror, JavaType> TYPE_ADAPTERS = new HashMap<TypeMirror, JavaType>();
-	private static Map<AnnotationMirror, JavaMetadata> METADATA_ADAPTERS = new HashMap<AnnotationMirror, JavaMetadata>();
+	private static AdapterCache<Element, Object> ELEMENT_ADAPTERS = new AdapterCache<Element, Object>(
+			"Element adapters", 0);
+	private static AdapterCache<TypeMirror, Object> TYPE_ADAPTERS = new AdapterCache<TypeMirror, Object>(
+			"Type adapters", 0);
+	private static AdapterCache<AnnotationMirror, JavaMetadata> METADATA_ADAPTERS = new AdapterCache<AnnotationMirror, JavaMetadata>(
+			"Metadata adapters", 0);
+	private static AdapterCache<Element, Object> ELEMENT_PROXIES = new AdapterCache<Element, Object>(
+			"Element proxies", 0);
+
+	// the proxies load their data from the adapters under the same lock
+	private static final Object LOCK = CodeNodeProxy.ADAPTER_LOCK;
+
+	private static volatile boolean concurrentAccess = false;
+
+	private static volatile boolean proxyCaching = false;
+
+	/**
+	 * The models are used from concurrently running code processors. The
+	 * proxies serialize their (one-time) loading from the adapters anyway, but
+	 * they can be modified by the processors, so they aren't reused: each
+	 * processor gets its own models, and only the (immutable) adapters are
+	 * shared.
+	 */
+	public static void setConcurrentAccess(boolean concurrentAccess) {
+		AdapterFactory.concurrentAccess = concurrentAccess;
+	}
+
+	/**
+	 * When enabled, the element proxies are reused, so repeated navigation to
+	 * the same element returns the same (already loaded) model. This is safe
+	 * only if the processors don't modify the models they receive (e.g. they
+	 * work on copies). The proxies are never reused in concurrent access mode,
+	 * where the modifications of one processor would affect the others.
+	 */
+	public static void setProxyCaching(boolean proxyCaching) {
+		AdapterFactory.proxyCaching = proxyCaching;
+	}
+
+	/**
+	 * Limits the number of entries in each of the adapter caches (0 means
+	 * unlimited).
+	 */
+	public static void setCacheSize(int maxSize) {
+		synchronized (LOCK) {
+			ELEMENT_ADAPTERS.setMaxSize(maxSize);
+			TYPE_ADAPTERS.setMaxSize(maxSize);
+			METADATA_ADAPTERS.setMaxSize(maxSize);
+			ELEMENT_PROXIES.setMaxSize(maxSize);
+		}
+	}
+
+	/**
+	 * The adapters are valid only in the processing round they were created
+	 * in, so the caches should be cleared at the end of each round.
+	 */
+	public static void clearCaches() {
+		synchronized (LOCK) {
+			ELEMENT_ADAPTERS.clear();
+			TYPE_ADAPTERS.clear();
+			METADATA_ADAPTERS.clear();
+			ELEMENT_PROXIES.clear();
+		}
+	}
+
+	public static List<String> getCacheStatistics() {
+		synchronized (LOCK) {
+			return Arrays.asList(ELEMENT_ADAPTERS.toString(),
+					TYPE_ADAPTERS.toString(), METADATA_ADAPTERS.toString(),
+					ELEMENT_PROXIES.toString());
+		}
+	}
+
+	/**
+	 * Creates the adapter and the proxy for a specific kind of element or
+	 * type, without any reflection.
+	 */
+	private interface ModelFactory<S> {
+
+		Object createAdapter(S source, Elements elementUtils, Types typeUtils);
+
+		Object createProxy(Object adapter);
+
+	}
+
+	private static final Map<ElementKind, ModelFactory<Element>> ELEMENT_FACTORIES = new EnumMap<ElementKind, ModelFactory<Element>>(
+			ElementKind.class);
+	private static final Map<ElementKind, ModelFactory<Element>> NESTED_TYPE_FACTORIES = new EnumMap<ElementKind, ModelFactory<Element>>(
+			ElementKind.class);
+	private static final Map<TypeKind, ModelFactory<TypeMirror>> TYPE_FACTORIES = new EnumMap<TypeKind, ModelFactory<TypeMirror>>(
+			TypeKind.class);
+
+	private static final ModelFactory<TypeMirror> PRIMITIVE_TYPE_FACTORY = new ModelFactory<TypeMirror>() {
+		@Override
+		public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+			return new JavaPrimitiveTypeAdapter((PrimitiveType) type, elementUtils, typeUtils);
+		}
+
+		@Override
+		public Object createProxy(Object adapter) {
+			return new JavaPrimitiveTypeProxy((JavaPrimitiveType) adapter, new JavaPrimitiveTypeData());
+		}
+	};
+
+	static {
+		ELEMENT_FACTORIES.put(ElementKind.PACKAGE, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaPackageAdapter((PackageElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaPackageProxy((JavaPackage) adapter, new JavaPackageData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.ENUM, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaEnumAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaEnumProxy((JavaEnum) adapter, new JavaEnumData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.CLASS, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaClassAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaClassProxy((JavaClass) adapter, new JavaClassData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.ANNOTATION_TYPE, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaAnnotationAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaAnnotationProxy((JavaAnnotation) adapter, new JavaAnnotationData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.INTERFACE, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaInterfaceAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaInterfaceProxy((JavaInterface) adapter, new JavaInterfaceData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.TYPE_PARAMETER, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaTypeParameterAdapter((TypeParameterElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaTypeParameterProxy((JavaTypeParameter) adapter, new JavaTypeParameterData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.ENUM_CONSTANT, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaEnumConstantAdapter((VariableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaEnumConstantProxy((JavaEnumConstant) adapter, new JavaEnumConstantData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.FIELD, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaFieldAdapter((VariableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaFieldProxy((JavaField) adapter, new JavaFieldData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.PARAMETER, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaParameterAdapter((VariableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaParameterProxy((JavaParameter) adapter, new JavaParameterData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.LOCAL_VARIABLE, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaLocalVariableAdapter((VariableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaLocalVariableProxy((JavaLocalVariable) adapter, new JavaLocalVariableData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.EXCEPTION_PARAMETER, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaExceptionParameterAdapter((VariableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaExceptionParameterProxy((JavaExceptionParameter) adapter, new JavaExceptionParameterData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.METHOD, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaMethodAdapter((ExecutableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaMethodProxy((JavaMethod) adapter, new JavaMethodData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.CONSTRUCTOR, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaConstructorAdapter((ExecutableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaConstructorProxy((JavaConstructor) adapter, new JavaConstructorData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.STATIC_INIT, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaStaticInitAdapter((ExecutableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaStaticInitProxy((JavaStaticInit) adapter, new JavaStaticInitData());
+			}
+		});
+
+		ELEMENT_FACTORIES.put(ElementKind.INSTANCE_INIT, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaInstanceInitAdapter((ExecutableElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaInstanceInitProxy((JavaInstanceInit) adapter, new JavaInstanceInitData());
+			}
+		});
+
+		NESTED_TYPE_FACTORIES.put(ElementKind.ENUM, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaNestedEnumAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaNestedEnumProxy((JavaNestedEnum) adapter, new JavaNestedEnumData());
+			}
+		});
+
+		NESTED_TYPE_FACTORIES.put(ElementKind.CLASS, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaNestedClassAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaNestedClassProxy((JavaNestedClass) adapter, new JavaNestedClassData());
+			}
+		});
+
+		NESTED_TYPE_FACTORIES.put(ElementKind.ANNOTATION_TYPE, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaNestedAnnotationAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaNestedAnnotationProxy((JavaNestedAnnotation) adapter, new JavaNestedAnnotationData());
+			}
+		});
+
+		NESTED_TYPE_FACTORIES.put(ElementKind.INTERFACE, new ModelFactory<Element>() {
+			@Override
+			public Object createAdapter(Element element, Elements elementUtils, Types typeUtils) {
+				return new JavaNestedInterfaceAdapter((TypeElement) element, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaNestedInterfaceProxy((JavaNestedInterface) adapter, new JavaNestedInterfaceData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.ARRAY, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaArrayTypeAdapter((ArrayType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaArrayTypeProxy((JavaArrayType) adapter, new JavaArrayTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.DECLARED, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaDeclaredTypeAdapter((DeclaredType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaDeclaredTypeProxy((JavaDeclaredType) adapter, new JavaDeclaredTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.EXECUTABLE, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaExecutableTypeAdapter((ExecutableType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaExecutableTypeProxy((JavaExecutableType) adapter, new JavaExecutableTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.TYPEVAR, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaTypeVariableAdapter((TypeVariable) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaTypeVariableProxy((JavaTypeVariable) adapter, new JavaTypeVariableData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.WILDCARD, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaWildcardTypeAdapter((WildcardType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaWildcardTypeProxy((JavaWildcardType) adapter, new JavaWildcardTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.NONE, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaVoidTypeAdapter((NoType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaVoidTypeProxy((JavaVoidType) adapter, new JavaVoidTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.PACKAGE, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaVoidTypeAdapter((NoType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaVoidTypeProxy((JavaVoidType) adapter, new JavaVoidTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.VOID, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaVoidTypeAdapter((NoType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaVoidTypeProxy((JavaVoidType) adapter, new JavaVoidTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.NULL, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaNullTypeAdapter((NullType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaNullTypeProxy((JavaNullType) adapter, new JavaNullTypeData());
+			}
+		});
+
+		TYPE_FACTORIES.put(TypeKind.ERROR, new ModelFactory<TypeMirror>() {
+			@Override
+			public Object createAdapter(TypeMirror type, Elements elementUtils, Types typeUtils) {
+				return new JavaErrorTypeAdapter((ErrorType) type, elementUtils, typeUtils);
+			}
+
+			@Override
+			public Object createProxy(Object adapter) {
+				return new JavaErrorTypeProxy((JavaErrorType) adapter, new JavaErrorTypeData());
+			}
+		});
+	}
 
 	@SuppressWarnings("unchecked")
 	public static <T extends JavaElement> T getElementModel(Element element,
@@ -146,145 +634,22 @@ public class AdapterFactory {
 
 		if (element != null) {
 
-			Class<? extends JavaElementAdapter> adapterClass;
-			Class<? extends JavaElementProxy> proxyClass;
-			Class<? extends JavaElementData> dataClass;
+			ElementKind kind = element.getKind();
 
-			TypeElement typeElement;
+			ModelFactory<Element> factory;
+			if ((kind.isClass() || kind.isInterface())
+					&& ((TypeElement) element).getNestingKind().isNested()) {
+				factory = NESTED_TYPE_FACTORIES.get(kind);
+			} else {
+				factory = ELEMENT_FACTORIES.get(kind);
+			}
 
-			ElementKind kind = element.getKind();
-			switch (kind) {
-
-			/* Package and types */
-
-			case PACKAGE:
-				adapterClass = JavaPackageAdapter.class;
-				proxyClass = JavaPackageProxy.class;
-				dataClass = JavaPackageData.class;
-				break;
-
-			case ENUM:
-				typeElement = (TypeElement) element;
-				if (typeElement.getNestingKind().isNested()) {
-					adapterClass = JavaNestedEnumAdapter.class;
-					proxyClass = JavaNestedEnumProxy.class;
-					dataClass = JavaNestedEnumData.class;
-				} else {
-					adapterClass = JavaEnumAdapter.class;
-					proxyClass = JavaEnumProxy.class;
-					dataClass = JavaEnumData.class;
-				}
-				break;
-
-			case CLASS:
-				typeElement = (TypeElement) element;
-				if (typeElement.getNestingKind().isNested()) {
-					adapterClass = JavaNestedClassAdapter.class;
-					proxyClass = JavaNestedClassProxy.class;
-					dataClass = JavaNestedClassData.class;
-				} else {
-					adapterClass = JavaClassAdapter.class;
-					proxyClass = JavaClassProxy.class;
-					dataClass = JavaClassData.class;
-				}
-				break;
-
-			case ANNOTATION_TYPE:
-				typeElement = (TypeElement) element;
-				if (typeElement.getNestingKind().isNested()) {
-					adapterClass = JavaNestedAnnotationAdapter.class;
-					proxyClass = JavaNestedAnnotationProxy.class;
-					dataClass = JavaNestedAnnotationData.class;
-				} else {
-					adapterClass = JavaAnnotationAdapter.class;
-					proxyClass = JavaAnnotationProxy.class;
-					dataClass = JavaAnnotationData.class;
-				}
-				break;
-
-			case INTERFACE:
-				typeElement = (TypeElement) element;
-				if (typeElement.getNestingKind().isNested()) {
-					adapterClass = JavaNestedInterfaceAdapter.class;
-					proxyClass = JavaNestedInterfaceProxy.class;
-					dataClass = JavaNestedInterfaceData.class;
-				} else {
-					adapterClass = JavaInterfaceAdapter.class;
-					proxyClass = JavaInterfaceProxy.class;
-					dataClass = JavaInterfaceData.class;
-				}
-				break;
-
-			case TYPE_PARAMETER:
-				adapterClass = JavaTypeParameterAdapter.class;
-				proxyClass = JavaTypeParameterProxy.class;
-				dataClass = JavaTypeParameterData.class;
-				break;
-
-			/* Variables */
-
-			case ENUM_CONSTANT:
-				adapterClass = JavaEnumConstantAdapter.class;
-				proxyClass = JavaEnumConstantProxy.class;
-				dataClass = JavaEnumConstantData.class;
-				break;
-
-			case FIELD:
-				adapterClass = JavaFieldAdapter.class;
-				proxyClass = JavaFieldProxy.class;
-				dataClass = JavaFieldData.class;
-				break;
-
-			case PARAMETER:
-				adapterClass = JavaParameterAdapter.class;
-				proxyClass = JavaParameterProxy.class;
-				dataClass = JavaParameterData.class;
-				break;
-
-			case LOCAL_VARIABLE:
-				adapterClass = JavaLocalVariableAdapter.class;
-				proxyClass = JavaLocalVariableProxy.class;
-				dataClass = JavaLocalVariableData.class;
-				break;
-
-			case EXCEPTION_PARAMETER:
-				adapterClass = JavaExceptionParameterAdapter.class;
-				proxyClass = JavaExceptionParameterProxy.class;
-				dataClass = JavaExceptionParameterData.class;
-				break;
-
-			/* Executables */
-
-			case METHOD:
-				adapterClass = JavaMethodAdapter.class;
-				proxyClass = JavaMethodProxy.class;
-				dataClass = JavaMethodData.class;
-				break;
-
-			case CONSTRUCTOR:
-				adapterClass = JavaConstructorAdapter.class;
-				proxyClass = JavaConstructorProxy.class;
-				dataClass = JavaConstructorData.class;
-				break;
-
-			case STATIC_INIT:
-				adapterClass = JavaStaticInitAdapter.class;
-				proxyClass = JavaStaticInitProxy.class;
-				dataClass = JavaStaticInitData.class;
-				break;
-
-			case INSTANCE_INIT:
-				adapterClass = JavaInstanceInitAdapter.class;
-				proxyClass = JavaInstanceInitProxy.class;
-				dataClass = JavaInstanceInitData.class;
-				break;
-
-			default:
+			if (factory == null) {
 				throw new IllegalStateException("Unexpected element kind!");
 			}
 
-			JavaElement model = getElementAdapter(element, adapterClass,
-					proxyClass, dataClass, elementUtils, typeUtils);
+			JavaElement model = (JavaElement) createModel(ELEMENT_ADAPTERS,
+					ELEMENT_PROXIES, element, factory, elementUtils, typeUtils);
 
 			if (clazz.isAssignableFrom(model.getClass())) {
 				return (T) model;
@@ -303,71 +668,15 @@ public class AdapterFactory {
 			Class<T> clazz, Elements elementUtils, Types typeUtils) {
 		if (typeMirror != null) {
 
-			Class<? extends AbstractJavaTypeAdapter> adapterClass;
-			Class<? extends JavaTypeProxy> proxyClass;
-			Class<? extends JavaTypeData> dataClass;
-
-			switch (typeMirror.getKind()) {
-
-			case ARRAY:
-				adapterClass = JavaArrayTypeAdapter.class;
-				proxyClass = JavaArrayTypeProxy.class;
-				dataClass = JavaArrayTypeData.class;
-				break;
-
-			case DECLARED:
-				adapterClass = JavaDeclaredTypeAdapter.class;
-				proxyClass = JavaDeclaredTypeProxy.class;
-				dataClass = JavaDeclaredTypeData.class;
-				break;
-
-			case EXECUTABLE:
-				adapterClass = JavaExecutableTypeAdapter.class;
-				proxyClass = JavaExecutableTypeProxy.class;
-				dataClass = JavaExecutableTypeData.class;
-				break;
-
-			case TYPEVAR:
-				adapterClass = JavaTypeVariableAdapter.class;
-				proxyClass = JavaTypeVariableProxy.class;
-				dataClass = JavaTypeVariableData.class;
-				break;
-
-			case WILDCARD:
-				adapterClass = JavaWildcardTypeAdapter.class;
-				proxyClass = JavaWildcardTypeProxy.class;
-				dataClass = JavaWildcardTypeData.class;
-				break;
-
-			case NONE:
-			case PACKAGE:
-			case VOID:
-				adapterClass = JavaVoidTypeAdapter.class;
-				proxyClass = JavaVoidTypeProxy.class;
-				dataClass = JavaVoidTypeData.class;
-				break;
-
-			case NULL:
-				adapterClass = JavaNullTypeAdapter.class;
-				proxyClass = JavaNullTypeProxy.class;
-				dataClass = JavaNullTypeData.class;
-				break;
-
-			case ERROR:
-				adapterClass = JavaErrorTypeAdapter.class;
-				proxyClass = JavaErrorTypeProxy.class;
-				dataClass = JavaErrorTypeData.class;
-				break;
-
-			default:
-				adapterClass = JavaPrimitiveTypeAdapter.class;
-				proxyClass = JavaPrimitiveTypeProxy.class;
-				dataClass = JavaPrimitiveTypeData.class;
-				break;
-			}
-
-			JavaType type = getTypeAdapter(typeMirror, adapterClass,
-					proxyClass, dataClass, elementUtils, typeUtils);
+			ModelFactory<TypeMirror> factory = TYPE_FACTORIES.get(typeMirror
+					.getKind());
+			if (factory == null) {
+				factory = PRIMITIVE_TYPE_FACTORY;
+			}
+
+			// the types are shared, so they can't be reused with their parent
+			JavaType type = (JavaType) createModel(TYPE_ADAPTERS, null,
+					typeMirror, factory, elementUtils, typeUtils);
 
 			if (clazz.isAssignableFrom(type.getClass())) {
 				return (T) type;
@@ -385,73 +694,65 @@ public class AdapterFactory {
 			AnnotationMirror annotationMirror, Elements elementUtils,
 			Types typeUtils) {
 		if (annotationMirror != null) {
-			JavaMetadata metadata = METADATA_ADAPTERS.get(annotationMirror);
-			if (metadata != null) {
-				// it was in the cache already
-				return metadata;
-			}
+			synchronized (LOCK) {
+				if (concurrentAccess) {
+					// the proxies can be modified, so they aren't shared
+					JavaMetadata adapter = new JavaMetadataAdapter(annotationMirror,
+							elementUtils, typeUtils);
+					return new JavaMetadataProxy(adapter, new JavaMetadataData());
+				}
 
-			metadata = new JavaMetadataProxy(new JavaMetadataAdapter(
-					annotationMirror, elementUtils, typeUtils),
-					new JavaMetadataData());
+				JavaMetadata metadata = METADATA_ADAPTERS.get(annotationMirror);
+				if (metadata != null) {
+					// it was in the cache already
+					return metadata;
+				}
+
+				JavaMetadata adapter = new JavaMetadataAdapter(
+						annotationMirror, elementUtils, typeUtils);
+				metadata = new JavaMetadataProxy(adapter, new JavaMetadataData());
 
-			// put it to cache
-			METADATA_ADAPTERS.put(annotationMirror, metadata);
+				// put it to cache
+				METADATA_ADAPTERS.put(annotationMirror, metadata);
 
-			return metadata;
+				return metadata;
+			}
 		} else {
 			return null;
 		}
 	}
 
-	@SuppressWarnings("unchecked")
-	private static <T extends JavaElement> T getElementAdapter(Element element,
-			Class<? extends JavaElementAdapter> adapterClass,
-			Class<? extends JavaElementProxy> proxyClass,
-			Class<? extends JavaElementData> dataClass, Elements elementUtils,
-			Types typeUtils) {
-
-		return (T) createModel(ELEMENT_ADAPTERS, element, adapterClass,
-				proxyClass, dataClass, elementUtils, typeUtils);
-	}
-
-	private static JavaType getTypeAdapter(TypeMirror typeMirror,
-			Class<? extends AbstractJavaTypeAdapter> adapterClass,
-			Class<? extends JavaTypeProxy> proxyClass,
-			Class<? extends JavaTypeData> dataClass, Elements elementUtils,
-			Types typeUtils) {
-
-		return (JavaType) createModel(TYPE_ADAPTERS, typeMirror, adapterClass,
-				proxyClass, dataClass, elementUtils, typeUtils);
-	}
+	private static <S> Object createModel(AdapterCache<S, Object> cache,
+			AdapterCache<S, Object> proxies, S target,
+			ModelFactory<S> factory, Elements elementUtils, Types typeUtils) {
+		boolean reuse = proxies != null && proxyCaching && !concurrentAccess;
+		Object adapter;
+
+		synchronized (LOCK) {
+			if (reuse) {
+				Object proxy = proxies.get(target);
+				if (proxy != null) {
+					return proxy;
+				}
+			}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static <T> T createModel(Map map, Object target,
-			Class<?> adapterClass, Class<?> proxyClass, Class<?> dataClass,
-			Elements elementUtils, Types typeUtils) {
-		try {
-			Object adapter = map.get(target);
+			adapter = cache.get(target);
 
 			if (adapter == null) {
-				Constructor<?> constructor = adapterClass.getConstructors()[0];
-				if (constructor != null) {
-					adapter = constructor.newInstance(target, elementUtils,
-							typeUtils);
-					map.put(target, adapter);
-				} else {
-					throw new RuntimeException(
-							"Cannot find adapter constructor!");
-				}
+				adapter = factory.createAdapter(target, elementUtils, typeUtils);
+				cache.put(target, adapter);
 			}
+		}
 
-			Object data = dataClass.newInstance();
-			T proxy = (T) proxyClass.getConstructors()[0].newInstance(adapter,
-					data);
+		Object proxy = factory.createProxy(adapter);
 
-			return proxy;
-		} catch (Exception e) {
-			throw new RuntimeException("Cannot create element adapter!", e);
+		if (reuse) {
+			synchronized (LOCK) {
+				proxies.put(target, proxy);
+			}
 		}
+
+		return proxy;
 	}
 
 	public static Name getNameModel(String text) {
@@ -42,8 +42,6 @@ abstract class AbstractJavaExecutableAdapter extends JavaElementAdapter
 
 	private final ExecutableElement executable;
 
-	private final JavaBody body = New.body();
-
 	public AbstractJavaExecutableAdapter(ExecutableElement executable,
 			Elements elementUtils, Types typeUtils) {
 		super(executable, elementUtils, typeUtils);
@@ -78,9 +76,13 @@ abstract class AbstractJavaExecutableAdapter extends JavaElementAdapter
 		return adapters;
 	}
 
+	/**
+	 * The adapters are shared by the models, so each of them gets its own
+	 * (modifiable) body.
+	 */
 	@Override
 	public JavaBody getBody() {
-		return this.body;
+		return New.body();
 	}
 
 	@Override
@@ -39,8 +39,6 @@ public final class JavaEnumConstantAdapter extends AbstractJavaVariableAdapter i
 	@SuppressWarnings("unused")
 	private final VariableElement enumConstant;
 
-	private final PowerList<JavaExpression> values = Power.list();
-
 	public JavaEnumConstantAdapter(VariableElement enumConstant, Elements elementUtils,
 			Types typeUtils) {
 		super(enumConstant, elementUtils, typeUtils);
@@ -50,7 +48,8 @@ public final class JavaEnumConstantAdapter extends AbstractJavaVariableAdapter i
 
 	@Override
 	public PowerList<JavaExpression> getValues() {
-		return values;
+		// the adapters are shared by the models, which can modify the values
+		return Power.list();
 	}
 
 	@Override
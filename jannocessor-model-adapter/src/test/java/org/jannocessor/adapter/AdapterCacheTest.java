@@ -0,0 +1,116 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.adapter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class AdapterCacheTest {
+
+	@Test
+	public void testHitsAndMisses() {
+		AdapterCache<String, Object> cache = new AdapterCache<String, Object>("test", 0);
+		Object value = new Object();
+
+		assertNull(cache.get("a"));
+		cache.put("a", value);
+
+		assertSame(value, cache.get("a"));
+		assertSame(value, cache.get(new String("a")));
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testEvictionAtMaxSize() {
+		AdapterCache<String, Object> cache = new AdapterCache<String, Object>("test", 2);
+		String a = "a", b = "b", c = "c";
+		Object valueA = new Object(), valueB = new Object(), valueC = new Object();
+
+		cache.put(a, valueA);
+		cache.put(b, valueB);
+		cache.get(a);
+		cache.put(c, valueC);
+
+		// the least recently used entry was evicted
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull(cache.get(b));
+		assertSame(valueA, cache.get(a));
+		assertSame(valueC, cache.get(c));
+
+		cache.setMaxSize(1);
+		assertEquals(1, cache.size());
+		assertEquals(2, cache.getEvictions());
+	}
+
+	@Test
+	public void testCollectedEntries() throws InterruptedException {
+		AdapterCache<Object, Object> cache = new AdapterCache<Object, Object>("test", 0);
+		Object key = new Object();
+
+		cache.put(key, new Object());
+		cache.put(new Object(), key);
+
+		// neither the key of the first entry nor the value of the second one
+		// are referenced from the cache, so both entries can be collected
+		for (int i = 0; i < 50 && cache.size() > 1; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertNull(cache.get(key));
+		assertEquals(0, cache.size());
+		assertEquals(2, cache.getCollections());
+	}
+
+	@Test
+	public void testClear() {
+		AdapterCache<String, Object> cache = new AdapterCache<String, Object>("test", 1);
+		Object value = new Object();
+
+		cache.put("a", value);
+		cache.put("b", value);
+		cache.get("b");
+		cache.get("c");
+		cache.clear();
+
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHits());
+		assertEquals(0, cache.getMisses());
+		assertEquals(0, cache.getEvictions());
+		assertEquals(0, cache.getCollections());
+		assertNull(cache.get("b"));
+	}
+
+	@Test
+	public void testClearCaches() {
+		AdapterFactory.clearCaches();
+
+		for (String statistics : AdapterFactory.getCacheStatistics()) {
+			assertTrue(statistics, statistics.contains("size=0, hits=0, misses=0"));
+		}
+	}
+
+}
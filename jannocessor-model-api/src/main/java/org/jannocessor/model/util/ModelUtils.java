@@ -28,6 +28,7 @@ import org.apache.commons.lang.SerializationUtils;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.CodeNode;
 import org.jannocessor.model.JavaElement;
+import org.jannocessor.model.Name;
 import org.jannocessor.model.executable.JavaConstructor;
 import org.jannocessor.model.modifier.value.ConstructorModifierValue;
 import org.jannocessor.model.structure.AbstractJavaClass;
@@ -37,8 +38,18 @@ import org.jannocessor.model.type.JavaType;
 
 public class ModelUtils {
 
+	private static boolean copyVerification = false;
+
+	public static void setCopyVerification(boolean copyVerification) {
+		ModelUtils.copyVerification = copyVerification;
+	}
+
 	public static <T> PowerList<T> parentedList(PowerList<T> list,
 			final JavaElement parent) {
+		if (list == null) {
+			return null;
+		}
+
 		ParentedListOperationListener<T> operationListener = new ParentedListOperationListener<T>(
 				parent);
 		list.addCollectionOperationListener(operationListener);
@@ -82,12 +93,52 @@ public class ModelUtils {
 	@SuppressWarnings("unchecked")
 	public static <T extends Serializable> T copy(T model) {
 		T clone = (T) SerializationUtils.clone(model);
+		return verifyCopy(model, clone);
+	}
 
-		if (!model.equals(clone) || !clone.equals(model)) {
+	public static <T> T verifyCopy(T model, T copy) {
+		if (copyVerification && (!model.equals(copy) || !copy.equals(model))) {
 			throw new IllegalStateException("Couldn't create a correct copy!");
 		}
 
-		return clone;
+		return copy;
+	}
+
+	/**
+	 * Deep copy of a property value of a model, used by the generated
+	 * structural copies of the models.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copyValue(T value) {
+		if (value instanceof CodeNode) {
+			return (T) ((CodeNode) value).copy();
+		} else if (value instanceof Name) {
+			return (T) ((Name) value).copy();
+		} else if (value instanceof PowerList<?>) {
+			return (T) copyList((PowerList<?>) value);
+		} else if (value instanceof Serializable && !isImmutable(value)) {
+			return (T) SerializationUtils.clone((Serializable) value);
+		} else {
+			return value;
+		}
+	}
+
+	public static <T> PowerList<T> copyList(PowerList<T> list) {
+		if (list == null) {
+			return null;
+		}
+
+		PowerList<T> copy = list.copy();
+		for (int i = 0; i < copy.size(); i++) {
+			copy.set(i, copyValue(copy.get(i)));
+		}
+
+		return copy;
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value instanceof String || value instanceof Number || value instanceof Boolean
+				|| value instanceof Character || value instanceof Enum<?> || value instanceof Class<?>;
 	}
 
 	public static Boolean isDefault(JavaConstructor constructor) {
@@ -35,53 +35,121 @@ public class NameBean implements Name {
 
 	private String name;
 
+	// the decomposition of the name, until it's reassigned
+	private transient Decomposition decomposition;
+
 	private enum NameCase {
 		CAMELCASE, UNDERSCORE, PACKAGE
 	};
 
+	private static class Decomposition {
+
+		private final NameCase nameCase;
+
+		private final String[] parts;
+
+		public Decomposition(NameCase nameCase, String[] parts) {
+			this.nameCase = nameCase;
+			this.parts = parts;
+		}
+	}
+
 	public NameBean(String name) {
 		this.name = name;
 	}
 
-	private List<String> parts() {
-		String name = getText();
-		String[] parts;
-		switch (getNameCase()) {
+	private Decomposition decomposition() {
+		Decomposition decomposition = this.decomposition;
+
+		if (decomposition == null) {
+			String name = getText();
+			NameCase nameCase = detectNameCase(name);
+			decomposition = new Decomposition(nameCase, split(name, nameCase));
+			this.decomposition = decomposition;
+		}
+
+		return decomposition;
+	}
+
+	private static String[] split(String name, NameCase nameCase) {
+		switch (nameCase) {
 		case CAMELCASE:
-			parts = name.split("(?<!^)(?=[A-Z][^A-Z0-9])");
-			break;
+			return splitCamelCase(name);
 		case PACKAGE:
-			parts = name.split("\\.");
-			break;
+			return split(name, '.');
 		case UNDERSCORE:
-			parts = name.split("_");
-			break;
+			return split(name, '_');
 		default:
 			throw new IllegalStateException("Unknown name case!");
 		}
+	}
+
+	/**
+	 * Splits the name before each upper-case letter that follows a
+	 * non-upper-case character, or is followed by a character that is
+	 * neither an upper-case letter nor a digit, e.g. "firstSECONDThird".
+	 */
+	private static String[] splitCamelCase(String name) {
+		List<String> parts = new ArrayList<String>();
 
-		List<String> aaa = new ArrayList<String>();
-		for (String part : parts) {
-			if (getNameCase().equals(NameCase.CAMELCASE)) {
-				String[] subparts = part.split("(?<=[^A-Z])(?=[A-Z])");
-				for (String subpart : subparts) {
-					aaa.add(subpart);
+		int start = 0;
+		for (int i = 1; i < name.length(); i++) {
+			if (isUpperCase(name.charAt(i))) {
+				if (!isUpperCase(name.charAt(i - 1))
+						|| (i + 1 < name.length() && !isUpperCaseOrDigit(name.charAt(i + 1)))) {
+					parts.add(name.substring(start, i));
+					start = i;
 				}
-			} else {
-				aaa.add(part);
 			}
 		}
+		parts.add(name.substring(start));
+
+		return parts.toArray(new String[parts.size()]);
+	}
+
+	/**
+	 * Splits the name like {@link String#split(String)}, without the trailing
+	 * empty parts.
+	 */
+	private static String[] split(String name, char separator) {
+		int pos = name.indexOf(separator);
+		if (pos < 0) {
+			return new String[] { name };
+		}
+
+		List<String> parts = new ArrayList<String>();
+
+		int start = 0;
+		while (pos >= 0) {
+			parts.add(name.substring(start, pos));
+			start = pos + 1;
+			pos = name.indexOf(separator, start);
+		}
+		parts.add(name.substring(start));
+
+		int size = parts.size();
+		while (size > 0 && parts.get(size - 1).length() == 0) {
+			size--;
+		}
+
+		return parts.subList(0, size).toArray(new String[size]);
+	}
+
+	private static boolean isUpperCase(char c) {
+		return c >= 'A' && c <= 'Z';
+	}
 
-		return aaa;
+	private static boolean isUpperCaseOrDigit(char c) {
+		return isUpperCase(c) || (c >= '0' && c <= '9');
+	}
+
+	private List<String> parts() {
+		return new ArrayList<String>(Arrays.asList(decomposition().parts));
 	}
 
 	@Override
 	public String[] getParts() {
-		List<String> parts = new ArrayList<String>();
-		for (String part : parts()) {
-			parts.add(part);
-		}
-		return parts.toArray(new String[parts.size()]);
+		return decomposition().parts.clone();
 	}
 
 	@Override
@@ -173,7 +241,7 @@ public class NameBean implements Name {
 
 	@Override
 	public boolean containsParts(String... parts) {
-		return parts().containsAll(Arrays.asList(parts));
+		return Arrays.asList(decomposition().parts).containsAll(Arrays.asList(parts));
 	}
 
 	private String mergeParts(List<String> parts) {
@@ -196,7 +264,10 @@ public class NameBean implements Name {
 	}
 
 	private NameCase getNameCase() {
-		String name = getText();
+		return decomposition().nameCase;
+	}
+
+	private static NameCase detectNameCase(String name) {
 		int separatorPos = name.indexOf('.');
 		if (separatorPos > 0) {
 			return NameCase.PACKAGE;
@@ -254,6 +325,7 @@ public class NameBean implements Name {
 	@Override
 	public void assign(String name) {
 		this.name = name;
+		this.decomposition = null;
 	}
 
 	@Override
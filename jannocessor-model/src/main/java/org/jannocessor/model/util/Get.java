@@ -2,6 +2,7 @@ package org.jannocessor.model.util;
 
 import org.jannocessor.collection.transform.api.Transformation;
 import org.jannocessor.model.JavaElement;
+import org.jannocessor.model.JavaElementKind;
 import org.jannocessor.model.Name;
 import org.jannocessor.model.type.JavaType;
 
@@ -10,6 +11,9 @@ public class Get {
 	public static final Transformation<JavaElement, Name> NAME;
 	public static final Transformation<JavaElement, JavaType> TYPE;
 	public static final Transformation<JavaType, String> FULL_NAME;
+	public static final Transformation<JavaElement, String> NAME_TEXT;
+	public static final Transformation<JavaElement, JavaElementKind> KIND;
+	public static final Transformation<JavaElement, String> TYPE_NAME;
 
 	static {
 		NAME = new Transformation<JavaElement, Name>() {
@@ -19,9 +23,7 @@ public class Get {
 			}
 
 		};
-	}
 
-	static {
 		TYPE = new Transformation<JavaElement, JavaType>() {
 			@Override
 			public JavaType transform(JavaElement input) {
@@ -29,9 +31,7 @@ public class Get {
 			}
 
 		};
-	}
 
-	static {
 		FULL_NAME = new Transformation<JavaType, String>() {
 			@Override
 			public String transform(JavaType type) {
@@ -39,6 +39,32 @@ public class Get {
 			}
 
 		};
+
+		// the names and the types can be changed, so as keys of the indexes
+		// they suit only the elements that aren't renamed or retyped
+		NAME_TEXT = new Transformation<JavaElement, String>() {
+			@Override
+			public String transform(JavaElement input) {
+				return input.getName() != null ? input.getName().getText() : null;
+			}
+
+		};
+
+		KIND = new Transformation<JavaElement, JavaElementKind>() {
+			@Override
+			public JavaElementKind transform(JavaElement input) {
+				return input.getKind();
+			}
+
+		};
+
+		TYPE_NAME = new Transformation<JavaElement, String>() {
+			@Override
+			public String transform(JavaElement input) {
+				return input.getType() != null ? input.getType().getCanonicalName() : null;
+			}
+
+		};
 	}
 	
 }
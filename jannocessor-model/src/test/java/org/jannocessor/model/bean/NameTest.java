@@ -20,7 +20,13 @@
 package org.jannocessor.model.bean;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import net.sf.twip.TwiP;
 
 import org.junit.Test;
@@ -143,6 +149,60 @@ public class NameTest extends AbstractModelTest {
 		assertEquals(expectedName, newName);
 	}
 
+	@Test
+	public void testPartsAfterAssign() {
+		NameBean name = new NameBean(smallCamelCase);
+		checkParts(name, "first", "Second", "Third");
+
+		name.assign(bigUnderscore);
+		checkParts(name, "FIRST", "SECOND", "THIRD");
+
+		name.appendPart("fourth");
+		checkParts(name, "FIRST", "SECOND", "THIRD", "fourth");
+	}
+
+	private void checkParts(NameBean name, String... expectedParts) {
+		assertArrayEquals(expectedParts, name.getParts());
+	}
+
+	@Test
+	public void testPartsAsWithRegex() {
+		String chars = "aZb9_.Y1x";
+		Random random = new Random(3);
+
+		for (int i = 0; i < 50000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(12);
+			for (int j = 0; j < length; j++) {
+				sb.append(chars.charAt(random.nextInt(chars.length())));
+			}
+
+			String name = sb.toString();
+			assertArrayEquals(name, partsWithRegex(name), new NameBean(name).getParts());
+		}
+	}
+
+	/*
+	 * The original, regex-based splitting, used as a reference.
+	 */
+	private static String[] partsWithRegex(String name) {
+		String[] parts;
+		if (name.indexOf('.') > 0) {
+			parts = name.split("\\.");
+		} else if (name.indexOf('_') > 0) {
+			parts = name.split("_");
+		} else {
+			List<String> subparts = new ArrayList<String>();
+			for (String part : name.split("(?<!^)(?=[A-Z][^A-Z0-9])")) {
+				for (String subpart : part.split("(?<=[^A-Z])(?=[A-Z])")) {
+					subparts.add(subpart);
+				}
+			}
+			parts = subparts.toArray(new String[subparts.size()]);
+		}
+		return parts;
+	}
+
 	/*
 	 * OTHER TESTS
 	 */
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.model.bean.util;
+
+import junit.framework.Assert;
+
+import org.jannocessor.collection.Power;
+import org.jannocessor.model.executable.JavaMethod;
+import org.jannocessor.model.structure.JavaClass;
+import org.jannocessor.model.util.Classes;
+import org.jannocessor.model.util.Fields;
+import org.jannocessor.model.util.Methods;
+import org.jannocessor.model.util.ModelUtils;
+import org.jannocessor.model.util.New;
+import org.jannocessor.model.variable.JavaField;
+import org.junit.Test;
+
+public class ModelCopyTest {
+
+	private JavaClass createClass() {
+		JavaField field = New.field(Fields.PRIVATE, String.class, "name");
+		JavaMethod getter = Methods.getter(field);
+
+		return New.classs(Classes.PUBLIC, "Person", Power.list(field), Power.list(getter));
+	}
+
+	@Test
+	public void testStructuralCopy() {
+		JavaClass original = createClass();
+		JavaClass copy = original.copy();
+
+		Assert.assertNotSame(original, copy);
+		Assert.assertEquals(original, copy);
+		Assert.assertEquals(copy, original);
+
+		Assert.assertNotSame(original.getName(), copy.getName());
+		Assert.assertNotSame(original.getModifiers(), copy.getModifiers());
+		Assert.assertNotSame(original.getFields(), copy.getFields());
+		Assert.assertNotSame(original.getFields().get(0), copy.getFields().get(0));
+		Assert.assertNotSame(original.getMethods().get(0), copy.getMethods().get(0));
+	}
+
+	@Test
+	public void testCopiedChildrenAreParented() {
+		JavaClass copy = createClass().copy();
+
+		Assert.assertSame(copy, copy.getFields().get(0).getParent());
+		Assert.assertSame(copy, copy.getMethods().get(0).getParent());
+	}
+
+	@Test
+	public void testCopyIsDetached() {
+		JavaClass original = createClass();
+		JavaMethod copy = original.getMethods().get(0).copy();
+
+		Assert.assertNull(copy.getParent());
+
+		copy.getName().appendPart("Copy");
+		Assert.assertEquals("getName", original.getMethods().get(0).getName().getText());
+		Assert.assertEquals("getNameCopy", copy.getName().getText());
+	}
+
+	@Test
+	public void testVerifiedCopy() {
+		ModelUtils.setCopyVerification(true);
+		try {
+			JavaClass original = createClass();
+			Assert.assertEquals(original, original.copy());
+		} finally {
+			ModelUtils.setCopyVerification(false);
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.proxy;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import org.jannocessor.data.JavaClassData;
+import org.jannocessor.data.JavaFieldData;
+import org.jannocessor.model.structure.JavaClass;
+import org.jannocessor.model.util.Fields;
+import org.jannocessor.model.util.New;
+import org.jannocessor.model.variable.JavaField;
+import org.junit.Test;
+
+public class ProxyHashCodeTest {
+
+	@Test
+	public void testEqualProxyAndBeanHaveEqualHashCodes() {
+		JavaField bean = New.field(Fields.PRIVATE, String.class, "name");
+		JavaFieldProxy proxy = new JavaFieldProxy(bean, new JavaFieldData());
+
+		JavaField copy = bean.copy();
+		assertTrue(proxy.equals(copy));
+		assertTrue(copy.equals(proxy));
+		assertEquals(copy.hashCode(), proxy.hashCode());
+
+		JavaClass classBean = New.classs("Foo");
+		JavaClassProxy classProxy = new JavaClassProxy(classBean,
+				new JavaClassData());
+
+		JavaClass classCopy = classBean.copy();
+		assertTrue(classProxy.equals(classCopy));
+		assertEquals(classCopy.hashCode(), classProxy.hashCode());
+	}
+
+	@Test
+	public void testDifferentNamesAreNotEqual() {
+		JavaField bean = New.field(Fields.PRIVATE, String.class, "name");
+		JavaFieldProxy proxy = new JavaFieldProxy(bean, new JavaFieldData());
+
+		JavaField other = New.field(Fields.PRIVATE, String.class, "other");
+		assertFalse(proxy.equals(other));
+		assertFalse(other.equals(proxy));
+	}
+
+	@Test
+	public void testHashCodeIsCalculatedOnce() {
+		JavaField bean = New.field(Fields.PRIVATE, String.class, "name");
+		final int[] calculations = { 0 };
+
+		JavaFieldProxy proxy = new JavaFieldProxy(bean, new JavaFieldData()) {
+			@Override
+			protected int calculateHashCode() {
+				calculations[0]++;
+				return super.calculateHashCode();
+			}
+		};
+
+		int hash = proxy.hashCode();
+		assertEquals(hash, proxy.hashCode());
+		assertEquals(hash, proxy.hashCode());
+		assertEquals(1, calculations[0]);
+	}
+
+	@Test
+	public void testCopiesAreRehashedAfterRenaming() {
+		JavaField bean = New.field(Fields.PRIVATE, String.class, "name");
+		JavaFieldProxy proxy = new JavaFieldProxy(bean, new JavaFieldData());
+
+		JavaField copy = proxy.copy();
+		int hash = copy.hashCode();
+		copy.getName().appendPart("changed");
+
+		assertFalse(hash == copy.hashCode());
+		assertFalse(proxy.equals(copy));
+		assertEquals(bean.hashCode(), proxy.hashCode());
+	}
+
+}
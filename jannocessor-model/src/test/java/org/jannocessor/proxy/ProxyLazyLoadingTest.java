@@ -0,0 +1,129 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.proxy;
+
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jannocessor.data.JavaFieldData;
+import org.jannocessor.model.Name;
+import org.jannocessor.model.util.New;
+import org.jannocessor.model.variable.JavaField;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class ProxyLazyLoadingTest {
+
+	private static final int THREADS = 8;
+
+	@Test
+	public void testPropertyIsLoadedOnce() {
+		Name name = New.name("name");
+		JavaField adapter = mock(JavaField.class);
+		when(adapter.getName()).thenReturn(name);
+
+		JavaFieldProxy proxy = new JavaFieldProxy(adapter, new JavaFieldData());
+		assertSame(name, proxy.getName());
+		assertSame(name, proxy.getName());
+
+		verify(adapter, times(1)).getName();
+	}
+
+	@Test
+	public void testPropertyIsLoadedUnderAdapterLock() {
+		final AtomicBoolean locked = new AtomicBoolean();
+		JavaField adapter = mock(JavaField.class);
+		when(adapter.getName()).thenAnswer(new Answer<Name>() {
+			public Name answer(InvocationOnMock invocation) {
+				locked.set(Thread.holdsLock(CodeNodeProxy.ADAPTER_LOCK));
+				return New.name("name");
+			}
+		});
+
+		new JavaFieldProxy(adapter, new JavaFieldData()).getName();
+		assertTrue(locked.get());
+	}
+
+	@Test
+	public void testConcurrentPropertyIsLoadedOnce() throws Exception {
+		final Name name = New.name("name");
+		final CountDownLatch start = new CountDownLatch(1);
+		JavaField adapter = mock(JavaField.class);
+		when(adapter.getName()).thenAnswer(new Answer<Name>() {
+			public Name answer(InvocationOnMock invocation) throws Exception {
+				// give the other threads a chance to race for the property
+				Thread.sleep(20);
+				return name;
+			}
+		});
+
+		final JavaFieldProxy proxy = new JavaFieldProxy(adapter,
+				new JavaFieldData());
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Name>> results = new ArrayList<Future<Name>>();
+			for (int i = 0; i < THREADS; i++) {
+				results.add(executor.submit(new Callable<Name>() {
+					public Name call() throws Exception {
+						start.await();
+						return proxy.getName();
+					}
+				}));
+			}
+			start.countDown();
+
+			for (Future<Name> result : results) {
+				assertSame(name, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		verify(adapter, times(1)).getName();
+	}
+
+	@Test
+	public void testLazyPropertiesFitInTheFlags() {
+		// the initialization flags are the bits of an int
+		assertTrue(JavaClassProxy.LAZY_PROPERTIES <= 31);
+		assertTrue(JavaEnumProxy.LAZY_PROPERTIES <= 31);
+		assertTrue(JavaInterfaceProxy.LAZY_PROPERTIES <= 31);
+		assertTrue(JavaAnnotationProxy.LAZY_PROPERTIES <= 31);
+		assertTrue(JavaMethodProxy.LAZY_PROPERTIES <= 31);
+		assertTrue(JavaConstructorProxy.LAZY_PROPERTIES <= 31);
+		assertTrue(JavaFieldProxy.LAZY_PROPERTIES <= 31);
+	}
+
+}
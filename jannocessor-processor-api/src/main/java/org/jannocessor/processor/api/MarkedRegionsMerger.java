@@ -0,0 +1,34 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.api;
+
+/**
+ * A code merger that uses only the marked regions of the old code, so the
+ * old code doesn't need to be read and merged if it doesn't contain the
+ * start marker.
+ */
+public interface MarkedRegionsMerger extends CodeMerger {
+
+	/**
+	 * The start marker of the regions, matched ignoring case.
+	 */
+	String getStartMarker();
+
+}
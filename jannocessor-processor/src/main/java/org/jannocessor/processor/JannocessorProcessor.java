@@ -19,13 +19,25 @@
 
 package org.jannocessor.processor;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedSourceVersion;
@@ -35,31 +47,80 @@ import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileManager.Location;
 import javax.tools.StandardLocation;
 
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.apache.commons.lang.StringUtils;
 import org.jannocessor.JannocessorException;
 import org.jannocessor.adapter.AdapterFactory;
 import org.jannocessor.collection.Power;
 import org.jannocessor.collection.api.PowerList;
 import org.jannocessor.model.JavaElement;
+import org.jannocessor.model.util.ModelUtils;
 import org.jannocessor.processor.api.CodeMerger;
 import org.jannocessor.processor.api.CodeProcessor;
 import org.jannocessor.processor.api.LifecycleEvent;
 import org.jannocessor.processor.api.LifecycleListener;
 import org.jannocessor.processor.api.ProcessingContext;
 import org.jannocessor.processor.api.RenderData;
+import org.jannocessor.processor.api.RenderRegister;
 import org.jannocessor.processor.context.AbstractRenderRegister;
 import org.jannocessor.processor.context.DefaultProcessingContext;
+import org.jannocessor.processor.context.DependencyGraph;
+import org.jannocessor.processor.context.Fingerprints;
 import org.jannocessor.processor.context.GeneratedCode;
 import org.jannocessor.processor.context.GeneratedFile;
+import org.jannocessor.processor.context.Problems;
 import org.jannocessor.processor.context.ProcessingConfiguration;
 import org.jannocessor.processor.context.ProcessorsConfiguration;
+import org.jannocessor.service.api.MultiContentSplitter.PartHandler;
+import org.jannocessor.service.imports.ImportOrganizerImpl;
+import org.jannocessor.service.render.VelocityTemplateRenderer;
 import org.jannocessor.ui.RenderPreview;
 import org.jannocessor.util.Jannocessor;
+import org.jannocessor.util.Settings;
 
 @SupportedSourceVersion(SourceVersion.RELEASE_6)
 public class JannocessorProcessor extends JannocessorProcessorBase {
 
 	private ProcessingContext context;
 
+	private int processingThreads = 1;
+
+	private boolean incremental = false;
+
+	private boolean incrementallyProcessed = false;
+
+	@Override
+	protected void processOption(String key, String value) {
+		if (Settings.OPTION_PROCESSING_THREADS.equals(key)) {
+			try {
+				processingThreads = Math.max(1, Integer.parseInt(String.valueOf(value).trim()));
+			} catch (NumberFormatException e) {
+				logger.warn("Invalid number of processing threads: '{}'", value);
+			}
+
+			// the models will be shared by the processing threads
+			AdapterFactory.setConcurrentAccess(processingThreads > 1);
+		} else if (Settings.OPTION_INCREMENTAL.equals(key)) {
+			incremental = Boolean.parseBoolean(String.valueOf(value).trim());
+		} else if (Settings.OPTION_ADAPTER_CACHE_SIZE.equals(key)) {
+			try {
+				AdapterFactory.setCacheSize(Math.max(0, Integer.parseInt(String.valueOf(value).trim())));
+			} catch (NumberFormatException e) {
+				logger.warn("Invalid adapter cache size: '{}'", value);
+			}
+		} else if (Settings.OPTION_PROXY_CACHE.equals(key)) {
+			AdapterFactory.setProxyCaching(Boolean.parseBoolean(String.valueOf(value).trim()));
+		} else if (Settings.OPTION_VERIFY_COPIES.equals(key)) {
+			ModelUtils.setCopyVerification(Boolean.parseBoolean(String.valueOf(value).trim()));
+		} else if (Settings.OPTION_RENDER_ENGINES.equals(key)) {
+			try {
+				VelocityTemplateRenderer.setMaxEngines(Math.max(0, Integer.parseInt(String.valueOf(value).trim())));
+			} catch (NumberFormatException e) {
+				logger.warn("Invalid number of render engines: '{}'", value);
+			}
+		}
+	}
+
 	@Override
 	protected void processAnnotations(final Set<? extends TypeElement> annotations,
 			final RoundEnvironment env) throws JannocessorException {
@@ -72,7 +133,7 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 			@Override
 			public void refresh() throws JannocessorException {
 				getRenderings().clear();
-				processElements(annotations, env, createProcessingContext());
+				processElements(annotations, env);
 			}
 		};
 
@@ -90,6 +151,13 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 		generateFiles();
 		
 		notifyCodeGenFinished();
+
+		// the models of the compiler are valid only in the current round
+		for (String statistics : AdapterFactory.getCacheStatistics()) {
+			logger.info(statistics);
+		}
+		logger.info(ImportOrganizerImpl.getCacheStatistics());
+		AdapterFactory.clearCaches();
 	}
 
 	private void notifyCodeGenFinished() {
@@ -122,12 +190,53 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 			processMultiFiles(engine.split(code.getContent()), code.getMerger());
 		}
 
-		for (RenderData renderData : renderings) {
-			String text = engine.renderMacro("main", renderData.getAttributes(), new String[] {});
-			processMultiFiles(engine.split(text), renderData.getCodeMerger());
+		if (processingThreads > 1 && renderings.size() > 1) {
+			renderConcurrently(renderings);
+		} else {
+			for (RenderData renderData : renderings) {
+				processMultiFiles(renderFiles(renderData), renderData.getCodeMerger());
+			}
 		}
 	}
 
+	private void renderConcurrently(List<RenderData> renderings) throws JannocessorException {
+		List<Callable<Map<String, String>>> tasks = new ArrayList<Callable<Map<String, String>>>();
+
+		for (final RenderData renderData : renderings) {
+			tasks.add(new Callable<Map<String, String>>() {
+				@Override
+				public Map<String, String> call() throws Exception {
+					return renderFiles(renderData);
+				}
+			});
+		}
+
+		logger.info("Rendering {} registered items on {} threads", renderings.size(),
+				Math.min(processingThreads, renderings.size()));
+
+		// the files are collected in the order of registration
+		List<Map<String, String>> results = invokeAll(tasks);
+		for (int i = 0; i < results.size(); i++) {
+			processMultiFiles(results.get(i), renderings.get(i).getCodeMerger());
+		}
+	}
+
+	private Map<String, String> renderFiles(RenderData renderData) throws JannocessorException {
+		StringBuilderWriter writer = new StringBuilderWriter();
+		engine.renderMacro("main", renderData.getAttributes(), new String[] {}, writer);
+
+		// only the parts are copied, the rendered text isn't copied as a whole
+		final Map<String, String> parts = new LinkedHashMap<String, String>();
+		engine.split(writer.getBuilder(), new PartHandler() {
+			@Override
+			public void part(String name, CharSequence content) {
+				parts.put(name, content.toString());
+			}
+		});
+
+		return parts;
+	}
+
 	private void processMultiFiles(Map<String, String> contents, CodeMerger codeMerger) {
 		if (!contents.isEmpty()) {
 			for (Entry<String, String> entry : contents.entrySet()) {
@@ -142,23 +251,34 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 	private void generateFiles() throws JannocessorException {
 		logger.info("Generating {} files...", files.size());
 
+		int written = 0;
 		for (Entry<String, GeneratedFile> file : files.entrySet()) {
-			generateFile(file.getValue());
+			if (generateFile(file.getValue())) {
+				written++;
+			}
 		}
 
-		logger.info("Total {} files were generated.", files.size());
+		saveManifest();
+
+		logger.info("Total {} files were generated ({} written, {} unchanged skipped).",
+				new Object[] { files.size(), written, files.size() - written });
 	}
 
-	private void generateFile(GeneratedFile file) throws JannocessorException {
+	private boolean generateFile(GeneratedFile file) throws JannocessorException {
 		Location location = StandardLocation.SOURCE_OUTPUT;
 
 		String info = fileInfo(location, "", file.getFilename());
 		logger.debug("- Generating file: {}", info);
 
-		writeToFile(location, "", file.getFilename(), file.getContent(), file.getMerger());
+		return writeToFile(location, "", file.getFilename(), file.getContent(), file.getMerger());
 	}
 
 	private ProcessingContext createProcessingContext() {
+		return createProcessingContext(files, contents, problems, renderRegister);
+	}
+
+	private DefaultProcessingContext createProcessingContext(Map<String, GeneratedFile> files,
+			List<GeneratedCode> contents, Problems problems, RenderRegister renderer) {
 		DefaultProcessingContext context = new DefaultProcessingContext();
 
 		context.setEngine(engine);
@@ -169,14 +289,14 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 		context.setContents(contents);
 		context.setProblems(problems);
 		context.setFiler(filer);
-		context.setRenderer(renderRegister);
+		context.setRenderer(renderer);
 		context.setOutputPath(getOutputPath());
 
 		return context;
 	}
 
-	private void processElements(Set<? extends TypeElement> annotations, RoundEnvironment env,
-			ProcessingContext context) throws JannocessorException {
+	private void processElements(Set<? extends TypeElement> annotations, RoundEnvironment env)
+			throws JannocessorException {
 		// List<Object> facts = new ArrayList<Object>();
 		logger.info("Starting processing iteration...");
 
@@ -201,8 +321,13 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 		// facts.add(root);
 		// }
 
-		logger.info("Executing {} annotation processing configurations...");
-		for (ProcessingConfiguration config : processorsConfig.getConfiguration()) {
+		List<ProcessingConfiguration> configs = processorsConfig.getConfiguration();
+		logger.info("Executing {} annotation processing configurations...", configs.size());
+
+		List<PowerList<JavaElement>> inputs = new ArrayList<PowerList<JavaElement>>();
+		List<Set<Element>> sources = new ArrayList<Set<Element>>();
+
+		for (ProcessingConfiguration config : configs) {
 			HashSet<Element> elements = new HashSet<Element>();
 
 			for (Class<? extends Annotation> annotation : config.getAnnotations()) {
@@ -233,14 +358,300 @@ public class JannocessorProcessor extends JannocessorProcessorBase {
 				}
 			}
 
-			CodeProcessor<? extends JavaElement> processor = config.getProcessor();
-			logger.info("Invoking processor {} for {} elements", processor, list.size());
-			invokeProcessor(processor, list, context);
+			inputs.add(list);
+			sources.add(elements);
+		}
+
+		if (incremental && !incrementallyProcessed) {
+			// only the first iteration is incremental, the next ones are full
+			incrementallyProcessed = true;
+			processIncrementally(configs, sources, inputs, env.getRootElements());
+		} else {
+			// on a single thread the processors are invoked one by one
+			mergeResults(invokeIsolated(configs, inputs));
 		}
 
 		logger.info("Finished processing iteration.");
 	}
 
+	private void processIncrementally(List<ProcessingConfiguration> configs,
+			List<Set<Element>> sources, List<PowerList<JavaElement>> inputs,
+			Set<? extends Element> roots) throws JannocessorException {
+		DependencyGraph graph = new DependencyGraph(getOutputFile(Settings.DEPENDENCY_GRAPH));
+		graph.load();
+
+		Set<String> compiled = new HashSet<String>();
+		for (Element root : roots) {
+			compiled.add(Fingerprints.key(root));
+		}
+
+		Set<String> previousOutputs = graph.getAllOutputs();
+		String templates = getTemplatesFingerprint();
+
+		List<String> keys = new ArrayList<String>();
+		List<ProcessingConfiguration> changedConfigs = new ArrayList<ProcessingConfiguration>();
+		List<PowerList<JavaElement>> changedInputs = new ArrayList<PowerList<JavaElement>>();
+		List<String> changedKeys = new ArrayList<String>();
+		List<String> changedProcessors = new ArrayList<String>();
+		List<Map<String, String>> changedElements = new ArrayList<Map<String, String>>();
+		List<Set<String>> retainedOutputs = new ArrayList<Set<String>>();
+
+		for (int i = 0; i < configs.size(); i++) {
+			ProcessingConfiguration config = configs.get(i);
+			String key = getConfigurationKey(config);
+			String processor = getProcessorFingerprint(config.getProcessor());
+
+			Map<String, String> elements = new TreeMap<String, String>();
+			for (Element element : sources.get(i)) {
+				elements.put(Fingerprints.key(element), Fingerprints.of(element));
+			}
+
+			/*
+			 * The compiler passes only the recompiled sources, so an element
+			 * missing from the inputs isn't necessarily removed. Such elements
+			 * keep their fingerprints, and their outputs are kept.
+			 */
+			boolean partial = false;
+			for (Entry<String, String> previous : graph.getElements(key).entrySet()) {
+				if (!elements.containsKey(previous.getKey())
+						&& !isRemoved(previous.getKey(), compiled)) {
+					elements.put(previous.getKey(), previous.getValue());
+					partial = true;
+				}
+			}
+
+			keys.add(key);
+
+			String change = graph.findChange(key, templates, processor, elements);
+			if (change != null) {
+				logger.info("Processing configuration {} ({})", key, change);
+				changedConfigs.add(config);
+				changedInputs.add(inputs.get(i));
+				changedKeys.add(key);
+				changedProcessors.add(processor);
+				changedElements.add(elements);
+				retainedOutputs.add(partial ? graph.getOutputs(key) : new TreeSet<String>());
+			} else {
+				logger.info("Skipping up-to-date configuration {}", key);
+			}
+		}
+
+		List<DefaultProcessingContext> results = invokeIsolated(changedConfigs, changedInputs);
+		for (int i = 0; i < results.size(); i++) {
+			Set<String> outputs = getOutputs(results.get(i));
+			outputs.addAll(retainedOutputs.get(i));
+			graph.update(changedKeys.get(i), templates, changedProcessors.get(i),
+					changedElements.get(i), outputs);
+		}
+		mergeResults(results);
+
+		graph.retainConfigurations(keys);
+
+		Set<String> orphans = previousOutputs;
+		orphans.removeAll(graph.getAllOutputs());
+		for (String orphan : orphans) {
+			deleteOutputFile(orphan);
+		}
+
+		graph.save();
+
+		logger.info("Processed {} of {} configurations, deleted {} orphaned files",
+				new Object[] { changedConfigs.size(), configs.size(), orphans.size() });
+	}
+
+	/**
+	 * An element is known to be removed if its top-level element was
+	 * recompiled in this round, or if it doesn't exist any more.
+	 */
+	private boolean isRemoved(String key, Set<String> compiled) {
+		String topLevel = Fingerprints.topLevelKey(key);
+
+		if (compiled.contains(topLevel)) {
+			return true;
+		}
+
+		return elementUtils.getTypeElement(topLevel) == null
+				&& elementUtils.getPackageElement(topLevel) == null;
+	}
+
+	private String getConfigurationKey(ProcessingConfiguration config) {
+		List<String> annotations = new ArrayList<String>();
+		for (Class<? extends Annotation> annotation : config.getAnnotations()) {
+			annotations.add(annotation.getCanonicalName());
+		}
+
+		return config.getProcessor().getClass().getName() + "["
+				+ StringUtils.join(annotations, ",") + "]";
+	}
+
+	private String getProcessorFingerprint(CodeProcessor<? extends JavaElement> processor) {
+		Class<?> processorClass = processor.getClass();
+		ClassLoader loader = processorClass.getClassLoader();
+
+		List<URL> resources = new ArrayList<URL>();
+		if (loader != null) {
+			URL resource = loader.getResource(processorClass.getName().replace('.', '/') + ".class");
+			if (resource != null) {
+				resources.add(resource);
+			}
+		}
+
+		return Fingerprints.ofResources(resources);
+	}
+
+	private String getTemplatesFingerprint() throws JannocessorException {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+		List<String> names = new ArrayList<String>(Arrays.asList(Settings.VM_LIBRARY_FILES));
+		names.add(Settings.CUSTOM_TEMPLATE);
+
+		List<URL> resources = new ArrayList<URL>();
+		for (String name : names) {
+			URL resource = loader.getResource(name);
+			if (resource != null) {
+				resources.add(resource);
+			}
+		}
+
+		String fingerprint = Fingerprints.ofResources(resources);
+
+		String templatesPath = engine.getTemplatesPath();
+		if (templatesPath != null) {
+			fingerprint += ":" + Fingerprints.ofDirectory(new File(templatesPath));
+		}
+
+		return fingerprint;
+	}
+
+	private Set<String> getOutputs(DefaultProcessingContext result) throws JannocessorException {
+		Set<String> outputs = new TreeSet<String>(result.getFiles().keySet());
+
+		for (GeneratedCode code : result.getContents()) {
+			outputs.addAll(engine.split(code.getContent()).keySet());
+		}
+
+		return outputs;
+	}
+
+	private List<DefaultProcessingContext> invokeIsolated(List<ProcessingConfiguration> configs,
+			List<PowerList<JavaElement>> inputs) throws JannocessorException {
+		List<Callable<DefaultProcessingContext>> tasks = new ArrayList<Callable<DefaultProcessingContext>>();
+
+		for (int i = 0; i < configs.size(); i++) {
+			final CodeProcessor<? extends JavaElement> processor = configs.get(i).getProcessor();
+			final PowerList<JavaElement> list = inputs.get(i);
+
+			// each processor works on its own (thread-confined) context
+			final DefaultProcessingContext taskContext = createProcessingContext(
+					new HashMap<String, GeneratedFile>(), new ArrayList<GeneratedCode>(),
+					new Problems(), new AbstractRenderRegister() {
+						@Override
+						public void refresh() throws JannocessorException {
+							renderRegister.refresh();
+						}
+					});
+
+			tasks.add(new Callable<DefaultProcessingContext>() {
+				@Override
+				public DefaultProcessingContext call() throws Exception {
+					logger.info("Invoking processor {} for {} elements", processor, list.size());
+					invokeProcessor(processor, list, taskContext);
+					return taskContext;
+				}
+			});
+		}
+
+		if (processingThreads > 1 && configs.size() > 1) {
+			logger.info("Invoking {} processors on {} threads", configs.size(),
+					Math.min(processingThreads, configs.size()));
+		}
+
+		// the results are in the order of the configuration
+		return invokeAll(tasks);
+	}
+
+	private <T> List<T> invokeAll(List<Callable<T>> tasks) throws JannocessorException {
+		if (processingThreads < 2 || tasks.size() < 2) {
+			return callAll(tasks);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(processingThreads,
+				tasks.size()));
+		try {
+			List<Future<T>> futures = new ArrayList<Future<T>>();
+			for (Callable<T> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+
+			List<T> results = new ArrayList<T>(futures.size());
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Jannocessor.error("The processing was interrupted", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof JannocessorException) {
+				throw (JannocessorException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw Jannocessor.error("The processing failed", e);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private <T> List<T> callAll(List<Callable<T>> tasks) throws JannocessorException {
+		List<T> results = new ArrayList<T>(tasks.size());
+
+		for (Callable<T> task : tasks) {
+			try {
+				results.add(task.call());
+			} catch (JannocessorException e) {
+				throw e;
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw Jannocessor.error("The processing failed", e);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Merges the results in the order of the configuration, so a file
+	 * generated by more than one processor is overwritten by the last one, as
+	 * in the sequential processing. Such files are reported as problems.
+	 */
+	private void mergeResults(List<DefaultProcessingContext> results)
+			throws JannocessorException {
+		Set<String> merged = new HashSet<String>();
+
+		for (DefaultProcessingContext result : results) {
+			for (String output : getOutputs(result)) {
+				if (!merged.add(output)) {
+					String msg = String.format(
+							"The file '%s' was generated by more than one processor, only the last one is kept",
+							output);
+					logger.warn(msg);
+					addGlobalWarning(msg);
+				}
+			}
+
+			files.putAll(result.getFiles());
+			contents.addAll(result.getContents());
+			problems.addAll(result.getProblems());
+			renderRegister.getRenderings().addAll(result.getRenderer().getRenderings());
+		}
+	}
+
 	private Map<String, Set<? extends Element>> getAnnotatedElements(
 			Set<? extends TypeElement> annotations, RoundEnvironment env) {
 		Map<String, Set<? extends Element>> annotatedElements = new HashMap<String, Set<? extends Element>>();
@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Writer;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -57,10 +58,13 @@ import org.jannocessor.engine.impl.ProcessorModule;
 import org.jannocessor.inject.ImportsServiceModule;
 import org.jannocessor.processor.api.CodeMerger;
 import org.jannocessor.processor.api.FileInformation;
+import org.jannocessor.processor.api.MarkedRegionsMerger;
 import org.jannocessor.processor.api.RenderRegister;
 import org.jannocessor.processor.context.DefaultFileInformation;
 import org.jannocessor.processor.context.GeneratedCode;
 import org.jannocessor.processor.context.GeneratedFile;
+import org.jannocessor.processor.context.GeneratedFilesManifest;
+import org.jannocessor.processor.context.MappedFileInformation;
 import org.jannocessor.processor.context.Problem;
 import org.jannocessor.processor.context.Problems;
 import org.jannocessor.processor.context.ProcessorsConfiguration;
@@ -70,7 +74,9 @@ import org.jannocessor.service.render.TemplateServiceModule;
 import org.jannocessor.service.representation.RepresentationServiceModule;
 import org.jannocessor.service.splitter.SplitterServiceModule;
 import org.jannocessor.util.Jannocessor;
+import org.jannocessor.util.Settings;
 import org.jannocessor.util.logging.JannocessorLogger;
+import org.jannocessor.util.logging.SynchronizedMessager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -102,6 +108,8 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 
 	private String outputPath;
 
+	private GeneratedFilesManifest manifest;
+
 	public JannocessorProcessorBase() {
 		logger.info("Instantiated Jannocessor");
 	}
@@ -153,7 +161,7 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 		super.init(env);
 
 		try {
-			messager = env.getMessager();
+			messager = new SynchronizedMessager(env.getMessager());
 			JannocessorLogger.messager = messager;
 
 			elementUtils = env.getElementUtils();
@@ -275,8 +283,8 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 		}
 	}
 
-	protected void writeToFile(Location location, String pkg, String filename, String text, CodeMerger merger)
-			throws JannocessorException {
+	protected boolean writeToFile(Location location, String pkg, String filename, String text,
+			CodeMerger merger) throws JannocessorException {
 		boolean mergeFile = merger != null;
 
 		String info = fileInfo(location, pkg, filename);
@@ -287,7 +295,9 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 		try {
 			if (mergeFile) {
 				FileInformation oldCode = readFile(location, pkg, filename);
-				if (oldCode != null) {
+				if (oldCode != null && !hasMarkedRegions(oldCode, merger)) {
+					logger.info("No marked regions to merge in file: {}", info);
+				} else if (oldCode != null) {
 					FileInformation newCode = new DefaultFileInformation(text, oldCode.getFilename(),
 							new Date());
 					text = merger.mergeCode(oldCode, newCode);
@@ -299,9 +309,18 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 			throw new JannocessorException("Couldn't merge file: " + info, e);
 		}
 
+		GeneratedFilesManifest manifest = getManifest();
+		String hash = GeneratedFilesManifest.hash(text);
+
+		if (manifest.isUnchanged(location, info, hash, getLastModified(location, pkg, filename))) {
+			logger.info("Skipped writing unchanged file: {}", info);
+			return false;
+		}
+
 		Writer writer = null;
+		FileObject fileRes = null;
 		try {
-			FileObject fileRes = filer.createResource(location, pkg, filename);
+			fileRes = filer.createResource(location, pkg, filename);
 			writer = fileRes.openWriter();
 			writer.write(text);
 		} catch (IOException e) {
@@ -315,12 +334,57 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 				}
 			}
 		}
+
+		manifest.update(location, info, hash, fileRes.getLastModified());
+		return true;
+	}
+
+	private long getLastModified(Location location, String pkg, String filename) {
+		try {
+			return filer.getResource(location, pkg, filename).getLastModified();
+		} catch (Exception e) {
+			return 0;
+		}
+	}
+
+	private GeneratedFilesManifest getManifest() throws JannocessorException {
+		if (manifest == null) {
+			manifest = new GeneratedFilesManifest(getOutputFile(Settings.GENERATED_FILES_MANIFEST));
+			manifest.load();
+		}
+		return manifest;
+	}
+
+	protected void saveManifest() throws JannocessorException {
+		if (manifest != null) {
+			manifest.save();
+		}
+	}
+
+	/**
+	 * The mergers of marked regions don't need the old code if it doesn't
+	 * contain the start marker, which is checked without decoding the file.
+	 */
+	static boolean hasMarkedRegions(FileInformation oldCode, CodeMerger merger) throws IOException {
+		if (merger instanceof MarkedRegionsMerger && oldCode instanceof MappedFileInformation) {
+			String marker = ((MarkedRegionsMerger) merger).getStartMarker();
+			return ((MappedFileInformation) oldCode).containsIgnoreCase(marker);
+		} else {
+			return true;
+		}
 	}
 
 	private FileInformation readFile(Location location, String pkg, String filename) {
 		try {
 			FileObject file = filer.getResource(location, pkg, filename);
 
+			// the local files are read lazily, when needed
+			URI uri = file.toUri();
+			if ("file".equals(uri.getScheme())) {
+				File existing = new File(uri);
+				return existing.isFile() ? new MappedFileInformation(existing) : null;
+			}
+
 			InputStream inputStream = file.openInputStream();
 			String content = IOUtils.toString(inputStream);
 			inputStream.close();
@@ -369,6 +433,38 @@ public abstract class JannocessorProcessorBase extends AbstractProcessor {
 		return path;
 	}
 
+	protected void deleteOutputFile(String filename) throws JannocessorException {
+		File file = getOutputFile(filename);
+
+		if (file.exists()) {
+			if (file.delete()) {
+				logger.info("Deleted orphaned file: {}", filename);
+			} else {
+				logger.warn("Couldn't delete orphaned file: {}", filename);
+			}
+		}
+
+		Location location = StandardLocation.SOURCE_OUTPUT;
+		getManifest().remove(location, fileInfo(location, "", filename));
+	}
+
+	protected File getOutputFile(String filename) throws JannocessorException {
+		Location location = StandardLocation.SOURCE_OUTPUT;
+		FileObject file;
+
+		try {
+			file = filer.getResource(location, "", filename);
+		} catch (Exception e) {
+			try {
+				file = filer.createResource(location, "", filename);
+			} catch (Exception e2) {
+				throw Jannocessor.error("Cannot locate output file: " + filename, e2);
+			}
+		}
+
+		return new File(file.toUri());
+	}
+
 	protected String getOutputPath() {
 		if (outputPath == null) {
 			outputPath = getPath(StandardLocation.SOURCE_OUTPUT);
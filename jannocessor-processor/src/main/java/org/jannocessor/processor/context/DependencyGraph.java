@@ -0,0 +1,239 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+import org.jannocessor.JannocessorException;
+import org.jannocessor.util.Jannocessor;
+
+/**
+ * Persistent graph of the dependencies between the inputs of each processing
+ * configuration (source elements, templates and processor) and the files
+ * generated by it.
+ */
+public class DependencyGraph {
+
+	private static final String SEPARATOR = "|";
+
+	private static final String TEMPLATES = "templates";
+
+	private static final String PROCESSOR = "processor";
+
+	private static final String ELEMENT = "element";
+
+	private static final String OUTPUTS = "outputs";
+
+	private final File file;
+
+	private final Map<String, Node> nodes = new TreeMap<String, Node>();
+
+	private static class Node {
+		String templates;
+		String processor;
+		Map<String, String> elements = new TreeMap<String, String>();
+		Set<String> outputs = new TreeSet<String>();
+	}
+
+	public DependencyGraph(File file) {
+		this.file = file;
+	}
+
+	public void load() throws JannocessorException {
+		nodes.clear();
+
+		if (file.exists()) {
+			Properties entries = new Properties();
+			InputStream input = null;
+			try {
+				input = new FileInputStream(file);
+				entries.load(input);
+			} catch (IOException e) {
+				throw Jannocessor.error("Couldn't read the dependency graph: " + file, e);
+			} finally {
+				IOUtils.closeQuietly(input);
+			}
+
+			for (String key : entries.stringPropertyNames()) {
+				String[] parts = StringUtils.split(key, SEPARATOR, 3);
+				if (parts.length >= 2) {
+					readEntry(node(parts[0]), parts, entries.getProperty(key));
+				}
+			}
+		}
+	}
+
+	private void readEntry(Node node, String[] parts, String value) {
+		String type = parts[1];
+
+		if (TEMPLATES.equals(type)) {
+			node.templates = value;
+		} else if (PROCESSOR.equals(type)) {
+			node.processor = value;
+		} else if (ELEMENT.equals(type) && parts.length == 3) {
+			node.elements.put(parts[2], value);
+		} else if (OUTPUTS.equals(type)) {
+			for (String output : StringUtils.split(value, ',')) {
+				node.outputs.add(output);
+			}
+		}
+	}
+
+	public void save() throws JannocessorException {
+		Properties entries = new Properties();
+
+		for (Entry<String, Node> entry : nodes.entrySet()) {
+			String config = entry.getKey();
+			Node node = entry.getValue();
+
+			entries.setProperty(config + SEPARATOR + TEMPLATES,
+					StringUtils.defaultString(node.templates));
+			entries.setProperty(config + SEPARATOR + PROCESSOR,
+					StringUtils.defaultString(node.processor));
+			entries.setProperty(config + SEPARATOR + OUTPUTS, StringUtils.join(node.outputs, ','));
+
+			for (Entry<String, String> element : node.elements.entrySet()) {
+				entries.setProperty(config + SEPARATOR + ELEMENT + SEPARATOR + element.getKey(),
+						element.getValue());
+			}
+		}
+
+		OutputStream output = null;
+		try {
+			file.getParentFile().mkdirs();
+			output = new FileOutputStream(file);
+			entries.store(output, "JAnnocessor dependency graph");
+		} catch (IOException e) {
+			throw Jannocessor.error("Couldn't write the dependency graph: " + file, e);
+		} finally {
+			IOUtils.closeQuietly(output);
+		}
+	}
+
+	private Node node(String config) {
+		Node node = nodes.get(config);
+
+		if (node == null) {
+			node = new Node();
+			nodes.put(config, node);
+		}
+
+		return node;
+	}
+
+	/**
+	 * Returns a description of the first found change of the inputs of the
+	 * configuration, or <code>null</code> if the inputs didn't change.
+	 */
+	public String findChange(String config, String templates, String processor,
+			Map<String, String> elements) {
+		Node node = nodes.get(config);
+
+		if (node == null) {
+			return "new configuration";
+		} else if (!templates.equals(node.templates)) {
+			return "templates changed";
+		} else if (!processor.equals(node.processor)) {
+			return "processor changed";
+		}
+
+		for (Entry<String, String> element : elements.entrySet()) {
+			String fingerprint = node.elements.get(element.getKey());
+			if (fingerprint == null) {
+				return "new element " + element.getKey();
+			} else if (!fingerprint.equals(element.getValue())) {
+				return "changed element " + element.getKey();
+			}
+		}
+
+		for (String element : node.elements.keySet()) {
+			if (!elements.containsKey(element)) {
+				return "removed element " + element;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the recorded fingerprints of the elements of the configuration.
+	 */
+	public Map<String, String> getElements(String config) {
+		Node node = nodes.get(config);
+		return node != null ? new TreeMap<String, String>(node.elements)
+				: new TreeMap<String, String>();
+	}
+
+	/**
+	 * Returns the recorded outputs of the configuration.
+	 */
+	public Set<String> getOutputs(String config) {
+		Node node = nodes.get(config);
+		return node != null ? new TreeSet<String>(node.outputs) : new TreeSet<String>();
+	}
+
+	public void update(String config, String templates, String processor,
+			Map<String, String> elements, Collection<String> outputs) {
+		Node node = node(config);
+
+		node.templates = templates;
+		node.processor = processor;
+
+		node.elements.clear();
+		node.elements.putAll(elements);
+
+		node.outputs.clear();
+		node.outputs.addAll(outputs);
+	}
+
+	public void retainConfigurations(Collection<String> configs) {
+		for (Iterator<String> it = nodes.keySet().iterator(); it.hasNext();) {
+			if (!configs.contains(it.next())) {
+				it.remove();
+			}
+		}
+	}
+
+	public Set<String> getAllOutputs() {
+		Set<String> outputs = new TreeSet<String>();
+
+		for (Node node : nodes.values()) {
+			outputs.addAll(node.outputs);
+		}
+
+		return outputs;
+	}
+
+}
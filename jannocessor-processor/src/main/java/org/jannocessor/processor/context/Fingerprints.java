@@ -0,0 +1,150 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.TreeSet;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Fingerprints of the inputs of the code generation (the source elements,
+ * the templates and the processors), used in the incremental mode.
+ */
+public class Fingerprints {
+
+	public static String key(Element element) {
+		Element enclosing = element.getEnclosingElement();
+
+		if (enclosing == null || enclosing.getKind() == ElementKind.PACKAGE) {
+			return element.toString();
+		} else {
+			return key(enclosing) + "/" + element;
+		}
+	}
+
+	/**
+	 * Returns the key of the top-level element (type or package) enclosing the
+	 * element with the specified key.
+	 */
+	public static String topLevelKey(String key) {
+		int index = key.indexOf('/');
+		return index >= 0 ? key.substring(0, index) : key;
+	}
+
+	/**
+	 * Returns a fingerprint of the declaration of the element and its enclosed
+	 * elements (modifiers, names, annotations and signatures). The supertypes
+	 * and the other referenced types are included only by name, so a change in
+	 * their members isn't detected, and requires a full build (e.g. after
+	 * deleting the dependency graph).
+	 */
+	public static String of(Element element) {
+		StringBuilder sb = new StringBuilder();
+		describe(element, sb);
+		return GeneratedFilesManifest.hash(sb.toString());
+	}
+
+	public static String ofResources(Collection<URL> resources) {
+		StringBuilder sb = new StringBuilder();
+
+		for (URL resource : resources) {
+			sb.append(resource).append(' ');
+			try {
+				sb.append(resource.openConnection().getLastModified());
+			} catch (IOException e) {
+				sb.append('?');
+			}
+			sb.append('\n');
+		}
+
+		return GeneratedFilesManifest.hash(sb.toString());
+	}
+
+	public static String ofDirectory(File dir) {
+		StringBuilder sb = new StringBuilder();
+
+		if (dir.isDirectory()) {
+			TreeSet<File> files = new TreeSet<File>(FileUtils.listFiles(dir, null, true));
+			for (File file : files) {
+				sb.append(file.getPath()).append(' ').append(file.length()).append(' ')
+						.append(file.lastModified()).append('\n');
+			}
+		}
+
+		return GeneratedFilesManifest.hash(sb.toString());
+	}
+
+	private static void describe(Element element, StringBuilder sb) {
+		sb.append(element.getKind()).append(' ').append(element.getModifiers()).append(' ')
+				.append(element.getSimpleName()).append(' ').append(element.asType());
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			sb.append(' ').append(annotation);
+		}
+
+		if (element instanceof TypeElement) {
+			TypeElement type = (TypeElement) element;
+			sb.append(" extends ").append(type.getSuperclass());
+			sb.append(" implements ").append(type.getInterfaces());
+			describeTypeParameters(type.getTypeParameters(), sb);
+		} else if (element instanceof ExecutableElement) {
+			ExecutableElement executable = (ExecutableElement) element;
+			sb.append(" returns ").append(executable.getReturnType());
+			sb.append(" throws ").append(executable.getThrownTypes());
+			sb.append(" default ").append(executable.getDefaultValue());
+			sb.append(" varargs ").append(executable.isVarArgs());
+			describeTypeParameters(executable.getTypeParameters(), sb);
+
+			sb.append(" (");
+			for (VariableElement parameter : executable.getParameters()) {
+				describe(parameter, sb);
+			}
+			sb.append(')');
+		} else if (element instanceof VariableElement) {
+			sb.append(" = ").append(((VariableElement) element).getConstantValue());
+		}
+
+		sb.append(" {\n");
+		for (Element enclosed : element.getEnclosedElements()) {
+			describe(enclosed, sb);
+		}
+		sb.append("}\n");
+	}
+
+	private static void describeTypeParameters(Collection<? extends TypeParameterElement> params,
+			StringBuilder sb) {
+		for (TypeParameterElement param : params) {
+			sb.append(' ').append(param).append(" extends ").append(param.getBounds());
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+import javax.tools.JavaFileManager.Location;
+
+import org.apache.commons.io.IOUtils;
+import org.jannocessor.JannocessorException;
+import org.jannocessor.util.Jannocessor;
+
+/**
+ * Persistent record of the content hashes of the generated files, used to
+ * avoid rewriting the files whose content didn't change. The entries are keyed
+ * by the output location and the relative path, so the same path in different
+ * locations is tracked separately.
+ */
+public class GeneratedFilesManifest {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final File file;
+
+	private final Properties entries = new Properties();
+
+	private boolean modified = false;
+
+	public GeneratedFilesManifest(File file) {
+		this.file = file;
+	}
+
+	public void load() throws JannocessorException {
+		entries.clear();
+		modified = false;
+
+		if (file.exists()) {
+			InputStream input = null;
+			try {
+				input = new FileInputStream(file);
+				entries.load(input);
+			} catch (IOException e) {
+				throw Jannocessor.error("Couldn't read the generated files manifest: " + file, e);
+			} finally {
+				IOUtils.closeQuietly(input);
+			}
+		}
+	}
+
+	public void save() throws JannocessorException {
+		if (modified) {
+			OutputStream output = null;
+			try {
+				file.getParentFile().mkdirs();
+				output = new FileOutputStream(file);
+				entries.store(output, "JAnnocessor generated files");
+				modified = false;
+			} catch (IOException e) {
+				throw Jannocessor.error("Couldn't write the generated files manifest: " + file, e);
+			} finally {
+				IOUtils.closeQuietly(output);
+			}
+		}
+	}
+
+	public boolean isUnchanged(Location location, String path, String hash, long lastModified) {
+		return entry(hash, lastModified).equals(entries.getProperty(key(location, path)));
+	}
+
+	public void update(Location location, String path, String hash, long lastModified) {
+		entries.setProperty(key(location, path), entry(hash, lastModified));
+		modified = true;
+	}
+
+	public void remove(Location location, String path) {
+		if (entries.remove(key(location, path)) != null) {
+			modified = true;
+		}
+	}
+
+	private String key(Location location, String path) {
+		return location.getName() + ":" + path;
+	}
+
+	private String entry(String hash, long lastModified) {
+		return hash + ":" + lastModified;
+	}
+
+	public static String hash(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			byte[] bytes = digest.digest(content.getBytes("UTF-8"));
+
+			char[] chars = new char[bytes.length * 2];
+			for (int i = 0; i < bytes.length; i++) {
+				chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0F];
+				chars[i * 2 + 1] = HEX[bytes[i] & 0x0F];
+			}
+			return new String(chars);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
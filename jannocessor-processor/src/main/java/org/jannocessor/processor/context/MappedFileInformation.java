@@ -0,0 +1,172 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.Date;
+import java.util.Locale;
+
+import org.jannocessor.processor.api.FileInformation;
+
+/**
+ * Information about an existing file, which is read only when its content
+ * is needed. The big files are memory-mapped, and the content is decoded
+ * with the default charset, unless specified.
+ */
+public class MappedFileInformation implements FileInformation {
+
+	private static final int MAPPING_THRESHOLD = 64 * 1024;
+
+	// the mapped files can't be overwritten on Windows until unmapped
+	private static final boolean MAPPING_SUPPORTED = File.separatorChar == '/';
+
+	private final File file;
+
+	private final Charset charset;
+
+	private final Date lastModifiedOn;
+
+	private ByteBuffer bytes;
+
+	private String content;
+
+	private String filename;
+
+	public MappedFileInformation(File file) {
+		this(file, Charset.defaultCharset());
+	}
+
+	public MappedFileInformation(File file, Charset charset) {
+		this.file = file;
+		this.charset = charset;
+		this.lastModifiedOn = new Date(file.lastModified());
+	}
+
+	public String getContent() {
+		if (content == null) {
+			try {
+				content = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+						.onUnmappableCharacter(CodingErrorAction.REPLACE)
+						.decode(getBytes().duplicate()).toString();
+			} catch (CharacterCodingException e) {
+				throw new RuntimeException("Couldn't decode file: " + file, e);
+			} catch (IOException e) {
+				throw new RuntimeException("Couldn't read file: " + file, e);
+			}
+		}
+		return content;
+	}
+
+	public String getFilename() {
+		if (filename == null) {
+			try {
+				filename = file.getCanonicalPath();
+			} catch (IOException e) {
+				filename = file.getAbsolutePath();
+			}
+		}
+		return filename;
+	}
+
+	public Date getLastModifiedOn() {
+		return lastModifiedOn;
+	}
+
+	/**
+	 * Checks if the file contains the (US-ASCII) text, ignoring its case. In
+	 * the charsets compatible with US-ASCII, the bytes are searched without
+	 * decoding them.
+	 */
+	public boolean containsIgnoreCase(String text) throws IOException {
+		if (!isAscii(text) || !isAsciiCompatible(charset)) {
+			return getContent().toLowerCase(Locale.ENGLISH).contains(text.toLowerCase(Locale.ENGLISH));
+		}
+
+		ByteBuffer data = getBytes();
+		int last = data.limit() - text.length();
+
+		for (int i = 0; i <= last; i++) {
+			int j = 0;
+			while (j < text.length() && toLowerCase(data.get(i + j)) == toLowerCase(text.charAt(j))) {
+				j++;
+			}
+
+			if (j == text.length()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private ByteBuffer getBytes() throws IOException {
+		if (bytes == null) {
+			FileInputStream input = new FileInputStream(file);
+			try {
+				FileChannel channel = input.getChannel();
+				long size = channel.size();
+
+				if (MAPPING_SUPPORTED && size >= MAPPING_THRESHOLD) {
+					bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+				} else {
+					bytes = ByteBuffer.allocate((int) size);
+					while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+						// read the whole file
+					}
+					bytes.flip();
+				}
+			} finally {
+				input.close();
+			}
+		}
+		return bytes;
+	}
+
+	private static boolean isAscii(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) >= 128) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAsciiCompatible(Charset charset) {
+		String name = charset.name();
+		return name.equals("UTF-8") || name.equals("US-ASCII") || name.equals("ISO-8859-1");
+	}
+
+	private static int toLowerCase(int c) {
+		return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+	}
+
+	@Override
+	public String toString() {
+		return "MappedFileInformation [file=" + file + ", lastModifiedOn=" + lastModifiedOn + "]";
+	}
+
+}
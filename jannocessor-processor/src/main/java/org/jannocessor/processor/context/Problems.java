@@ -51,6 +51,11 @@ public class Problems {
 		return Collections.unmodifiableList(warnings);
 	}
 
+	public void addAll(Problems problems) {
+		errors.addAll(problems.errors);
+		warnings.addAll(problems.warnings);
+	}
+
 	public void error(JavaElement element, String message) {
 		addError(element, message);
 	}
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jannocessor.config;
+
+import org.jannocessor.model.JavaElement;
+import org.jannocessor.model.structure.JavaClass;
+import org.jannocessor.processor.annotation.Annotated;
+import org.jannocessor.processor.annotation.Types;
+import org.jannocessor.processor.api.CodeProcessor;
+import org.jannocessor.processor.test.Sample;
+import org.jannocessor.processor.test.SampleProcessor;
+
+public class Processors {
+
+	@Annotated(Sample.class)
+	@Types(JavaClass.class)
+	public CodeProcessor<? extends JavaElement> firstProcessor() {
+		return new SampleProcessor("First");
+	}
+
+	@Annotated(Sample.class)
+	@Types(JavaClass.class)
+	public CodeProcessor<? extends JavaElement> secondProcessor() {
+		return new SampleProcessor("Second");
+	}
+
+	@Annotated(Sample.class)
+	@Types(JavaClass.class)
+	public CodeProcessor<? extends JavaElement> thirdProcessor() {
+		return new SampleProcessor("Third");
+	}
+
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+
+import org.apache.commons.io.FileUtils;
+import org.jannocessor.extra.merge.MarkedCodeSegmentMerger;
+import org.jannocessor.processor.api.FileInformation;
+import org.jannocessor.processor.context.DefaultFileInformation;
+import org.jannocessor.processor.context.MappedFileInformation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JannocessorProcessorBaseTest {
+
+	private static final String NEW_CODE = "class A {\n\t" + MarkedCodeSegmentMerger.START + "\n\t"
+			+ MarkedCodeSegmentMerger.END + "\n}\n";
+
+	private final MarkedCodeSegmentMerger merger = new MarkedCodeSegmentMerger();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("code", ".java");
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void testMarkedRegions() throws IOException {
+		FileUtils.writeStringToFile(file, "class A {\n\t"
+				+ MarkedCodeSegmentMerger.START.toLowerCase() + "\n\tint x;\n\t"
+				+ MarkedCodeSegmentMerger.END + "\n}\n");
+		FileInformation oldCode = new MappedFileInformation(file);
+
+		assertTrue(JannocessorProcessorBase.hasMarkedRegions(oldCode, merger));
+		assertEquals("class A {\n\t" + MarkedCodeSegmentMerger.START + "\n\tint x;\n\t"
+				+ MarkedCodeSegmentMerger.END + "\n}\n", merge(oldCode));
+	}
+
+	@Test
+	public void testSkippedMerge() throws IOException {
+		FileUtils.writeStringToFile(file, "class A {\n\tint y;\n}\n");
+		FileInformation oldCode = new MappedFileInformation(file);
+
+		// the skipped merge must write the same code as the merger
+		assertFalse(JannocessorProcessorBase.hasMarkedRegions(oldCode, merger));
+		assertEquals(NEW_CODE, merge(oldCode));
+	}
+
+	@Test
+	public void testNotMappedFile() throws IOException {
+		FileInformation oldCode = new DefaultFileInformation("class A {}", file.getPath(), new Date());
+		assertTrue(JannocessorProcessorBase.hasMarkedRegions(oldCode, merger));
+	}
+
+	private String merge(FileInformation oldCode) {
+		return merger.mergeCode(oldCode, new DefaultFileInformation(NEW_CODE, file.getPath(), new Date()));
+	}
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jannocessor.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.io.FileUtils;
+import org.jannocessor.processor.test.Sample;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Processes the same sources sequentially and on several threads, with the
+ * processors configured in org.jannocessor.config.Processors. The processors
+ * and the registered renderings run concurrently, but the output must be the
+ * same.
+ */
+public class JannocessorProcessorConcurrencyTest {
+
+	private static final int SAMPLES = 8;
+
+	private File dir;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = File.createTempFile("processing", "");
+		dir.delete();
+
+		for (int i = 0; i < SAMPLES; i++) {
+			FileUtils.writeStringToFile(new File(dir, "src/sample/Sample" + i + ".java"),
+					"package sample;\n\n@" + Sample.class.getName() + "\npublic class Sample" + i
+							+ " {\n\tprivate int value" + i + ";\n}\n");
+		}
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(dir);
+	}
+
+	@Test
+	public void testConcurrentProcessing() throws IOException {
+		List<String> sequentialProblems = new ArrayList<String>();
+		Map<String, String> sequential = process(1, sequentialProblems);
+
+		List<String> concurrentProblems = new ArrayList<String>();
+		Map<String, String> concurrent = process(4, concurrentProblems);
+
+		// each processor generated a class from each sample, and the shared file
+		assertEquals(3 * SAMPLES + 1, sequential.size());
+		assertEquals(sequential, concurrent);
+		assertEquals(sequentialProblems, concurrentProblems);
+
+		// each processor modified its own models
+		String third = sequential.get("sample/Sample0Third.java");
+		assertNotNull(third);
+		assertTrue(third.contains("byThird"));
+		assertFalse(third.contains("byFirst"));
+	}
+
+	@Test
+	public void testDuplicateOutputsAreReported() throws IOException {
+		List<String> problems = new ArrayList<String>();
+		process(4, problems);
+
+		// the other two processors' versions of the shared file were overwritten
+		int duplicates = 0;
+		for (String problem : problems) {
+			if (problem.contains("'samples.txt' was generated by more than one processor")) {
+				duplicates++;
+			}
+		}
+		assertEquals(2 * SAMPLES, duplicates);
+	}
+
+	private Map<String, String> process(int threads, List<String> problems) throws IOException {
+		File output = new File(dir, "out" + threads);
+		output.mkdirs();
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+				null);
+
+		Collection<File> sources = FileUtils.listFiles(new File(dir, "src"),
+				new String[] { "java" }, true);
+		List<String> options = Arrays.asList("-proc:only", "-classpath",
+				System.getProperty("java.class.path"), "-s", output.getPath(),
+				"-Aprocessing.threads=" + threads);
+
+		CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+				fileManager.getJavaFileObjectsFromFiles(sources));
+		task.setProcessors(Collections.singletonList(new JannocessorProcessor()));
+		task.call();
+		fileManager.close();
+
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			if (diagnostic.getKind() != Diagnostic.Kind.NOTE) {
+				problems.add(diagnostic.getKind() + ": " + diagnostic.getMessage(null));
+			}
+		}
+
+		Map<String, String> files = new TreeMap<String, String>();
+		for (File file : FileUtils.listFiles(output, null, true)) {
+			if (!file.getName().startsWith(".jannocessor-")) {
+				String name = file.getPath().substring(output.getPath().length() + 1);
+				files.put(name.replace(File.separatorChar, '/'), FileUtils.readFileToString(file));
+			}
+		}
+
+		return files;
+	}
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jannocessor.JannocessorException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DependencyGraphTest {
+
+	private File file;
+
+	private DependencyGraph graph;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("graph", ".properties");
+		file.delete();
+		graph = new DependencyGraph(file);
+
+		graph.update("config", "t1", "p1", elements("a.A", "1", "b.B", "2"),
+				Arrays.asList("a/A.java", "b/B.java"));
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void testUnchangedInputs() {
+		assertNull(graph.findChange("config", "t1", "p1", elements("a.A", "1", "b.B", "2")));
+	}
+
+	@Test
+	public void testChangedInputs() {
+		assertEquals("new configuration",
+				graph.findChange("other", "t1", "p1", elements("a.A", "1", "b.B", "2")));
+		assertEquals("templates changed",
+				graph.findChange("config", "t2", "p1", elements("a.A", "1", "b.B", "2")));
+		assertEquals("processor changed",
+				graph.findChange("config", "t1", "p2", elements("a.A", "1", "b.B", "2")));
+		assertEquals("changed element a.A",
+				graph.findChange("config", "t1", "p1", elements("a.A", "3", "b.B", "2")));
+		assertEquals("new element c.C", graph.findChange("config", "t1", "p1",
+				elements("a.A", "1", "b.B", "2", "c.C", "3")));
+		assertEquals("removed element b.B",
+				graph.findChange("config", "t1", "p1", elements("a.A", "1")));
+	}
+
+	@Test
+	public void testOutputs() {
+		graph.update("other", "t1", "p1", elements("c.C", "3"), Arrays.asList("c/C.java"));
+
+		assertEquals("[a/A.java, b/B.java]", graph.getOutputs("config").toString());
+		assertEquals("[a/A.java, b/B.java, c/C.java]", graph.getAllOutputs().toString());
+		assertTrue(graph.getOutputs("missing").isEmpty());
+
+		graph.retainConfigurations(Arrays.asList("other"));
+		assertEquals("[c/C.java]", graph.getAllOutputs().toString());
+		assertTrue(graph.getElements("config").isEmpty());
+	}
+
+	@Test
+	public void testSaveAndLoad() throws JannocessorException {
+		graph.save();
+
+		DependencyGraph loaded = new DependencyGraph(file);
+		loaded.load();
+
+		assertNull(loaded.findChange("config", "t1", "p1", elements("a.A", "1", "b.B", "2")));
+		assertEquals(elements("a.A", "1", "b.B", "2"), loaded.getElements("config"));
+		assertEquals("[a/A.java, b/B.java]", loaded.getOutputs("config").toString());
+	}
+
+	private static Map<String, String> elements(String... keysAndFingerprints) {
+		Map<String, String> elements = new TreeMap<String, String>();
+
+		for (int i = 0; i < keysAndFingerprints.length; i += 2) {
+			elements.put(keysAndFingerprints[i], keysAndFingerprints[i + 1]);
+		}
+
+		return elements;
+	}
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.VariableElement;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+public class FingerprintsTest {
+
+	@Test
+	public void testTopLevelKey() {
+		assertEquals("a.A", Fingerprints.topLevelKey("a.A"));
+		assertEquals("a.A", Fingerprints.topLevelKey("a.A/a.A.B/foo()"));
+	}
+
+	@Test
+	public void testElementFingerprint() {
+		VariableElement field = field("count", Modifier.PRIVATE, 1);
+
+		assertEquals(Fingerprints.of(field), Fingerprints.of(field("count", Modifier.PRIVATE, 1)));
+		assertFalse(Fingerprints.of(field).equals(
+				Fingerprints.of(field("count", Modifier.PUBLIC, 1))));
+		assertFalse(Fingerprints.of(field).equals(
+				Fingerprints.of(field("total", Modifier.PRIVATE, 1))));
+		assertFalse(Fingerprints.of(field).equals(
+				Fingerprints.of(field("count", Modifier.PRIVATE, 2))));
+	}
+
+	@Test
+	public void testDirectoryFingerprint() throws IOException {
+		File dir = File.createTempFile("templates", "");
+		dir.delete();
+		dir.mkdirs();
+
+		try {
+			File template = new File(dir, "a.vm");
+			FileUtils.writeStringToFile(template, "a");
+			String fingerprint = Fingerprints.ofDirectory(dir);
+
+			assertEquals(fingerprint, Fingerprints.ofDirectory(dir));
+
+			FileUtils.writeStringToFile(template, "abc");
+			assertFalse(fingerprint.equals(Fingerprints.ofDirectory(dir)));
+		} finally {
+			FileUtils.deleteDirectory(dir);
+		}
+	}
+
+	private static VariableElement field(String name, Modifier modifier, Object value) {
+		VariableElement field = mock(VariableElement.class);
+		when(field.getKind()).thenReturn(ElementKind.FIELD);
+		when(field.getModifiers()).thenReturn(Collections.singleton(modifier));
+		when(field.getSimpleName()).thenReturn(new SimpleName(name));
+		when(field.getConstantValue()).thenReturn(value);
+
+		return field;
+	}
+
+	private static class SimpleName implements Name {
+
+		private final String name;
+
+		public SimpleName(String name) {
+			this.name = name;
+		}
+
+		public boolean contentEquals(CharSequence cs) {
+			return name.contentEquals(cs);
+		}
+
+		public int length() {
+			return name.length();
+		}
+
+		public char charAt(int index) {
+			return name.charAt(index);
+		}
+
+		public CharSequence subSequence(int start, int end) {
+			return name.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+
+	}
+
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.tools.StandardLocation;
+
+import org.jannocessor.JannocessorException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GeneratedFilesManifestTest {
+
+	private File file;
+
+	private GeneratedFilesManifest manifest;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("manifest", ".properties");
+		file.delete();
+		manifest = new GeneratedFilesManifest(file);
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void testUnchangedFile() {
+		String hash = GeneratedFilesManifest.hash("class A {}");
+		manifest.update(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100);
+
+		assertTrue(manifest.isUnchanged(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100));
+	}
+
+	@Test
+	public void testChangedFile() {
+		String hash = GeneratedFilesManifest.hash("class A {}");
+		manifest.update(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100);
+
+		String newHash = GeneratedFilesManifest.hash("class A { int x; }");
+		assertFalse(manifest.isUnchanged(StandardLocation.SOURCE_OUTPUT, "/A.java", newHash, 100));
+
+		// the file was modified on disk since it was written
+		assertFalse(manifest.isUnchanged(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 200));
+	}
+
+	@Test
+	public void testDeletedFile() {
+		String hash = GeneratedFilesManifest.hash("class A {}");
+		manifest.update(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100);
+		manifest.remove(StandardLocation.SOURCE_OUTPUT, "/A.java");
+
+		assertFalse(manifest.isUnchanged(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100));
+	}
+
+	@Test
+	public void testDistinctLocations() {
+		String hash = GeneratedFilesManifest.hash("a=1");
+		manifest.update(StandardLocation.SOURCE_OUTPUT, "pkg/a.properties", hash, 100);
+
+		assertFalse(manifest.isUnchanged(StandardLocation.CLASS_OUTPUT, "pkg/a.properties", hash, 100));
+
+		manifest.update(StandardLocation.CLASS_OUTPUT, "pkg/a.properties", hash, 200);
+		manifest.remove(StandardLocation.SOURCE_OUTPUT, "pkg/a.properties");
+
+		assertTrue(manifest.isUnchanged(StandardLocation.CLASS_OUTPUT, "pkg/a.properties", hash, 200));
+	}
+
+	@Test
+	public void testSaveAndLoad() throws JannocessorException {
+		String hash = GeneratedFilesManifest.hash("class A {}");
+		manifest.update(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100);
+		manifest.save();
+
+		GeneratedFilesManifest loaded = new GeneratedFilesManifest(file);
+		loaded.load();
+
+		assertTrue(loaded.isUnchanged(StandardLocation.SOURCE_OUTPUT, "/A.java", hash, 100));
+		assertFalse(loaded.isUnchanged(StandardLocation.CLASS_OUTPUT, "/A.java", hash, 100));
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.processor.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedFileInformationTest {
+
+	private static final String MARKER = "// Custom hand-written code starts here";
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("code", ".java");
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private MappedFileInformation write(String content, String charset) throws IOException {
+		FileUtils.writeStringToFile(file, content, charset);
+		return new MappedFileInformation(file, Charset.forName(charset));
+	}
+
+	@Test
+	public void testSmallFile() throws IOException {
+		String content = "class A {\n\t// CUSTOM hand-written code STARTS here\n}\n";
+		MappedFileInformation info = write(content, "UTF-8");
+
+		assertTrue(info.containsIgnoreCase(MARKER));
+		assertTrue(info.containsIgnoreCase("}\n"));
+		assertFalse(info.containsIgnoreCase("class B"));
+		assertEquals(content, info.getContent());
+	}
+
+	@Test
+	public void testMappedFile() throws IOException {
+		String code = StringUtils.repeat("\tprivate int field;\n", 5000);
+		assertTrue(code.length() >= 64 * 1024);
+
+		MappedFileInformation info = write("class A {\n" + code + "}\n", "UTF-8");
+		assertFalse(info.containsIgnoreCase(MARKER));
+
+		info = write("class A {\n" + code + MARKER.toUpperCase(), "UTF-8");
+		assertTrue(info.containsIgnoreCase(MARKER));
+		assertEquals("class A {\n" + code + MARKER.toUpperCase(), info.getContent());
+	}
+
+	@Test
+	public void testNonAsciiContent() throws IOException {
+		String content = "class \u00c4 {\n\t// \u00fcber\n\t" + MARKER + "\n}\n";
+
+		MappedFileInformation info = write(content, "UTF-8");
+		assertTrue(info.containsIgnoreCase(MARKER));
+		assertTrue(info.containsIgnoreCase("\u00dcBER"));
+		assertFalse(info.containsIgnoreCase("\u00fcber " + MARKER));
+		assertEquals(content, info.getContent());
+
+		info = write(content, "ISO-8859-1");
+		assertTrue(info.containsIgnoreCase(MARKER));
+		assertEquals(content, info.getContent());
+	}
+
+	@Test
+	public void testIncompatibleCharset() throws IOException {
+		String content = "class A {\n\t" + MARKER + "\n}\n";
+
+		// the bytes of the US-ASCII text differ, so the content is decoded
+		MappedFileInformation info = write(content, "UTF-16");
+		assertTrue(info.containsIgnoreCase(MARKER.toUpperCase()));
+		assertFalse(info.containsIgnoreCase("class B"));
+		assertEquals(content, info.getContent());
+	}
+
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jannocessor.processor.test;
+
+import org.jannocessor.collection.api.PowerList;
+import org.jannocessor.model.structure.JavaClass;
+import org.jannocessor.model.util.Fields;
+import org.jannocessor.model.util.New;
+import org.jannocessor.processor.api.CodeProcessor;
+import org.jannocessor.processor.api.ProcessingContext;
+
+/**
+ * Modifies the models in place, so the processors running concurrently
+ * on the same elements would affect each other if they shared the models.
+ */
+public class SampleProcessor implements CodeProcessor<JavaClass> {
+
+	private final String suffix;
+
+	public SampleProcessor(String suffix) {
+		this.suffix = suffix;
+	}
+
+	@Override
+	public void process(PowerList<JavaClass> classes, ProcessingContext context) {
+		for (JavaClass clazz : classes) {
+			clazz.getName().appendPart(suffix);
+			clazz.getMetadata().clear();
+			clazz.getFields().add(New.field(Fields.PRIVATE, String.class, "by" + suffix));
+
+			// registered for rendering too, as in debug mode
+			context.generateCode(clazz, true);
+		}
+
+		// the same file is generated by all processors
+		context.generateFile("samples.txt", suffix + ": " + classes.size());
+	}
+
+}
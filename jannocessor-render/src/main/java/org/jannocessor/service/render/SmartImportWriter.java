@@ -0,0 +1,137 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.service.render;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Post-processes the rendered text while it is being written, replacing the
+ * smart import placeholders with the imports. As the imports are known only
+ * after the rendering, the text before the first placeholder is passed
+ * through immediately, and the rest is held until {@link #finish(String)}.
+ */
+public class SmartImportWriter extends Writer {
+
+	private static final char[] PLACEHOLDER = "(!PLACEHOLDER:SMART_IMPORT!)".toCharArray();
+
+	private final Writer out;
+
+	private StringBuilder deferred;
+
+	private final List<Integer> placeholders = new ArrayList<Integer>();
+
+	private int matched = 0;
+
+	public SmartImportWriter(Writer out) {
+		this.out = out;
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int start = off;
+		int end = off + len;
+
+		for (int i = off; i < end; i++) {
+			char c = cbuf[i];
+
+			if (c == PLACEHOLDER[matched]) {
+				if (matched == 0) {
+					emit(cbuf, start, i - start);
+				}
+				matched++;
+
+				if (matched == PLACEHOLDER.length) {
+					placeholder();
+					matched = 0;
+				}
+				start = i + 1;
+			} else if (matched > 0) {
+				// the placeholder's first char doesn't occur again in it
+				emit(PLACEHOLDER, 0, matched);
+				matched = 0;
+				start = i;
+				if (c == PLACEHOLDER[0]) {
+					matched = 1;
+					start = i + 1;
+				}
+			}
+		}
+
+		if (matched == 0) {
+			emit(cbuf, start, end - start);
+		}
+	}
+
+	private void emit(char[] cbuf, int off, int len) throws IOException {
+		if (len > 0) {
+			if (deferred == null) {
+				out.write(cbuf, off, len);
+			} else {
+				deferred.append(cbuf, off, len);
+			}
+		}
+	}
+
+	private void placeholder() {
+		if (deferred == null) {
+			deferred = new StringBuilder();
+		}
+		placeholders.add(deferred.length());
+	}
+
+	/**
+	 * Writes the held text, with the placeholders replaced by the imports.
+	 */
+	public void finish(String imports) throws IOException {
+		if (matched > 0) {
+			emit(PLACEHOLDER, 0, matched);
+			matched = 0;
+		}
+
+		if (deferred != null) {
+			int pos = 0;
+			for (int placeholder : placeholders) {
+				out.append(deferred, pos, placeholder);
+				out.write(imports);
+				pos = placeholder;
+			}
+			out.append(deferred, pos, deferred.length());
+
+			deferred = null;
+			placeholders.clear();
+		}
+
+		out.flush();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+}
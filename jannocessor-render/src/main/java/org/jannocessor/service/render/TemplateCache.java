@@ -0,0 +1,80 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.service.render;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.velocity.Template;
+
+/**
+ * Cache of the templates parsed by a Velocity engine, by the template text or
+ * file name. The number of entries is limited, evicting the least recently
+ * used entries. It isn't thread-safe, as each engine is used by one rendering
+ * at a time.
+ */
+public class TemplateCache {
+
+	private final Map<String, Template> entries;
+
+	private final int maxSize;
+
+	private long evictions;
+
+	public TemplateCache(int maxSize) {
+		this.maxSize = maxSize;
+
+		this.entries = new LinkedHashMap<String, Template>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+				if (size() > TemplateCache.this.maxSize) {
+					evictions++;
+					return true;
+				} else {
+					return false;
+				}
+			}
+		};
+	}
+
+	public Template get(String key) {
+		return entries.get(key);
+	}
+
+	public void put(String key, Template template) {
+		entries.put(key, template);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public long getEvictions() {
+		return evictions;
+	}
+
+	public void clear() {
+		entries.clear();
+		evictions = 0;
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.velocity.VelocityContext;
 import org.jannocessor.JannocessorException;
@@ -71,7 +72,12 @@ public class TemplateHelper {
 	}
 
 	public String insight() {
-		String keys = Arrays.toString(context.getKeys());
+		Object[] contextKeys = context.getKeys();
+		if (context.getChainedContext() != null) {
+			contextKeys = ArrayUtils.addAll(contextKeys, context.getChainedContext().getKeys());
+		}
+
+		String keys = Arrays.toString(contextKeys);
 		int depth = context.getCurrentMacroCallDepth();
 		String macro = context.getCurrentMacroName();
 		List<?> macros = context.getMacroLibraries();
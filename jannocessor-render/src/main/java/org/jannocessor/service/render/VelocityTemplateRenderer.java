@@ -20,27 +20,32 @@
 package org.jannocessor.service.render;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.Reader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
-import java.util.regex.Pattern;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import javax.inject.Inject;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.exception.ParseErrorException;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
 import org.apache.velocity.runtime.RuntimeServices;
 import org.apache.velocity.runtime.log.LogChute;
+import org.apache.velocity.runtime.parser.ParseException;
 import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.apache.velocity.runtime.resource.loader.FileResourceLoader;
 import org.jannocessor.JannocessorException;
@@ -70,23 +75,82 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 
 	private static final String RESOURCE_LOADER_CLASS = "file.resource.loader.class";
 
+	// the maximum number of engines, or 0 for one per concurrent rendering
+	private static volatile int maxEngines = 0;
+
+	// the maximum number of parsed templates (and template files) per engine
+	private static final int MAX_CACHED_TEMPLATES = 256;
+
 	private Logger logger = LoggerFactory.getLogger("RENDERER");
 
-	private final VelocityEngine engine;
+	private volatile boolean configured = false;
+
+	private volatile boolean debugMode = false;
+
+	private volatile String templatesPath;
+
+	private volatile Properties velocityConfig;
+
+	// incremented on each configuration, to discard the older engines
+	private volatile int generation = 0;
+
+	private int enginesCount = 0;
 
-	private boolean configured = false;
+	private final BlockingQueue<PooledEngine> idleEngines = new LinkedBlockingQueue<PooledEngine>();
+
+	// the engine of the current rendering, reused by the nested renderings
+	private final ThreadLocal<PooledEngine> threadEngine = new ThreadLocal<PooledEngine>();
 
 	private final JavaRepresenter representer;
 
+	// the attributes shared by all renderings, chained to each context
+	private final VelocityContext sharedContext;
+
+	/**
+	 * A Velocity engine, with the templates parsed by it. The engines aren't
+	 * thread-safe (e.g. a template can (re)define macros), so each engine is
+	 * used by one rendering at a time.
+	 */
+	private static class PooledEngine {
+
+		private final RuntimeInstance engine = new RuntimeInstance();
+
+		private final int generation;
+
+		private long customizationStamp;
+
+		// the number of (nested) renderings using the engine
+		private int usages;
+
+		// the parsed templates, by template text
+		private final TemplateCache templates = new TemplateCache(MAX_CACHED_TEMPLATES);
+
+		// the parsed template files, by file name
+		private final TemplateCache templateFiles = new TemplateCache(MAX_CACHED_TEMPLATES);
+
+		public PooledEngine(int generation) {
+			this.generation = generation;
+		}
+
+		public void discard() {
+			templates.clear();
+			templateFiles.clear();
+		}
+	}
+
 	@Inject
 	public VelocityTemplateRenderer(Configurator configurator,
 			JavaRepresenter representer) {
 		this.representer = representer;
-		this.engine = new VelocityEngine();
+		this.sharedContext = createSharedContext();
+	}
+
+	public static void setMaxEngines(int maxEngines) {
+		VelocityTemplateRenderer.maxEngines = maxEngines;
 	}
 
 	@Override
-	public void configure(String templatesPath, boolean debugMode)
+	public synchronized void configure(String templatesPath, boolean debugMode)
 			throws JannocessorException {
 		logger.info(
 				"Configuring Velocity engine: {templates_path={}, debug={}}",
@@ -133,10 +197,20 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 				velocityConfig.setProperty(FILE_RESOURCE_LOADER_CACHE, "true");
 			}
 
-			engine.setProperty(RUNTIME_LOG_LOGSYSTEM, this);
-			engine.init(velocityConfig);
+			this.velocityConfig = velocityConfig;
+			this.debugMode = debugMode;
+			this.templatesPath = templatesPath;
+
+			generation++;
+			for (PooledEngine idle : idleEngines) {
+				idle.discard();
+			}
+			idleEngines.clear();
+			enginesCount = 1;
 
-			customize(true);
+			PooledEngine engine = createEngine(generation);
+			customize(engine, true);
+			idleEngines.add(engine);
 
 			configured = true;
 		} catch (Exception e) {
@@ -146,9 +220,93 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 		}
 	}
 
-	private void customize(boolean verbose) {
-		if (engine.resourceExists(CUSTOM_TEMPLATE)) {
-			if (engine.getTemplate(CUSTOM_TEMPLATE).process()) {
+	private PooledEngine createEngine(int generation) throws Exception {
+		PooledEngine engine = new PooledEngine(generation);
+
+		engine.engine.setProperty(RUNTIME_LOG_LOGSYSTEM, this);
+		engine.engine.init(velocityConfig);
+
+		return engine;
+	}
+
+	/**
+	 * Returns the engine of the current thread's rendering for the nested
+	 * renderings, which would otherwise wait forever for an engine when all of
+	 * them are taken.
+	 */
+	private PooledEngine acquireEngine() throws JannocessorException {
+		PooledEngine engine = threadEngine.get();
+
+		if (engine == null) {
+			engine = takeEngine();
+			threadEngine.set(engine);
+		}
+
+		engine.usages++;
+		return engine;
+	}
+
+	/**
+	 * Takes an idle engine, or creates a new one if the maximum number of
+	 * engines isn't reached yet, otherwise waits for an engine to be released.
+	 */
+	private PooledEngine takeEngine() throws JannocessorException {
+		PooledEngine engine = idleEngines.poll();
+		if (engine != null) {
+			return engine;
+		}
+
+		int engineGeneration;
+		int number = 0;
+		synchronized (this) {
+			engineGeneration = generation;
+			if (maxEngines <= 0 || enginesCount < maxEngines) {
+				number = ++enginesCount;
+			}
+		}
+
+		try {
+			if (number > 0) {
+				logger.debug("Creating Velocity engine #{}", number);
+				engine = createEngine(engineGeneration);
+				customize(engine, false);
+				return engine;
+			} else {
+				return idleEngines.take();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JannocessorException("Interrupted while waiting for a Velocity engine", e);
+		} catch (Exception e) {
+			synchronized (this) {
+				if (number > 0 && engineGeneration == generation) {
+					enginesCount--;
+				}
+			}
+			throw new JannocessorException("Couldn't create a Velocity engine", e);
+		}
+	}
+
+	private void releaseEngine(PooledEngine engine) {
+		if (--engine.usages == 0) {
+			threadEngine.remove();
+
+			synchronized (this) {
+				// the engines configured before the last configuration are discarded
+				if (engine.generation == generation) {
+					idleEngines.add(engine);
+				} else {
+					engine.discard();
+				}
+			}
+		}
+	}
+
+	private void customize(PooledEngine engine, boolean verbose) {
+		engine.customizationStamp = getTemplatesStamp();
+
+		if (engine.engine.getLoaderNameForResource(CUSTOM_TEMPLATE) != null) {
+			if (engine.engine.getTemplate(CUSTOM_TEMPLATE).process()) {
 				if (verbose) {
 					logger.info("Successfully processed: {}", CUSTOM_TEMPLATE);
 				}
@@ -162,31 +320,109 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 		}
 	}
 
+	/**
+	 * In debug mode, the customization is processed again if the templates
+	 * were modified, as the reloaded library macros replace the custom ones.
+	 */
+	private void refreshCustomization(PooledEngine engine) {
+		if (debugMode && getTemplatesStamp() != engine.customizationStamp) {
+			customize(engine, false);
+		}
+	}
+
+	private long getTemplatesStamp() {
+		long stamp = 0;
+
+		if (debugMode && templatesPath != null) {
+			for (String filename : VM_LIBRARY_FILES) {
+				stamp = Math.max(stamp, new File(templatesPath, filename).lastModified());
+			}
+			stamp = Math.max(stamp, new File(templatesPath, CUSTOM_TEMPLATE).lastModified());
+		}
+
+		return stamp;
+	}
+
+	/**
+	 * The templates that define macros aren't cached, as their parsing
+	 * (re)defines the macros.
+	 */
+	private boolean definesMacros(String template) {
+		return template.contains("#macro");
+	}
+
+	private Template parse(PooledEngine engine, String name, String template,
+			long lastModified) {
+		Template parsed = new Template();
+		parsed.setRuntimeServices(engine.engine);
+		parsed.setName(name);
+		parsed.setLastModified(lastModified);
+
+		try {
+			parsed.setData(engine.engine.parse(new StringReader(template), name));
+		} catch (ParseException e) {
+			throw new ParseErrorException(e, name);
+		}
+
+		parsed.initDocument();
+		return parsed;
+	}
+
+	private void merge(PooledEngine engine, Template template, boolean definesMacros,
+			VelocityContext context, Writer writer) {
+		template.merge(context, writer);
+
+		if (definesMacros) {
+			// the custom macros must override the (re)defined macros
+			customize(engine, false);
+		}
+	}
+
 	@Override
 	public String render(String template, Map<String, Object> attributes)
 			throws JannocessorException {
 		checkWasConfigured();
-		customize(false);
 
-		VelocityContext context = createContext(attributes);
+		PooledEngine engine = acquireEngine();
+		try {
+			refreshCustomization(engine);
 
-		TypeUtils typeUtils = createTypeUtils();
-		context.put("types", typeUtils);
+			VelocityContext context = createContext(attributes);
+
+			TypeUtils typeUtils = createTypeUtils();
+			context.put("types", typeUtils);
+
+			StringWriter output = new StringWriter();
+			SmartImportWriter writer = new SmartImportWriter(output);
 
-		Writer writer = new StringWriter();
-		engine.evaluate(context, writer, '"' + template + '"', template);
-		String renderedText = writer.toString();
+			Template parsed = engine.templates.get(template);
+			if (parsed != null) {
+				merge(engine, parsed, false, context, writer);
+			} else {
+				parsed = parse(engine, '"' + template + '"', template, 0);
+				boolean definesMacros = definesMacros(template);
+				if (!definesMacros) {
+					engine.templates.put(template, parsed);
+				}
+				merge(engine, parsed, definesMacros, context, writer);
+			}
+			finish(writer, typeUtils);
 
-		return postProcess(renderedText, typeUtils);
+			return output.toString();
+		} finally {
+			releaseEngine(engine);
+		}
 	}
 
 	@Override
 	public String renderFromFile(String templateFilename,
 			Map<String, Object> attributes) throws JannocessorException {
 		checkWasConfigured();
-		customize(false);
 
+		PooledEngine engine = acquireEngine();
 		try {
+			refreshCustomization(engine);
+
 			logger.info("Retrieving template: {}", templateFilename);
 
 			VelocityContext context = createContext(attributes);
@@ -194,43 +430,71 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 			TypeUtils typeUtils = createTypeUtils();
 			context.put("types", typeUtils);
 
-			Writer writer = new StringWriter();
+			StringWriter output = new StringWriter();
+			SmartImportWriter writer = new SmartImportWriter(output);
 
 			File file = new File(templateFilename);
 			if (file.exists()) {
-				Reader reader = new FileReader(file);
-				engine.evaluate(context, writer, templateFilename, reader);
+				String key = file.getAbsolutePath();
+				Template parsed = engine.templateFiles.get(key);
+
+				// the modified files are parsed again only in debug mode
+				if (parsed != null && (!debugMode || parsed.getLastModified() == file.lastModified())) {
+					merge(engine, parsed, false, context, writer);
+				} else {
+					String template = FileUtils.readFileToString(file);
+					parsed = parse(engine, templateFilename, template, file.lastModified());
+					boolean definesMacros = definesMacros(template);
+					if (!definesMacros) {
+						engine.templateFiles.put(key, parsed);
+					}
+					merge(engine, parsed, definesMacros, context, writer);
+				}
 			} else {
-				Template t = engine.getTemplate(templateFilename);
+				Template t = engine.engine.getTemplate(templateFilename);
 				t.merge(context, writer);
 			}
-			String renderedText = writer.toString();
+			finish(writer, typeUtils);
 
-			return postProcess(renderedText, typeUtils);
+			return output.toString();
 		} catch (Exception e) {
 			String report = String.format("Rendering of template '%s' failed",
 					templateFilename);
 			throw new JannocessorException(report, e);
+		} finally {
+			releaseEngine(engine);
 		}
 	}
 
 	@Override
 	public String renderMacro(String macro, Map<String, Object> attributes,
 			String[] params) throws JannocessorException {
+		StringWriter writer = new StringWriter();
+		renderMacro(macro, attributes, params, writer);
+		return writer.toString();
+	}
+
+	@Override
+	public void renderMacro(String macro, Map<String, Object> attributes,
+			String[] params, Writer output) throws JannocessorException {
 		checkWasConfigured();
-		customize(false);
 
-		VelocityContext context = createContext(attributes);
+		PooledEngine engine = acquireEngine();
+		try {
+			refreshCustomization(engine);
 
-		TypeUtils typeUtils = createTypeUtils();
-		context.put("types", typeUtils);
+			VelocityContext context = createContext(attributes);
 
-		Writer writer = new StringWriter();
-		String logTag = "\"#" + macro + '"';
-		engine.invokeVelocimacro(macro, logTag, params, context, writer);
-		String renderedText = writer.toString();
+			TypeUtils typeUtils = createTypeUtils();
+			context.put("types", typeUtils);
 
-		return postProcess(renderedText, typeUtils);
+			SmartImportWriter writer = new SmartImportWriter(output);
+			String logTag = "\"#" + macro + '"';
+			engine.engine.invokeVelocimacro(macro, logTag, params, context, writer);
+			finish(writer, typeUtils);
+		} finally {
+			releaseEngine(engine);
+		}
 	}
 
 	private void checkWasConfigured() {
@@ -244,13 +508,20 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 		return new TypeUtils(new ImportOrganizerImpl());
 	}
 
-	private VelocityContext createContext(Map<String, Object> attributes) {
+	private VelocityContext createSharedContext() {
 		VelocityContext context = new VelocityContext();
 
 		addModifiersToContext(context);
 
 		context.put("logger", logger);
 		context.put("representer", representer);
+
+		return context;
+	}
+
+	private VelocityContext createContext(Map<String, Object> attributes) {
+		VelocityContext context = new VelocityContext(sharedContext);
+
 		context.put("helper", new TemplateHelper(context));
 
 		for (Entry<String, Object> entry : attributes.entrySet()) {
@@ -292,34 +563,26 @@ public class VelocityTemplateRenderer implements TemplateRenderer, Settings,
 			}
 		}
 
-		return map;
+		return Collections.unmodifiableMap(map);
 	}
 
-	private String replacePlaceholder(String text, String placeholder,
-			String replacement) {
-		String pattern = Pattern.quote("(!PLACEHOLDER:" + placeholder + "!)");
-		return text.replaceAll(pattern, replacement);
-	}
-
-	private String postProcess(String renderedText, TypeUtils typeUtils) {
-		String text = postProcessImports(renderedText,
-				typeUtils.getTypeImports());
-
-		return text;
+	private void finish(SmartImportWriter writer, TypeUtils typeUtils)
+			throws JannocessorException {
+		try {
+			writer.finish(getImports(typeUtils.getTypeImports()));
+		} catch (IOException e) {
+			throw new JannocessorException("Couldn't write the rendered text", e);
+		}
 	}
 
-	private String postProcessImports(String renderedText, List<String> imports) {
+	private String getImports(List<String> imports) {
 		StringBuilder sb = new StringBuilder();
 		for (String typeImport : imports) {
 			sb.append("import ");
 			sb.append(typeImport);
 			sb.append(";\n");
 		}
-		String replacement = sb.toString();
-
-		String text = replacePlaceholder(renderedText, "SMART_IMPORT",
-				replacement);
-		return text;
+		return sb.toString();
 	}
 
 	@Override
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.jannocessor.service.render;
+
+import java.io.StringWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SmartImportWriterTest {
+
+	private static final String PLACEHOLDER = "(!PLACEHOLDER:SMART_IMPORT!)";
+
+	private String process(String imports, String... chunks) throws Exception {
+		StringWriter output = new StringWriter();
+		SmartImportWriter writer = new SmartImportWriter(output);
+
+		for (String chunk : chunks) {
+			writer.write(chunk);
+		}
+		writer.finish(imports);
+
+		return output.toString();
+	}
+
+	@Test
+	public void shouldPassTextWithoutPlaceholders() throws Exception {
+		Assert.assertEquals("a (b) (!PLACE", process("x", "a (b) ", "(!PLACE"));
+		Assert.assertEquals("((!PLACEHOLDER:X!)", process("x", "((!PLACEHOLDER:X!)"));
+	}
+
+	@Test
+	public void shouldReplaceAllPlaceholders() throws Exception {
+		String text = "package a;\n" + PLACEHOLDER + "\nclass A {}\n" + PLACEHOLDER;
+		Assert.assertEquals("package a;\nimport b.$C;\n\nclass A {}\nimport b.$C;\n",
+				process("import b.$C;\n", text));
+	}
+
+	@Test
+	public void shouldReplacePlaceholdersSplitAcrossWrites() throws Exception {
+		String text = "((" + PLACEHOLDER + ")(" + PLACEHOLDER + PLACEHOLDER + "!";
+		String expected = "((X)(XX!";
+
+		for (int size = 1; size <= text.length(); size++) {
+			StringWriter output = new StringWriter();
+			SmartImportWriter writer = new SmartImportWriter(output);
+
+			for (int i = 0; i < text.length(); i += size) {
+				writer.write(text, i, Math.min(size, text.length() - i));
+			}
+			writer.finish("X");
+
+			Assert.assertEquals(expected, output.toString());
+		}
+	}
+
+	@Test
+	public void shouldWriteTextBeforePlaceholderImmediately() throws Exception {
+		StringWriter output = new StringWriter();
+		SmartImportWriter writer = new SmartImportWriter(output);
+
+		writer.write("package a;\n" + PLACEHOLDER + "class A {}");
+		Assert.assertEquals("package a;\n", output.toString());
+
+		writer.finish("import b.C;\n");
+		Assert.assertEquals("package a;\nimport b.C;\nclass A {}", output.toString());
+	}
+
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jannocessor.service.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.apache.velocity.Template;
+import org.junit.Test;
+
+public class TemplateCacheTest {
+
+	@Test
+	public void testBoundedSize() {
+		TemplateCache cache = new TemplateCache(2);
+
+		Template a = new Template();
+		cache.put("a", a);
+		cache.put("b", new Template());
+		cache.get("a");
+		cache.put("c", new Template());
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+
+		// the least recently used entry was evicted
+		assertSame(a, cache.get("a"));
+		assertNull(cache.get("b"));
+	}
+
+	@Test
+	public void testClear() {
+		TemplateCache cache = new TemplateCache(1);
+		cache.put("a", new Template());
+		cache.put("b", new Template());
+
+		cache.clear();
+
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getEvictions());
+		assertNull(cache.get("b"));
+	}
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2011 Nikolche Mihajlovski
+ *
+ * This file is part of JAnnocessor.
+ *
+ * JAnnocessor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JAnnocessor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JAnnocessor.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.jannocessor.service.render;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.jannocessor.JannocessorException;
+import org.jannocessor.service.api.Configurator;
+import org.jannocessor.service.api.JavaRepresenter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class VelocityTemplateRendererConcurrencyTest {
+
+	private static final int THREADS = 8;
+
+	private static final int RENDERINGS = 200;
+
+	private static final String MACRO = "#macro(main)package test;\n(!PLACEHOLDER:SMART_IMPORT!)\n"
+			+ "public class ${name} {\n#foreach($i in [1..$count])"
+			+ "\tprivate $types.useType(\"java.util.List\") field${i};\n#end"
+			+ "\tprivate $types.useType(\"java.util.Map\") map;\n}\n#end";
+
+	private File templatesDir;
+
+	private VelocityTemplateRenderer renderer;
+
+	@Before
+	public void init() throws Exception {
+		templatesDir = File.createTempFile("templates", "");
+		templatesDir.delete();
+		templatesDir.mkdir();
+		FileUtils.writeStringToFile(new File(templatesDir, "customize.vm"), MACRO);
+
+		renderer = new VelocityTemplateRenderer(Mockito.mock(Configurator.class),
+				Mockito.mock(JavaRepresenter.class));
+	}
+
+	@After
+	public void cleanup() throws Exception {
+		VelocityTemplateRenderer.setMaxEngines(0);
+		FileUtils.deleteDirectory(templatesDir);
+	}
+
+	private Map<String, Object> attributes(int index) {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+		attributes.put("name", "Class" + index);
+		attributes.put("count", index % 7 + 1);
+		return attributes;
+	}
+
+	private void checkParallelRenderings() throws Exception {
+		renderer.configure(templatesDir.getPath(), false);
+
+		List<String> expected = new ArrayList<String>();
+		for (int i = 0; i < RENDERINGS; i++) {
+			expected.add(renderer.renderMacro("main", attributes(i), new String[] {}));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int i = 0; i < RENDERINGS; i++) {
+				final int index = i;
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						return renderer.renderMacro("main", attributes(index), new String[] {});
+					}
+				}));
+			}
+
+			for (int i = 0; i < RENDERINGS; i++) {
+				Assert.assertEquals(expected.get(i), results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldRenderMacroOnOwnEngine() throws Exception {
+		renderer.configure(templatesDir.getPath(), false);
+
+		String text = renderer.renderMacro("main", attributes(1), new String[] {});
+		Assert.assertEquals("package test;\nimport java.util.List;\nimport java.util.Map;\n\n"
+				+ "public class Class1 {\n\tprivate List field1;\n\tprivate List field2;\n"
+				+ "\tprivate Map map;\n}\n", text);
+	}
+
+	@Test
+	public void shouldRenderNestedTemplateOnSingleEngine() throws Exception {
+		VelocityTemplateRenderer.setMaxEngines(1);
+		renderer.configure(templatesDir.getPath(), false);
+
+		final Map<String, Object> attributes = attributes(1);
+		attributes.put("nested", new Object() {
+			@Override
+			public String toString() {
+				try {
+					return renderer.render("[${name}]", attributes);
+				} catch (JannocessorException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+
+		Assert.assertEquals("Class1 [Class1]", renderer.render("${name} $nested", attributes));
+	}
+
+	@Test
+	public void shouldRenderIdenticallyInParallel() throws Exception {
+		checkParallelRenderings();
+	}
+
+	@Test
+	public void shouldRenderIdenticallyInParallelOnLimitedEngines() throws Exception {
+		VelocityTemplateRenderer.setMaxEngines(2);
+		checkParallelRenderings();
+	}
+
+	@Test
+	public void shouldRenderIdenticallyInParallelOnSingleEngine() throws Exception {
+		VelocityTemplateRenderer.setMaxEngines(1);
+		checkParallelRenderings();
+	}
+
+}
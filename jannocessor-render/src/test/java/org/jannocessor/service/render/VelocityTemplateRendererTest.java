@@ -21,32 +21,39 @@ package org.jannocessor.service.render;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.File;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
 import org.jannocessor.JannocessorException;
 import org.jannocessor.service.api.Configurator;
 import org.jannocessor.service.api.JavaRepresenter;
-import org.jannocessor.service.api.TemplateRenderer;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 public class VelocityTemplateRendererTest {
 
-	private TemplateRenderer renderer;
+	private VelocityTemplateRenderer renderer;
 
 	@Before
-	public void initialize() throws JannocessorException {
+	public void init() throws Exception {
 		Configurator configurator = Mockito.mock(Configurator.class);
 		Mockito.when(configurator.getTemplatesPath()).thenReturn("templates");
 
-		JavaRepresenter representer = Mockito.mock(JavaRepresenter.class);
-
-		renderer = new VelocityTemplateRenderer(configurator, representer);
+		renderer = new VelocityTemplateRenderer(configurator, Mockito.mock(JavaRepresenter.class));
 		renderer.configure(null, false);
 	}
 
+	private Map<String, Object> attributes(String name) {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+		attributes.put("name", name);
+		return attributes;
+	}
+
 	@Test
 	public void testRender() throws JannocessorException {
 		String template = "x=$x, foo=$foo, $other";
@@ -115,4 +122,60 @@ public class VelocityTemplateRendererTest {
 		assertEquals("1-1-2", text2);
 	}
 
+	@Test
+	public void shouldRenderCachedTemplateWithNewAttributes() throws Exception {
+		String template = "Hello, ${name}!";
+
+		Assert.assertEquals("Hello, foo!", renderer.render(template, attributes("foo")));
+		Assert.assertEquals("Hello, bar!", renderer.render(template, attributes("bar")));
+	}
+
+	@Test
+	public void shouldRenderTemplatesDefiningMacros() throws Exception {
+		String template = "#macro(greet $x)Hi, ${x}!#end#greet($name)";
+
+		Assert.assertEquals("Hi, foo!", renderer.render(template, attributes("foo")));
+		Assert.assertEquals("Hi, bar!", renderer.render(template, attributes("bar")));
+	}
+
+	@Test
+	public void shouldShareModifierConstantsWithAllRenderings() throws Exception {
+		String template = "#set($Classes = 'hidden')$Classes $Methods.containsKey('PUBLIC')";
+		Assert.assertEquals("hidden true", renderer.render(template, attributes("foo")));
+
+		template = "$Classes.containsKey('PUBLIC')";
+		Assert.assertEquals("true", renderer.render(template, attributes("foo")));
+	}
+
+	@Test
+	public void shouldRenderMacroIntoWriter() throws Exception {
+		renderer.render("#macro(main)(!PLACEHOLDER:SMART_IMPORT!)$types.useType('java.util.List') ${name}#end", attributes("foo"));
+
+		StringWriter writer = new StringWriter();
+		renderer.renderMacro("main", attributes("foo"), new String[] {}, writer);
+
+		Assert.assertEquals("import java.util.List;\nList foo", writer.toString());
+		Assert.assertEquals(writer.toString(),
+				renderer.renderMacro("main", attributes("foo"), new String[] {}));
+	}
+
+	@Test
+	public void shouldRenderModifiedFileInDebugMode() throws Exception {
+		renderer.configure(null, true);
+
+		File file = File.createTempFile("template", ".vm");
+		try {
+			FileUtils.writeStringToFile(file, "first ${name}");
+			Assert.assertEquals("first foo",
+					renderer.renderFromFile(file.getPath(), attributes("foo")));
+
+			FileUtils.writeStringToFile(file, "second ${name}");
+			file.setLastModified(file.lastModified() + 2000);
+			Assert.assertEquals("second bar",
+					renderer.renderFromFile(file.getPath(), attributes("bar")));
+		} finally {
+			file.delete();
+		}
+	}
+
 }
@@ -28,4 +28,16 @@ public interface MultiContentSplitter {
 
 	public Map<String, String> split(String contents);
 
+	/**
+	 * Splits the contents, passing each part to the handler as soon as its
+	 * end is found. The parts are views of the contents, rather than copies.
+	 */
+	public void split(CharSequence contents, PartHandler handler);
+
+	public interface PartHandler {
+
+		void part(String name, CharSequence content);
+
+	}
+
 }
@@ -19,6 +19,7 @@
 
 package org.jannocessor.service.api;
 
+import java.io.Writer;
 import java.util.Map;
 
 import org.jannocessor.JannocessorException;
@@ -31,6 +32,15 @@ public interface TemplateRenderer {
 	String renderMacro(String macro, Map<String, Object> attributes,
 			String[] params) throws JannocessorException;
 
+	/**
+	 * Renders the macro into the writer, without building the whole rendered
+	 * text as a string. The text up to the smart import placeholder is written
+	 * through, but everything after the placeholder is buffered until the
+	 * rendering ends, since the imports are known only then.
+	 */
+	void renderMacro(String macro, Map<String, Object> attributes,
+			String[] params, Writer writer) throws JannocessorException;
+
 	String render(String template, Map<String, Object> attributes)
 			throws JannocessorException;
 
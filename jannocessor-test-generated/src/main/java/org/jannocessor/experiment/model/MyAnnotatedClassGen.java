@@ -0,0 +1,23 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model;
+
+
+/**
+ * Generated by JAnnocessor
+ */
+public class MyAnnotatedClassGen {
+
+    private String field1;
+
+    private int field2;
+
+    public String getField1() {
+        return this.field1;
+    }
+
+    public int getField2() {
+        return this.field2;
+    }
+
+}
\ No newline at end of file
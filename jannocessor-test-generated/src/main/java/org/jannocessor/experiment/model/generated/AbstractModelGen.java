@@ -0,0 +1,68 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model.generated;
+
+import java.io.Serializable;
+import javax.annotation.Generated;
+import org.jannocessor.bootstrapped.annotation.BeanModel;
+
+/**
+ * Generated by JAnnocessor
+ */
+@SuppressWarnings("serial")
+@BeanModel
+@Generated("Jannocessor Test")
+public class AbstractModelGen implements Serializable {
+
+    @SuppressWarnings("unused")
+    private boolean x = true;
+
+    static {
+        // static init
+    }
+
+    {
+        // init
+    }
+
+    public AbstractModelGen() {
+
+    }
+
+    public AbstractModelGen(String param1) {
+
+    }
+
+    public static int rootMethod() {
+        return 0;
+    }
+
+    public void rootMethod2() {
+
+    }
+
+    public boolean[] rootMethod3() {
+        return null;
+    }
+
+    public String cool() {
+        return "COOL!";
+    }
+
+    public enum MyEnum {
+
+        A("foo", 11), B("bar", 13);
+
+        private MyEnum(String a, int b) {
+
+        }
+
+    }
+
+    // Custom hand-written code starts here
+
+    /***** You can insert your custom code here *****/
+
+    // Custom hand-written code ends here
+
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model.generated;
+
+import java.awt.List;
+import javax.annotation.Generated;
+import javax.lang.model.type.TypeKind;
+import org.jannocessor.bootstrapped.annotation.AnotherAnnotation;
+import org.jannocessor.bootstrapped.annotation.BeanModel;
+import org.jannocessor.experiment.model.PersonBeanModel;
+
+/**
+ * Generated by JAnnocessor
+ */
+@AnotherAnnotation(a = 105, b = "xx", cls = List.class, kind = TypeKind.DECLARED, ann = @Generated("gen"))
+@BeanModel
+@SuppressWarnings("unused")
+@Generated("Jannocessor Test")
+public class BookBeanModelGen {
+
+    @AnotherAnnotation
+    private transient String title;
+
+    @AnotherAnnotation(b = "field")
+    public static PersonBeanModel author;
+
+    @SuppressWarnings("unused")
+    private boolean x = true;
+
+    static {
+        // static init
+    }
+
+    {
+        // init
+    }
+
+    public BookBeanModelGen() {
+
+    }
+
+    public BookBeanModelGen(String param1) {
+
+    }
+
+    public String cool() {
+        return "COOL!";
+    }
+
+    public enum MyEnum {
+
+        A("foo", 11), B("bar", 13);
+
+        private MyEnum(String a, int b) {
+
+        }
+
+    }
+
+    // Custom hand-written code starts here
+
+    /***** You can insert your custom code here *****/
+
+    // Custom hand-written code ends here
+
+}
\ No newline at end of file
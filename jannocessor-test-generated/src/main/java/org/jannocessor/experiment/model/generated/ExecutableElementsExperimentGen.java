@@ -0,0 +1,76 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model.generated;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.util.List;
+import javax.annotation.Generated;
+import org.jannocessor.bootstrapped.annotation.AnotherAnnotation;
+import org.jannocessor.bootstrapped.annotation.BeanModel;
+
+/**
+ * Generated by JAnnocessor
+ */
+@AnotherAnnotation(a = 1, b = "x")
+@BeanModel
+@SuppressWarnings("unused")
+@Generated("Jannocessor Test")
+public class ExecutableElementsExperimentGen {
+
+    @SuppressWarnings("unused")
+    private boolean x = true;
+
+    static {
+        // static init
+    }
+
+    {
+        // init
+    }
+
+    public ExecutableElementsExperimentGen() {
+
+    }
+
+    public <T> ExecutableElementsExperimentGen(T foo) {
+
+    }
+
+    public ExecutableElementsExperimentGen(String param1) {
+
+    }
+
+    private <T> void doSomeStuff(String name, Date date, T type, List<T> list) throws IllegalAccessError {
+
+    }
+
+    public final String getSomething2() throws RuntimeException, IOException {
+        return null;
+    }
+
+    public static void main(String[] args) {
+
+    }
+
+    public String cool() {
+        return "COOL!";
+    }
+
+    public enum MyEnum {
+
+        A("foo", 11), B("bar", 13);
+
+        private MyEnum(String a, int b) {
+
+        }
+
+    }
+
+    // Custom hand-written code starts here
+
+    /***** You can insert your custom code here *****/
+
+    // Custom hand-written code ends here
+
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model.generated;
+
+import javax.annotation.Generated;
+import org.jannocessor.bootstrapped.annotation.BeanModel;
+
+/**
+ * Generated by JAnnocessor
+ */
+@BeanModel
+@Generated("Jannocessor Test")
+public class NestedMembersExperimentGen {
+
+    @SuppressWarnings("unused")
+    private boolean x = true;
+
+    static {
+        // static init
+    }
+
+    {
+        // init
+    }
+
+    public NestedMembersExperimentGen() {
+
+    }
+
+    public NestedMembersExperimentGen(String param1) {
+
+    }
+
+    public String cool() {
+        return "COOL!";
+    }
+
+    static class Nested1 {
+
+        int foo;
+
+        Nested1() {
+
+        }
+
+    }
+
+    class Nested2 {
+
+        String bar;
+
+        Nested2() {
+
+        }
+
+    }
+
+    public enum MyEnum {
+
+        A("foo", 11), B("bar", 13);
+
+        private MyEnum(String a, int b) {
+
+        }
+
+    }
+
+    // Custom hand-written code starts here
+
+    /***** You can insert your custom code here *****/
+
+    // Custom hand-written code ends here
+
+}
\ No newline at end of file
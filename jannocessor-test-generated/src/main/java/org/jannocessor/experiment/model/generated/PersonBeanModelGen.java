@@ -0,0 +1,84 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model.generated;
+
+import java.util.Date;
+import java.util.EventListener;
+import java.util.List;
+import javax.annotation.Generated;
+import org.jannocessor.bootstrapped.annotation.AnotherAnnotation;
+import org.jannocessor.bootstrapped.annotation.BeanModel;
+import org.jannocessor.experiment.model.generated.AbstractModelGen;
+
+/**
+ * Generated by JAnnocessor
+ */
+@AnotherAnnotation(a = 3, b = "2")
+@BeanModel
+@SuppressWarnings({"unused", "serial"})
+@Generated("Jannocessor Test")
+public class PersonBeanModelGen extends AbstractModelGen implements Runnable, EventListener {
+
+    String name;
+
+    private int age;
+
+    protected transient Date birthday;
+
+    java.sql.Date smartImportTestDate;
+
+    @SuppressWarnings("unused")
+    private boolean x = true;
+
+    static {
+        // static init
+    }
+
+    {
+        // init
+    }
+
+    @AnotherAnnotation(b = "constructor")
+    public PersonBeanModelGen() {
+
+    }
+
+    public PersonBeanModelGen(String param1) {
+
+    }
+
+    private <T> void doSomeStuff(String name, java.sql.Date date, T type, List<T> list) throws IllegalAccessError {
+
+    }
+
+    @Override
+    @AnotherAnnotation(b = "another annotation")
+    public void run() {
+
+    }
+
+    private String foo(@AnotherAnnotation @Deprecated int x, @AnotherAnnotation(a = 1, b = "param") boolean y) {
+        return null;
+    }
+
+    public String cool() {
+        return "COOL!";
+    }
+
+    public enum MyEnum {
+
+        A("foo", 11), B("bar", 13);
+
+        private MyEnum(String a, int b) {
+
+        }
+
+    }
+
+    // Custom hand-written code starts here
+
+    /***** You can insert your custom code here *****/
+
+    // Custom hand-written code ends here
+
+}
\ No newline at end of file
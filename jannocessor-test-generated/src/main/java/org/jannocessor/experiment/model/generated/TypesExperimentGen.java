@@ -0,0 +1,82 @@
+/* JAnnocessor Demo */
+
+package org.jannocessor.experiment.model.generated;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Generated;
+import org.jannocessor.bootstrapped.annotation.AnotherAnnotation;
+import org.jannocessor.bootstrapped.annotation.BeanModel;
+
+/**
+ * Generated by JAnnocessor
+ */
+@SuppressWarnings("serial")
+@AnotherAnnotation(a = 105, b = "xx")
+@BeanModel
+@Generated("Jannocessor Test")
+public class TypesExperimentGen<E, F> extends ArrayList<E> {
+
+    @SuppressWarnings("unused")
+    private boolean x = true;
+
+    static {
+        // static init
+    }
+
+    {
+        // init
+    }
+
+    public TypesExperimentGen() {
+
+    }
+
+    public TypesExperimentGen(String param1) {
+
+    }
+
+    public <T> void someMethod(Set<?> a, E b, Set<E> c, Map<List<? extends Object>, Set<? super List>> d) {
+
+    }
+
+    public <T extends Serializable & List<? super Serializable>> void someMethod(T x) {
+
+    }
+
+    public <T extends Runnable & List<? extends Serializable>> void someMethod() {
+
+    }
+
+    public void someMethod3(List<? extends Serializable> arg) {
+
+    }
+
+    public void someMethod4(List<? super Serializable> arg) {
+
+    }
+
+    public String cool() {
+        return "COOL!";
+    }
+
+    public enum MyEnum {
+
+        A("foo", 11), B("bar", 13);
+
+        private MyEnum(String a, int b) {
+
+        }
+
+    }
+
+    // Custom hand-written code starts here
+
+    /***** You can insert your custom code here *****/
+
+    // Custom hand-written code ends here
+
+}
\ No newline at end of file
@@ -19,6 +19,8 @@
 
 package org.jannocessor.ui;
 
+import java.awt.GraphicsEnvironment;
+
 import org.jannocessor.JannocessorException;
 import org.jannocessor.processor.api.RenderRegister;
 import org.jannocessor.service.api.Configurator;
@@ -34,6 +36,12 @@ public class RenderPreview {
 			RenderRegister renderRegister, Configurator configurator,
 			JavaRepresenter representer) throws JannocessorException {
 		if (!renderRegister.getRenderings().isEmpty()) {
+			if (GraphicsEnvironment.isHeadless()) {
+				// e.g. on a build server, the registered items are just rendered
+				logger.warn("Skipping the UI in headless mode");
+				return;
+			}
+
 			logger.info("Starting UI...");
 			RenderPreviewDialog dlg = new RenderPreviewDialog(projectPath,
 					renderRegister, configurator, representer);